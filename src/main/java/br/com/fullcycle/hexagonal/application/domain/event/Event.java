@@ -9,10 +9,10 @@ import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
-import java.util.Collections;
-import java.util.HashSet;
 import java.util.Objects;
 import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class Event {
 
@@ -23,7 +23,9 @@ public class Event {
     private LocalDate date;
     private int totalSpots;
     private PartnerId partnerId;
-    private Set<EventTicket> tickets;
+    private final EventTickets tickets;
+    private int soldCount;
+    private final long version;
 
     public Event(
             final EventId eventId,
@@ -33,20 +35,47 @@ public class Event {
             final PartnerId partnerId,
             final Set<EventTicket> tickets
     ) {
-        this(eventId, tickets);
+        this(eventId, name, date, totalSpots, partnerId, tickets, 0);
+    }
+
+    public Event(
+            final EventId eventId,
+            final String name,
+            final String date,
+            final Integer totalSpots,
+            final PartnerId partnerId,
+            final Set<EventTicket> tickets,
+            final long version
+    ) {
+        this(eventId, name, date, totalSpots, partnerId, tickets != null ? tickets.size() : 0, version, id -> EventTickets.of(id, tickets));
+    }
+
+    private Event(
+            final EventId eventId,
+            final String name,
+            final String date,
+            final Integer totalSpots,
+            final PartnerId partnerId,
+            final int soldCount,
+            final long version,
+            final Function<EventId, EventTickets> tickets
+    ) {
+        this(eventId, soldCount, version, tickets);
         this.setName(name);
         this.setDate(date);
         this.setTotalSpots(totalSpots);
         this.setPartnerId(partnerId);
     }
 
-    private Event(final EventId eventId, final Set<EventTicket> tickets) {
+    private Event(final EventId eventId, final int soldCount, final long version, final Function<EventId, EventTickets> tickets) {
         if (eventId == null) {
             throw new ValidationException("Invalid eventId for Event");
         }
 
         this.eventId = eventId;
-        this.tickets = tickets != null ? tickets : new HashSet<>(0);
+        this.tickets = tickets.apply(eventId);
+        this.soldCount = soldCount;
+        this.version = version;
     }
 
     public static Event newEvent(final String name, final String date, final Integer totalSpots, final Partner partner) {
@@ -61,25 +90,51 @@ public class Event {
             final String partnerId,
             final Set<EventTicket> tickets
     ) {
-        return new Event(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), tickets);
+        return restore(id, name, date, totalSpots, partnerId, tickets, 0);
+    }
+
+    public static Event restore(
+            final String id,
+            final String name,
+            final String date,
+            final int totalSpots,
+            final String partnerId,
+            final Set<EventTicket> tickets,
+            final long version
+    ) {
+        return new Event(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), tickets, version);
+    }
+
+    // Restaura o evento a partir dos dados resumidos; os tickets só são carregados quando forem acessados, e a carga
+    // escreve cada linha direto no EventTickets
+    public static Event restore(
+            final String id,
+            final String name,
+            final String date,
+            final int totalSpots,
+            final String partnerId,
+            final int soldCount,
+            final Consumer<EventTicketRows> tickets,
+            final long version
+    ) {
+        return new Event(EventId.with(id), name, date, totalSpots, PartnerId.with(partnerId), soldCount, version,
+                anId -> EventTickets.lazy(anId, soldCount, tickets));
     }
 
     public Ticket reserveTicket(final CustomerId aCustomerId) {
-        this.allTickets().stream()
-                .filter(it -> Objects.equals(it.customerId(), aCustomerId))
-                .findFirst()
-                .ifPresent(it -> {
-                    throw new ValidationException("Email already registered");
-                });
-
-        if (totalSpots() < allTickets().size() + ONE) {
+        if (this.tickets.hasCustomer(aCustomerId)) {
+            throw new ValidationException("Email already registered");
+        }
+
+        if (totalSpots() < this.soldCount + ONE) {
             throw new ValidationException("Event sold out");
         }
 
         final var newTicket =
                 Ticket.newTicket(aCustomerId, eventId());
 
-        this.tickets.add(new EventTicket(newTicket.ticketId(), eventId(), aCustomerId, allTickets().size() + 1));
+        this.tickets.append(newTicket.ticketId(), aCustomerId, this.tickets.nextOrdering());
+        this.soldCount++;
 
         return newTicket;
     }
@@ -105,7 +160,16 @@ public class Event {
     }
 
     public Set<EventTicket> allTickets() {
-        return Collections.unmodifiableSet(tickets);
+        return tickets;
+    }
+
+    public int soldCount() {
+        return soldCount;
+    }
+
+    // Versão lida do armazenamento; usada para detectar escritas concorrentes sobre o mesmo evento
+    public long version() {
+        return version;
     }
 
     @Override
@@ -0,0 +1,18 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Recebe os tickets de um evento restaurado linha a linha: os adapters leem o banco direto para o armazenamento
+// compacto do evento, sem montar um EventTicket nem um Set intermediário por ticket
+@FunctionalInterface
+public interface EventTicketRows {
+
+    void add(String ticketId, String customerId, int ordering);
+
+    // Carga a partir de tickets que já estão na memória, como os de um evento que acabou de ser gravado. O Set só é
+    // percorrido quando a carga roda.
+    static Consumer<EventTicketRows> of(final Set<EventTicket> tickets) {
+        return rows -> tickets.forEach(it -> rows.add(it.ticketId().value(), it.customerId().value(), it.ordering()));
+    }
+}
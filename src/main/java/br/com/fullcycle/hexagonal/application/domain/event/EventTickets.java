@@ -0,0 +1,222 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+// Armazena os tickets do evento em arrays paralelos de primitivos (UUID como par de longs) compartilhando o EventId.
+// Os EventTicket só são materializados quando a visão é iterada, e um conjunto restaurado de forma
+// preguiçosa só é carregado no primeiro acesso aos tickets.
+final class EventTickets extends AbstractSet<EventTicket> {
+
+    private static final int INITIAL_CAPACITY = 8;
+    private static final int EMPTY = 0;
+
+    private final EventId eventId;
+    private long[] ticketMostSigBits;
+    private long[] ticketLeastSigBits;
+    private long[] customerMostSigBits;
+    private long[] customerLeastSigBits;
+    private int[] orderings;
+    private int size;
+
+    // Maior ordering já atribuído: a sequência continua dele, mesmo que o conjunto restaurado tenha buracos
+    private int lastOrdering;
+
+    // Tabela de endereçamento aberto: posição do ticket + 1, indexada pelo hash do customerId
+    private int[] customerIndex;
+
+    private Consumer<EventTicketRows> loader;
+
+    private EventTickets(final EventId eventId, final int capacity) {
+        this.eventId = eventId;
+        this.ticketMostSigBits = new long[capacity];
+        this.ticketLeastSigBits = new long[capacity];
+        this.customerMostSigBits = new long[capacity];
+        this.customerLeastSigBits = new long[capacity];
+        this.orderings = new int[capacity];
+        this.customerIndex = new int[indexCapacityFor(capacity)];
+    }
+
+    static EventTickets of(final EventId eventId, final Set<EventTicket> tickets) {
+        if (tickets == null || tickets.isEmpty()) {
+            return new EventTickets(eventId, INITIAL_CAPACITY);
+        }
+
+        final var store = new EventTickets(eventId, Math.max(INITIAL_CAPACITY, tickets.size()));
+        tickets.forEach(it -> store.append(it.ticketId(), it.customerId(), it.ordering()));
+        return store;
+    }
+
+    // expectedSize (o sold_count do evento) só dimensiona os arrays, para a carga não precisar copiá-los ao crescer
+    static EventTickets lazy(final EventId eventId, final int expectedSize, final Consumer<EventTicketRows> loader) {
+        final var store = new EventTickets(eventId, Math.max(INITIAL_CAPACITY, expectedSize));
+        store.loader = loader;
+        return store;
+    }
+
+    boolean hasCustomer(final CustomerId aCustomerId) {
+        load();
+
+        if (aCustomerId == null) {
+            return false;
+        }
+
+        final var customerId = toUUID(aCustomerId.value(), "Invalid customerId for EventTicket");
+        return positionOf(customerId.getMostSignificantBits(), customerId.getLeastSignificantBits()) >= 0;
+    }
+
+    void append(final TicketId aTicketId, final CustomerId aCustomerId, final int ordering) {
+        if (aTicketId == null) {
+            throw new ValidationException("Invalid ticketId for EventTicket");
+        }
+
+        if (aCustomerId == null) {
+            throw new ValidationException("Invalid customerId for EventTicket");
+        }
+
+        load();
+        appendRow(aTicketId.value(), aCustomerId.value(), ordering);
+    }
+
+    private void appendRow(final String aTicketId, final String aCustomerId, final int ordering) {
+        final var ticketId = toUUID(aTicketId, "Invalid ticketId for EventTicket");
+        final var customerId = toUUID(aCustomerId, "Invalid customerId for EventTicket");
+
+        ensureCapacity(this.size + 1);
+
+        final var position = this.size++;
+        this.ticketMostSigBits[position] = ticketId.getMostSignificantBits();
+        this.ticketLeastSigBits[position] = ticketId.getLeastSignificantBits();
+        this.customerMostSigBits[position] = customerId.getMostSignificantBits();
+        this.customerLeastSigBits[position] = customerId.getLeastSignificantBits();
+        this.orderings[position] = ordering;
+        this.lastOrdering = Math.max(this.lastOrdering, ordering);
+        index(position);
+    }
+
+    int nextOrdering() {
+        load();
+        return this.lastOrdering + 1;
+    }
+
+    @Override
+    public int size() {
+        load();
+        return this.size;
+    }
+
+    @Override
+    public Iterator<EventTicket> iterator() {
+        load();
+        return new Iterator<>() {
+            private int position = 0;
+
+            @Override
+            public boolean hasNext() {
+                return position < size;
+            }
+
+            @Override
+            public EventTicket next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return ticketAt(position++);
+            }
+        };
+    }
+
+    private void load() {
+        if (this.loader == null) {
+            return;
+        }
+
+        final var loader = this.loader;
+        this.loader = null;
+        loader.accept(this::appendRow);
+    }
+
+    private EventTicket ticketAt(final int position) {
+        return new EventTicket(
+                new TicketId(new UUID(this.ticketMostSigBits[position], this.ticketLeastSigBits[position]).toString()),
+                this.eventId,
+                new CustomerId(new UUID(this.customerMostSigBits[position], this.customerLeastSigBits[position]).toString()),
+                this.orderings[position]
+        );
+    }
+
+    private int positionOf(final long mostSigBits, final long leastSigBits) {
+        final var mask = this.customerIndex.length - 1;
+        var slot = hash(mostSigBits, leastSigBits) & mask;
+
+        while (this.customerIndex[slot] != EMPTY) {
+            final var position = this.customerIndex[slot] - 1;
+            if (this.customerMostSigBits[position] == mostSigBits && this.customerLeastSigBits[position] == leastSigBits) {
+                return position;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        return -1;
+    }
+
+    private void index(final int position) {
+        final var mask = this.customerIndex.length - 1;
+        var slot = hash(this.customerMostSigBits[position], this.customerLeastSigBits[position]) & mask;
+
+        while (this.customerIndex[slot] != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+
+        this.customerIndex[slot] = position + 1;
+    }
+
+    private void ensureCapacity(final int minCapacity) {
+        if (minCapacity > this.orderings.length) {
+            final var newCapacity = Math.max(minCapacity, this.orderings.length << 1);
+            this.ticketMostSigBits = Arrays.copyOf(this.ticketMostSigBits, newCapacity);
+            this.ticketLeastSigBits = Arrays.copyOf(this.ticketLeastSigBits, newCapacity);
+            this.customerMostSigBits = Arrays.copyOf(this.customerMostSigBits, newCapacity);
+            this.customerLeastSigBits = Arrays.copyOf(this.customerLeastSigBits, newCapacity);
+            this.orderings = Arrays.copyOf(this.orderings, newCapacity);
+        }
+
+        if (indexCapacityFor(minCapacity) > this.customerIndex.length) {
+            this.customerIndex = new int[indexCapacityFor(minCapacity)];
+            for (int position = 0; position < this.size; position++) {
+                index(position);
+            }
+        }
+    }
+
+    private static int indexCapacityFor(final int capacity) {
+        return Integer.highestOneBit(Math.max(INITIAL_CAPACITY, capacity) - 1) << 2;
+    }
+
+    private static int hash(final long mostSigBits, final long leastSigBits) {
+        final var hilo = mostSigBits ^ leastSigBits;
+        final var hash = (int) (hilo >> 32) ^ (int) hilo;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static UUID toUUID(final String value, final String error) {
+        if (value == null) {
+            throw new ValidationException(error);
+        }
+
+        try {
+            return UUID.fromString(value);
+        } catch (IllegalArgumentException ex) {
+            throw new ValidationException(error, ex);
+        }
+    }
+}
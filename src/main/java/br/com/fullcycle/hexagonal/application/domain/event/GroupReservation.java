@@ -0,0 +1,95 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// Reserva de um grupo de clientes em um evento: decide, na ordem do pedido, quem fica com as vagas livres.
+// No modo allOrNothing qualquer recusa cancela o grupo inteiro e nenhum ticket é criado.
+public class GroupReservation {
+
+    public static final String CANCELLED = "Reservation cancelled";
+
+    private final List<CustomerId> customerIds;
+    private final String[] errors;
+    private final Ticket[] tickets;
+
+    private GroupReservation(final List<CustomerId> customerIds, final String[] errors, final Ticket[] tickets) {
+        this.customerIds = customerIds;
+        this.errors = errors;
+        this.tickets = tickets;
+    }
+
+    public static GroupReservation plan(
+            final EventId anEventId,
+            final List<CustomerId> customerIds,
+            final Set<CustomerId> registered,
+            final int availableSpots,
+            final boolean allOrNothing
+    ) {
+        Objects.requireNonNull(anEventId);
+        final var requested = List.copyOf(customerIds);
+        final var errors = new String[requested.size()];
+        final var tickets = new Ticket[requested.size()];
+        final var seen = new HashSet<CustomerId>();
+
+        var accepted = 0;
+        var rejected = false;
+        for (int i = 0; i < requested.size(); i++) {
+            final var customerId = requested.get(i);
+            if (registered.contains(customerId) || !seen.add(customerId)) {
+                errors[i] = "Email already registered";
+                rejected = true;
+            } else if (accepted >= availableSpots) {
+                errors[i] = "Event sold out";
+                rejected = true;
+            } else {
+                tickets[i] = Ticket.newTicket(customerId, anEventId);
+                accepted++;
+            }
+        }
+
+        if (allOrNothing && rejected) {
+            for (int i = 0; i < tickets.length; i++) {
+                if (tickets[i] != null) {
+                    tickets[i] = null;
+                    errors[i] = CANCELLED;
+                }
+            }
+        }
+
+        return new GroupReservation(requested, errors, tickets);
+    }
+
+    // Tickets a gravar, na ordem do pedido; quem grava atribui a posição de cada um no evento
+    public List<Ticket> newTickets() {
+        final var newTickets = new ArrayList<Ticket>();
+        for (final var ticket : this.tickets) {
+            if (ticket != null) {
+                newTickets.add(ticket);
+            }
+        }
+        return Collections.unmodifiableList(newTickets);
+    }
+
+    public List<Result> results() {
+        final var results = new ArrayList<Result>(this.customerIds.size());
+        for (int i = 0; i < this.customerIds.size(); i++) {
+            results.add(new Result(this.customerIds.get(i), this.tickets[i], this.errors[i]));
+        }
+        return Collections.unmodifiableList(results);
+    }
+
+    public record Result(CustomerId customerId, Ticket ticket, String error) {
+
+        public boolean reserved() {
+            return ticket != null;
+        }
+    }
+}
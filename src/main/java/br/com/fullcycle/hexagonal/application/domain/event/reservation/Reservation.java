@@ -0,0 +1,153 @@
+package br.com.fullcycle.hexagonal.application.domain.event.reservation;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+
+import java.time.Instant;
+import java.util.Objects;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.CONFIRMED;
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.FAILED;
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.PENDING;
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.REJECTED;
+
+// Pedido de inscrição aceito antes da reserva do ticket: nasce PENDING e termina CONFIRMED (com o ticket), REJECTED
+// (a reserva foi recusada) ou FAILED (a reserva não conseguiu ser processada depois de várias entregas)
+public class Reservation {
+
+    private final ReservationId reservationId;
+    private final CustomerId customerId;
+    private final EventId eventId;
+    private final Instant requestedAt;
+    private final int attempts;
+    private ReservationStatus status;
+    private TicketId ticketId;
+    private String error;
+    private Instant completedAt;
+
+    public Reservation(
+            final ReservationId reservationId,
+            final CustomerId customerId,
+            final EventId eventId,
+            final ReservationStatus status,
+            final TicketId ticketId,
+            final String error,
+            final Instant requestedAt,
+            final Instant completedAt,
+            final int attempts
+    ) {
+        if (reservationId == null) {
+            throw new ValidationException("Invalid reservationId for Reservation");
+        }
+
+        if (customerId == null) {
+            throw new ValidationException("Invalid customerId for Reservation");
+        }
+
+        if (eventId == null) {
+            throw new ValidationException("Invalid eventId for Reservation");
+        }
+
+        if (status == null) {
+            throw new ValidationException("Invalid status for Reservation");
+        }
+
+        this.reservationId = reservationId;
+        this.customerId = customerId;
+        this.eventId = eventId;
+        this.status = status;
+        this.ticketId = ticketId;
+        this.error = error;
+        this.requestedAt = requestedAt;
+        this.completedAt = completedAt;
+        this.attempts = attempts;
+    }
+
+    public static Reservation newReservation(final CustomerId customerId, final EventId eventId) {
+        return new Reservation(ReservationId.unique(), customerId, eventId, PENDING, null, null, Instant.now(), null, 0);
+    }
+
+    public void confirm(final TicketId aTicketId) {
+        if (aTicketId == null) {
+            throw new ValidationException("Invalid ticketId for Reservation");
+        }
+
+        complete(CONFIRMED);
+        this.ticketId = aTicketId;
+    }
+
+    public void reject(final String error) {
+        complete(REJECTED);
+        this.error = error;
+    }
+
+    public void fail(final String error) {
+        complete(FAILED);
+        this.error = error;
+    }
+
+    public boolean isPending() {
+        return this.status == PENDING;
+    }
+
+    public ReservationId reservationId() {
+        return reservationId;
+    }
+
+    public CustomerId customerId() {
+        return customerId;
+    }
+
+    public EventId eventId() {
+        return eventId;
+    }
+
+    public ReservationStatus status() {
+        return status;
+    }
+
+    public TicketId ticketId() {
+        return ticketId;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    public Instant requestedAt() {
+        return requestedAt;
+    }
+
+    public Instant completedAt() {
+        return completedAt;
+    }
+
+    // Quantas vezes o pedido já foi entregue a um consumidor da fila
+    public int attempts() {
+        return attempts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        Reservation that = (Reservation) o;
+        return Objects.equals(reservationId, that.reservationId);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(reservationId);
+    }
+
+    private void complete(final ReservationStatus status) {
+        if (!isPending()) {
+            throw new ValidationException("Reservation already completed");
+        }
+
+        this.status = status;
+        this.completedAt = Instant.now();
+    }
+}
@@ -0,0 +1,27 @@
+package br.com.fullcycle.hexagonal.application.domain.event.reservation;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+
+import java.util.UUID;
+
+public record ReservationId(String value) {
+
+    public ReservationId {
+        if (value == null) {
+            throw new ValidationException("Invalid value for ReservationId");
+        }
+    }
+
+    public static ReservationId unique() {
+        return new ReservationId(UUID.randomUUID().toString());
+    }
+
+    public static ReservationId with(String value) {
+        try {
+            return new ReservationId(UUID.fromString(value).toString());
+        } catch (IllegalArgumentException e) {
+            throw new ValidationException("Invalid value for ReservationId");
+        }
+    }
+
+}
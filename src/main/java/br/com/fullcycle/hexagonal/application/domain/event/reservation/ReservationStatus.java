@@ -0,0 +1,5 @@
+package br.com.fullcycle.hexagonal.application.domain.event.reservation;
+
+public enum ReservationStatus {
+    PENDING, CONFIRMED, REJECTED, FAILED;
+}
@@ -0,0 +1,16 @@
+package br.com.fullcycle.hexagonal.application.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Porta dos casos de uso assíncronos: o futuro completa quando o banco responde, sem prender a thread de quem chamou
+public interface CustomerAsyncRepository {
+
+    CompletableFuture<Optional<Customer>> customerOfId(CustomerId anId);
+
+    // Completa com ValidationException("Customer already exists") se o cpf ou o email já estiverem cadastrados
+    CompletableFuture<Customer> create(Customer customer);
+}
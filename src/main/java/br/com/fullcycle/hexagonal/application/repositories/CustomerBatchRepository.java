@@ -0,0 +1,13 @@
+package br.com.fullcycle.hexagonal.application.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+
+import java.util.List;
+import java.util.Set;
+
+public interface CustomerBatchRepository {
+
+    // Grava os clientes em lote e devolve os ids dos que foram inseridos; os demais já tinham cpf ou email cadastrado
+    Set<CustomerId> createAll(List<Customer> customers);
+}
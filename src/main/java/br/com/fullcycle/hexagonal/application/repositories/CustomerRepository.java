@@ -15,6 +15,7 @@ public interface CustomerRepository {
 
     Optional<Customer> customerOfEmail(Email email);
 
+    // Falha com ValidationException("Customer already exists") se o cpf ou o email já estiverem cadastrados
     Customer create(Customer customer);
 
     Customer update(Customer customer);
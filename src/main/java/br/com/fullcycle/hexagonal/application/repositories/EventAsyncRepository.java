@@ -0,0 +1,23 @@
+package br.com.fullcycle.hexagonal.application.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+// Mesmas operações do EventRepository usadas pelos casos de uso assíncronos
+public interface EventAsyncRepository {
+
+    CompletableFuture<Optional<Event>> eventOfId(EventId anId);
+
+    CompletableFuture<Event> create(Event event);
+
+    CompletableFuture<Ticket> reserveTicket(EventId anId, CustomerId aCustomerId);
+
+    CompletableFuture<List<GroupReservation.Result>> reserveTickets(EventId anId, List<CustomerId> customerIds, boolean allOrNothing);
+}
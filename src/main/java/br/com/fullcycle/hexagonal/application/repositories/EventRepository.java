@@ -1,8 +1,12 @@
 package br.com.fullcycle.hexagonal.application.repositories;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository {
@@ -13,6 +17,13 @@ public interface EventRepository {
 
     Event update(Event event);
 
+    // Reserva uma vaga do evento para o cliente e grava o ticket, sem carregar nem regravar os tickets já vendidos
+    Ticket reserveTicket(EventId anId, CustomerId aCustomerId);
+
+    // Reserva vagas para um grupo de clientes travando o evento uma única vez e gravando os tickets em lote.
+    // Devolve um resultado por cliente, na ordem recebida; falha com ValidationException se o evento não existir.
+    List<GroupReservation.Result> reserveTickets(EventId anId, List<CustomerId> customerIds, boolean allOrNothing);
+
     void deleteAll();
 
 }
@@ -0,0 +1,15 @@
+package br.com.fullcycle.hexagonal.application.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public interface PartnerAsyncRepository {
+
+    CompletableFuture<Optional<Partner>> partnerOfId(PartnerId anId);
+
+    // Completa com ValidationException("Partner already exists") se o cnpj ou o email já estiverem cadastrados
+    CompletableFuture<Partner> create(Partner partner);
+}
@@ -15,6 +15,7 @@ public interface PartnerRepository {
 
     Optional<Partner> partnerOfEmail(Email email);
 
+    // Falha com ValidationException("Partner already exists") se o cnpj ou o email já estiverem cadastrados
     Partner create(Partner partner);
 
     Partner update(Partner partner);
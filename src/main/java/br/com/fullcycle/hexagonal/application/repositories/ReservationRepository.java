@@ -0,0 +1,26 @@
+package br.com.fullcycle.hexagonal.application.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.Reservation;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationId;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+// Fila durável dos pedidos de inscrição assíncronos
+public interface ReservationRepository {
+
+    Optional<Reservation> reservationOfId(ReservationId anId);
+
+    Reservation create(Reservation reservation);
+
+    // Grava a conclusão de um pedido pendente; falha se outro consumidor já o tiver concluído
+    Reservation update(Reservation reservation);
+
+    // Entrega até limit pedidos pendentes, os mais antigos primeiro, cada um a um único consumidor por vez.
+    // Um pedido entregue e não concluído em timeout volta para a fila. Cada entrega incrementa attempts do pedido.
+    List<Reservation> claimPending(int limit, Duration timeout);
+
+    void deleteAll();
+
+}
@@ -0,0 +1,13 @@
+package br.com.fullcycle.hexagonal.application.usecases;
+
+import java.util.concurrent.CompletableFuture;
+
+public abstract class AsyncUseCase<INPUT, OUTPUT> {
+
+    // 1. Cada caso de uso tem um Input e um Output próprio. Não retorna a entidade, o agregado, ou objeto de valor.
+    // 2. O caso de uso implementa o padrão Command
+    // 3. Consultas independentes ao repositório rodam em paralelo; erros de validação completam o futuro com ValidationException
+
+    public abstract CompletableFuture<OUTPUT> execute(INPUT input);
+
+}
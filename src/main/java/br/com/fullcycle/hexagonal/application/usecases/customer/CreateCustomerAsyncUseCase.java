@@ -0,0 +1,27 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.AsyncUseCase;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class CreateCustomerAsyncUseCase
+        extends AsyncUseCase<CreateCustomerUseCase.Input, CreateCustomerUseCase.Outuput> {
+
+    private final CustomerAsyncRepository customerRepository;
+
+    public CreateCustomerAsyncUseCase(final CustomerAsyncRepository customerRepository) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+    }
+
+    @Override
+    public CompletableFuture<CreateCustomerUseCase.Outuput> execute(final CreateCustomerUseCase.Input input) {
+        // A duplicidade de cpf ou email é barrada pelo repositório na própria gravação
+        return CompletableFuture.completedFuture(input)
+                .thenCompose(it -> customerRepository.create(Customer.newCustomer(it.name(), it.cpf(), it.email())))
+                .thenApply(customer -> new CreateCustomerUseCase.Outuput(customer.customerId().value(), customer.cpf().value(), customer.email().value(), customer.name().value()));
+    }
+
+}
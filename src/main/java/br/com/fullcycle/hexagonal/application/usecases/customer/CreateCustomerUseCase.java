@@ -1,9 +1,6 @@
 package br.com.fullcycle.hexagonal.application.usecases.customer;
 
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
-import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
-import br.com.fullcycle.hexagonal.application.domain.person.Email;
-import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 import br.com.fullcycle.hexagonal.application.usecases.UseCase;
 
@@ -18,13 +15,7 @@ public class CreateCustomerUseCase
 
     @Override
     public Outuput execute(Input input) {
-        if (customerRepository.customerOfCpf(new Cpf(input.cpf)).isPresent()) {
-            throw new ValidationException("Customer already exists");
-        }
-        if (customerRepository.customerOfEmail(new Email(input.email)).isPresent()) {
-            throw new ValidationException("Customer already exists");
-        }
-
+        // Sem consulta prévia: a duplicidade de cpf ou email é barrada pelo repositório na própria gravação
         var customer = customerRepository.create(Customer.newCustomer(input.name, input.cpf, input.email));
 
         return new Outuput(customer.customerId().value(), customer.cpf().value(), customer.email().value(), customer.name().value());
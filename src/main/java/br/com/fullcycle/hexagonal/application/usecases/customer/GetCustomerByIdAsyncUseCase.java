@@ -0,0 +1,27 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.AsyncUseCase;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class GetCustomerByIdAsyncUseCase
+        extends AsyncUseCase<GetCustomerByIdUseCase.Input, Optional<GetCustomerByIdUseCase.Output>> {
+
+    private final CustomerAsyncRepository customerRepository;
+
+    public GetCustomerByIdAsyncUseCase(final CustomerAsyncRepository customerRepository) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+    }
+
+    @Override
+    public CompletableFuture<Optional<GetCustomerByIdUseCase.Output>> execute(final GetCustomerByIdUseCase.Input input) {
+        return CompletableFuture.completedFuture(input)
+                .thenCompose(it -> customerRepository.customerOfId(CustomerId.with(it.id())))
+                .thenApply(customer -> customer.map(it -> new GetCustomerByIdUseCase.Output(it.customerId().value(), it.cpf().value(), it.email().value(), it.name().value())));
+    }
+
+}
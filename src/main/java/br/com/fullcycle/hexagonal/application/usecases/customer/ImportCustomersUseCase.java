@@ -0,0 +1,163 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerBatchRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+// Importa clientes em lotes: as linhas são lidas sob demanda e o resultado de cada uma é entregue
+// assim que o lote dela é gravado, então nem a entrada nem o relatório ficam inteiros em memória. Só o CPF e o e-mail
+// de cada linha aceita ficam guardados até o fim, para apontar a primeira linha de uma repetição em qualquer lote.
+public class ImportCustomersUseCase
+        extends UseCase<ImportCustomersUseCase.Input, ImportCustomersUseCase.Output> {
+
+    private final CustomerBatchRepository customerBatchRepository;
+    private final int batchSize;
+
+    public ImportCustomersUseCase(final CustomerBatchRepository customerBatchRepository, final int batchSize) {
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Batch size must be greater than zero");
+        }
+
+        this.customerBatchRepository = Objects.requireNonNull(customerBatchRepository);
+        this.batchSize = batchSize;
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var batch = new Batch(input.results());
+
+        while (input.rows().hasNext()) {
+            batch.add(input.rows().next());
+            if (batch.size() >= batchSize) {
+                batch.flush();
+            }
+        }
+        batch.flush();
+
+        return new Output(batch.created, batch.rejected);
+    }
+
+    private class Batch {
+
+        private final Consumer<Result> results;
+        private final List<Pending> pending = new ArrayList<>();
+        private final Map<Cpf, Long> seenCpfs = new HashMap<>();
+        private final Map<Email, Long> seenEmails = new HashMap<>();
+        private long created;
+        private long rejected;
+
+        Batch(final Consumer<Result> results) {
+            this.results = Objects.requireNonNull(results);
+        }
+
+        int size() {
+            return pending.size();
+        }
+
+        void add(final Row row) {
+            final Customer customer;
+            try {
+                customer = Customer.newCustomer(row.name(), row.cpf(), row.email());
+            } catch (ValidationException ex) {
+                pending.add(new Pending(row, null, ex.getMessage()));
+                return;
+            }
+
+            // Repetições dentro do arquivo não chegam ao banco, mesmo quando a primeira ocorrência foi gravada em outro lote
+            final var duplicateOf = firstLineOf(row, customer);
+            if (duplicateOf != null) {
+                pending.add(new Pending(row, null, "Customer duplicated in line " + duplicateOf));
+                return;
+            }
+
+            pending.add(new Pending(row, customer, null));
+        }
+
+        void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+
+            final var customers = new ArrayList<Customer>(pending.size());
+            for (final var it : pending) {
+                if (it.customer() != null) {
+                    customers.add(it.customer());
+                }
+            }
+
+            final var inserted = customers.isEmpty() ? Set.<CustomerId>of() : customerBatchRepository.createAll(customers);
+
+            for (final var it : pending) {
+                if (it.error() != null) {
+                    reject(it.row(), it.error());
+                } else if (inserted.contains(it.customer().customerId())) {
+                    created++;
+                    results.accept(Result.created(it.row().line(), it.customer().customerId().value()));
+                } else {
+                    reject(it.row(), "Customer already exists");
+                }
+            }
+
+            pending.clear();
+        }
+
+        // Compara CPF e e-mail pelos value objects, com a mesma igualdade usada pelo Customer e pelos repositórios
+        private Long firstLineOf(final Row row, final Customer customer) {
+            final var byCpf = seenCpfs.get(customer.cpf());
+            if (byCpf != null) {
+                return byCpf;
+            }
+
+            final var byEmail = seenEmails.get(customer.email());
+            if (byEmail != null) {
+                return byEmail;
+            }
+
+            seenCpfs.put(customer.cpf(), row.line());
+            seenEmails.put(customer.email(), row.line());
+            return null;
+        }
+
+        private void reject(final Row row, final String error) {
+            rejected++;
+            results.accept(Result.rejected(row.line(), error));
+        }
+    }
+
+    private record Pending(Row row, Customer customer, String error) {
+    }
+
+    public record Input(Iterator<Row> rows, Consumer<Result> results) {
+    }
+
+    public record Row(long line, String cpf, String email, String name) {
+    }
+
+    public record Result(long line, String status, String id, String error) {
+
+        public static Result created(final long line, final String id) {
+            return new Result(line, "created", id, null);
+        }
+
+        public static Result rejected(final long line, final String error) {
+            return new Result(line, "rejected", null, error);
+        }
+    }
+
+    public record Output(long created, long rejected) {
+    }
+
+}
@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.AsyncUseCase;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class CreateEventAsyncUseCase extends AsyncUseCase<CreateEventUseCase.Input, CreateEventUseCase.Output> {
+
+    private final EventAsyncRepository eventRepository;
+    private final PartnerAsyncRepository partnerRepository;
+
+    public CreateEventAsyncUseCase(final EventAsyncRepository eventRepository, final PartnerAsyncRepository partnerRepository) {
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+    }
+
+    @Override
+    public CompletableFuture<CreateEventUseCase.Output> execute(final CreateEventUseCase.Input input) {
+        return CompletableFuture.completedFuture(input)
+                .thenCompose(it -> partnerRepository.partnerOfId(PartnerId.with(it.partnerId())))
+                .thenCompose(aPartner -> eventRepository.create(Event.newEvent(
+                        input.name(), input.date(), input.totalSpots(), aPartner.orElseThrow(() -> new ValidationException("Partner not found")))))
+                .thenApply(anEvent -> new CreateEventUseCase.Output(anEvent.eventId().value(), input.date(), anEvent.name().value(), anEvent.totalSpots(), anEvent.partnerId().value()));
+    }
+
+}
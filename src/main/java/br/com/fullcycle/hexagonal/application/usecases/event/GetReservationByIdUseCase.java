@@ -0,0 +1,48 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationId;
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.Optional;
+
+public class GetReservationByIdUseCase extends UseCase<GetReservationByIdUseCase.Input, Optional<GetReservationByIdUseCase.Output>> {
+
+    private final ReservationRepository reservationRepository;
+
+    public GetReservationByIdUseCase(final ReservationRepository reservationRepository) {
+        this.reservationRepository = Objects.requireNonNull(reservationRepository);
+    }
+
+    @Override
+    public Optional<Output> execute(final Input input) {
+        return reservationRepository.reservationOfId(ReservationId.with(input.id()))
+                .map(reservation -> new Output(
+                        reservation.reservationId().value(),
+                        reservation.eventId().value(),
+                        reservation.customerId().value(),
+                        reservation.status().name(),
+                        reservation.ticketId() != null ? reservation.ticketId().value() : null,
+                        reservation.error(),
+                        reservation.requestedAt(),
+                        reservation.completedAt()
+                ));
+    }
+
+    public record Input(String id) {
+    }
+
+    public record Output(
+            String id,
+            String eventId,
+            String customerId,
+            String status,
+            String ticketId,
+            String error,
+            Instant requestedAt,
+            Instant completedAt
+    ) {
+    }
+}
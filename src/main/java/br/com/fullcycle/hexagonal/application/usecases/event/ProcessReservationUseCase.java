@@ -0,0 +1,54 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.util.Objects;
+
+// Atende um pedido da fila com a mesma reserva do endpoint síncrono. Quem chama deve rodar tudo em uma transação,
+// para que o ticket e o novo status do pedido sejam gravados juntos (ou nenhum dos dois).
+public class ProcessReservationUseCase extends UseCase<ProcessReservationUseCase.Input, ProcessReservationUseCase.Output> {
+
+    private final ReservationRepository reservationRepository;
+    private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+
+    public ProcessReservationUseCase(
+            final ReservationRepository reservationRepository,
+            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase
+    ) {
+        this.reservationRepository = Objects.requireNonNull(reservationRepository);
+        this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var aReservation = reservationRepository.reservationOfId(ReservationId.with(input.reservationId()))
+                .orElseThrow(() -> new ValidationException("Reservation not found"));
+
+        // Pedido entregue de novo depois de já ter sido concluído: nada a fazer
+        if (!aReservation.isPending()) {
+            return new Output(aReservation.reservationId().value(), aReservation.status().name());
+        }
+
+        try {
+            final var ticket = subscribeCustomerToEventUseCase.execute(new SubscribeCustomerToEventUseCase.Input(
+                    aReservation.customerId().value(), aReservation.eventId().value()));
+            aReservation.confirm(TicketId.with(ticket.ticketId()));
+        } catch (ValidationException ex) {
+            aReservation.reject(ex.getMessage());
+        }
+
+        reservationRepository.update(aReservation);
+        return new Output(aReservation.reservationId().value(), aReservation.status().name());
+    }
+
+    public record Input(String reservationId) {
+    }
+
+    public record Output(String reservationId, String status) {
+    }
+
+}
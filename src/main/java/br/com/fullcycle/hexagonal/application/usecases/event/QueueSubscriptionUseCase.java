@@ -0,0 +1,41 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.Reservation;
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.time.Instant;
+import java.util.Objects;
+
+// Só grava o pedido na fila; a reserva do ticket fica com o ProcessReservationUseCase
+public class QueueSubscriptionUseCase extends UseCase<QueueSubscriptionUseCase.Input, QueueSubscriptionUseCase.Output> {
+
+    private final ReservationRepository reservationRepository;
+
+    public QueueSubscriptionUseCase(final ReservationRepository reservationRepository) {
+        this.reservationRepository = Objects.requireNonNull(reservationRepository);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        final var aReservation = reservationRepository.create(
+                Reservation.newReservation(CustomerId.with(input.customerId()), EventId.with(input.eventId())));
+
+        return new Output(
+                aReservation.reservationId().value(),
+                aReservation.eventId().value(),
+                aReservation.customerId().value(),
+                aReservation.status().name(),
+                aReservation.requestedAt()
+        );
+    }
+
+    public record Input(String customerId, String eventId) {
+    }
+
+    public record Output(String id, String eventId, String customerId, String status, Instant requestedAt) {
+    }
+
+}
@@ -0,0 +1,47 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.AsyncUseCase;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class SubscribeCustomerToEventAsyncUseCase
+        extends AsyncUseCase<SubscribeCustomerToEventUseCase.Input, SubscribeCustomerToEventUseCase.Output> {
+
+    private final CustomerAsyncRepository customerRepository;
+    private final EventAsyncRepository eventRepository;
+
+    public SubscribeCustomerToEventAsyncUseCase(
+            final CustomerAsyncRepository customerRepository,
+            final EventAsyncRepository eventRepository
+    ) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+    }
+
+    @Override
+    public CompletableFuture<SubscribeCustomerToEventUseCase.Output> execute(final SubscribeCustomerToEventUseCase.Input input) {
+        return CompletableFuture.completedFuture(input).thenCompose(this::subscribe);
+    }
+
+    private CompletableFuture<SubscribeCustomerToEventUseCase.Output> subscribe(final SubscribeCustomerToEventUseCase.Input input) {
+        // Cliente e evento são buscados em paralelo; a reserva só começa depois que os dois existirem
+        final var customer = customerRepository.customerOfId(CustomerId.with(input.customerId()));
+        final var event = eventRepository.eventOfId(EventId.with(input.eventId()));
+
+        return customer.thenCombine(event, (aCustomer, anEvent) -> {
+                    final var customerId = aCustomer.orElseThrow(() -> new ValidationException("Customer not found")).customerId();
+                    final var eventId = anEvent.orElseThrow(() -> new ValidationException("Event not found")).eventId();
+
+                    return eventRepository.reserveTicket(eventId, customerId);
+                })
+                .thenCompose(reservation -> reservation)
+                .thenApply(ticket -> new SubscribeCustomerToEventUseCase.Output(ticket.eventId().value(), ticket.ticketId().value(), ticket.status().name(), ticket.reservedAt()));
+    }
+
+}
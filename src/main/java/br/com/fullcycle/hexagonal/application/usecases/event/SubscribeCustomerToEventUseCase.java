@@ -6,7 +6,6 @@ import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
-import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
 import br.com.fullcycle.hexagonal.application.usecases.UseCase;
 
 import java.time.Instant;
@@ -16,12 +15,10 @@ public class SubscribeCustomerToEventUseCase extends UseCase<SubscribeCustomerTo
 
     private final CustomerRepository customerRepository;
     private final EventRepository eventRepository;
-    private final TicketRepository ticketRepository;
 
-    public SubscribeCustomerToEventUseCase(final CustomerRepository customerRepository, final EventRepository eventRepository, final TicketRepository ticketRepository) {
+    public SubscribeCustomerToEventUseCase(final CustomerRepository customerRepository, final EventRepository eventRepository) {
         this.customerRepository = Objects.requireNonNull(customerRepository);
         this.eventRepository = Objects.requireNonNull(eventRepository);
-        this.ticketRepository = Objects.requireNonNull(ticketRepository);
     }
 
     @Override
@@ -29,16 +26,9 @@ public class SubscribeCustomerToEventUseCase extends UseCase<SubscribeCustomerTo
         var aCustomer = customerRepository.customerOfId(CustomerId.with(input.customerId))
                 .orElseThrow(() -> new ValidationException("Customer not found"));
 
-        var anEvent = eventRepository.eventOfId(EventId.with(input.eventId))
-                .orElseThrow(() -> new ValidationException("Event not found"));
+        final Ticket ticket = eventRepository.reserveTicket(EventId.with(input.eventId), aCustomer.customerId());
 
-        final Ticket ticket = anEvent.reserveTicket(aCustomer.customerId());
-
-        ticketRepository.create(ticket);
-
-        eventRepository.update(anEvent);
-
-        return new Output(anEvent.eventId().value(), ticket.ticketId().value(), ticket.status().name(), ticket.reservedAt());
+        return new Output(ticket.eventId().value(), ticket.ticketId().value(), ticket.status().name(), ticket.reservedAt());
     }
 
     public record Input(String customerId, String eventId) {
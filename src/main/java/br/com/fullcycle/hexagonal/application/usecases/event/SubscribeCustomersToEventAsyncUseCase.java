@@ -0,0 +1,69 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.AsyncUseCase;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+// Versão assíncrona do SubscribeCustomersToEventUseCase, com as mesmas regras e o mesmo Output.
+// Os clientes são buscados um depois do outro, como na versão síncrona, para um grupo grande não ocupar o executor
+// ou as conexões de uma vez só.
+public class SubscribeCustomersToEventAsyncUseCase
+        extends AsyncUseCase<SubscribeCustomersToEventUseCase.Input, SubscribeCustomersToEventUseCase.Output> {
+
+    private final CustomerAsyncRepository customerRepository;
+    private final EventAsyncRepository eventRepository;
+
+    public SubscribeCustomersToEventAsyncUseCase(
+            final CustomerAsyncRepository customerRepository,
+            final EventAsyncRepository eventRepository
+    ) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+    }
+
+    @Override
+    public CompletableFuture<SubscribeCustomersToEventUseCase.Output> execute(final SubscribeCustomersToEventUseCase.Input input) {
+        return CompletableFuture.completedFuture(input).thenCompose(this::subscribe);
+    }
+
+    private CompletableFuture<SubscribeCustomersToEventUseCase.Output> subscribe(final SubscribeCustomersToEventUseCase.Input input) {
+        if (input.customerIds() == null || input.customerIds().isEmpty()) {
+            throw new ValidationException("Customers are required");
+        }
+
+        final var anEventId = EventId.with(input.eventId());
+
+        final var found = new ArrayList<CustomerId>();
+        final var missing = new boolean[input.customerIds().size()];
+
+        var lookups = CompletableFuture.<Void>completedFuture(null);
+        for (int i = 0; i < missing.length; i++) {
+            final var position = i;
+            final var aCustomerId = CustomerId.with(input.customerIds().get(i));
+            lookups = lookups.thenCompose(ignored -> customerRepository.customerOfId(aCustomerId))
+                    .thenAccept(aCustomer -> {
+                        if (aCustomer.isPresent()) {
+                            found.add(aCustomer.get().customerId());
+                        } else {
+                            missing[position] = true;
+                        }
+                    });
+        }
+
+        return lookups
+                .thenCompose(ignored -> SubscribeCustomersToEventUseCase.shouldReserve(found, missing, input.allOrNothing())
+                        ? eventRepository.reserveTickets(anEventId, found, input.allOrNothing())
+                        : CompletableFuture.completedFuture(List.<GroupReservation.Result>of()))
+                .thenApply(reserved -> SubscribeCustomersToEventUseCase.outputOf(anEventId, input.customerIds(), missing, reserved));
+    }
+
+}
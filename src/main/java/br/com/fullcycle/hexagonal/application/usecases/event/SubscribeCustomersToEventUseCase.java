@@ -0,0 +1,106 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.usecases.UseCase;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+// Inscrição de um grupo de clientes em um evento (reservas corporativas): o evento é travado e gravado uma única vez.
+// Em allOrNothing, basta um cliente recusado para ninguém ser inscrito; no modo contrário, cada um segue por conta própria.
+public class SubscribeCustomersToEventUseCase
+        extends UseCase<SubscribeCustomersToEventUseCase.Input, SubscribeCustomersToEventUseCase.Output> {
+
+    private final CustomerRepository customerRepository;
+    private final EventRepository eventRepository;
+
+    public SubscribeCustomersToEventUseCase(final CustomerRepository customerRepository, final EventRepository eventRepository) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+    }
+
+    @Override
+    public Output execute(final Input input) {
+        if (input.customerIds() == null || input.customerIds().isEmpty()) {
+            throw new ValidationException("Customers are required");
+        }
+
+        final var anEventId = EventId.with(input.eventId());
+
+        final var found = new ArrayList<CustomerId>();
+        final var missing = new boolean[input.customerIds().size()];
+        for (int i = 0; i < missing.length; i++) {
+            final var aCustomer = customerRepository.customerOfId(CustomerId.with(input.customerIds().get(i)));
+            if (aCustomer.isPresent()) {
+                found.add(aCustomer.get().customerId());
+            } else {
+                missing[i] = true;
+            }
+        }
+
+        final List<GroupReservation.Result> reserved = shouldReserve(found, missing, input.allOrNothing())
+                ? eventRepository.reserveTickets(anEventId, found, input.allOrNothing())
+                : List.of();
+
+        return outputOf(anEventId, input.customerIds(), missing, reserved);
+    }
+
+    static boolean shouldReserve(final List<CustomerId> found, final boolean[] missing, final boolean allOrNothing) {
+        final var anyMissing = found.size() < missing.length;
+        return !found.isEmpty() && !(allOrNothing && anyMissing);
+    }
+
+    // Junta os resultados do repositório com os clientes não encontrados, na ordem do pedido
+    static Output outputOf(
+            final EventId anEventId,
+            final List<String> customerIds,
+            final boolean[] missing,
+            final List<GroupReservation.Result> reserved
+    ) {
+        final var outcomes = new ArrayList<Outcome>(missing.length);
+        var next = 0;
+        for (int i = 0; i < missing.length; i++) {
+            final var customerId = customerIds.get(i);
+            if (missing[i]) {
+                outcomes.add(Outcome.rejected(customerId, "Customer not found"));
+            } else if (reserved.isEmpty()) {
+                outcomes.add(Outcome.rejected(customerId, GroupReservation.CANCELLED));
+            } else {
+                outcomes.add(Outcome.of(reserved.get(next++)));
+            }
+        }
+
+        final var reservedCount = (int) outcomes.stream().filter(it -> it.error() == null).count();
+        return new Output(anEventId.value(), reservedCount, outcomes.size() - reservedCount, outcomes);
+    }
+
+    public record Input(String eventId, List<String> customerIds, boolean allOrNothing) {
+    }
+
+    public record Output(String eventId, int reserved, int rejected, List<Outcome> outcomes) {
+    }
+
+    public record Outcome(String customerId, String ticketId, String ticketStatus, Instant reservationDate, String error) {
+
+        static Outcome of(final GroupReservation.Result result) {
+            if (!result.reserved()) {
+                return rejected(result.customerId().value(), result.error());
+            }
+
+            final var ticket = result.ticket();
+            return new Outcome(ticket.customerId().value(), ticket.ticketId().value(), ticket.status().name(), ticket.reservedAt(), null);
+        }
+
+        static Outcome rejected(final String customerId, final String error) {
+            return new Outcome(customerId, null, null, null, error);
+        }
+    }
+
+}
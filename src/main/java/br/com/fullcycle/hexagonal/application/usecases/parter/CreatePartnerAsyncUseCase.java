@@ -0,0 +1,26 @@
+package br.com.fullcycle.hexagonal.application.usecases.parter;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.AsyncUseCase;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+public class CreatePartnerAsyncUseCase extends AsyncUseCase<CreatePartnerUseCase.Input, CreatePartnerUseCase.Output> {
+
+    private final PartnerAsyncRepository partnerRepository;
+
+    public CreatePartnerAsyncUseCase(final PartnerAsyncRepository partnerRepository) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+    }
+
+    @Override
+    public CompletableFuture<CreatePartnerUseCase.Output> execute(final CreatePartnerUseCase.Input input) {
+        // A duplicidade de cnpj ou email é barrada pelo repositório na própria gravação
+        return CompletableFuture.completedFuture(input)
+                .thenCompose(it -> partnerRepository.create(Partner.newPartner(it.name(), it.cnpj(), it.email())))
+                .thenApply(partner -> new CreatePartnerUseCase.Output(partner.partnerId().value(), partner.cnpj().value(), partner.email().value(), partner.name().value()));
+    }
+
+}
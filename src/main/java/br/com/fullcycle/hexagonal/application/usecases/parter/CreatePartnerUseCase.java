@@ -1,9 +1,6 @@
 package br.com.fullcycle.hexagonal.application.usecases.parter;
 
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
-import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
-import br.com.fullcycle.hexagonal.application.domain.person.Email;
-import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 import br.com.fullcycle.hexagonal.application.usecases.UseCase;
 
@@ -19,14 +16,7 @@ public class CreatePartnerUseCase extends UseCase<CreatePartnerUseCase.Input, Cr
 
     @Override
     public Output execute(final Input input) {
-        if (partnerRepository.partnerOfCNPJ(new Cnpj(input.cnpj)).isPresent()) {
-            throw new ValidationException("Partner already exists");
-        }
-
-        if (partnerRepository.partnerOfEmail(new Email(input.email)).isPresent()) {
-            throw new ValidationException("Partner already exists");
-        }
-
+        // Sem consulta prévia: a duplicidade de cnpj ou email é barrada pelo repositório na própria gravação
         var partner = partnerRepository.create(Partner.newPartner(input.name, input.cnpj, input.email));
 
         return new Output(partner.partnerId().value(), partner.cnpj().value(), partner.email().value(), partner.name().value());
@@ -0,0 +1,27 @@
+package br.com.fullcycle.hexagonal.application.usecases.parter;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.AsyncUseCase;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+public class GetPartnerByIdAsyncUseCase
+        extends AsyncUseCase<GetPartnerByIdUseCase.Input, Optional<GetPartnerByIdUseCase.Output>> {
+
+    private final PartnerAsyncRepository partnerRepository;
+
+    public GetPartnerByIdAsyncUseCase(final PartnerAsyncRepository partnerRepository) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+    }
+
+    @Override
+    public CompletableFuture<Optional<GetPartnerByIdUseCase.Output>> execute(final GetPartnerByIdUseCase.Input input) {
+        return CompletableFuture.completedFuture(input)
+                .thenCompose(it -> partnerRepository.partnerOfId(PartnerId.with(it.id())))
+                .thenApply(partner -> partner.map(it -> new GetPartnerByIdUseCase.Output(it.partnerId().value(), it.cnpj().value(), it.email().value(), it.name().value())));
+    }
+
+}
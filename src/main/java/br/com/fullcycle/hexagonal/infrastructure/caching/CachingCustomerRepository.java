@@ -0,0 +1,108 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+// Guarda os clientes por id; cpf e email apontam para o id, e só valem se o cliente em cache ainda tiver a mesma chave.
+// Ausências não ficam em cache: uma busca que não achou nada sempre volta ao banco na próxima vez.
+// A entrada por id só é gravada se nenhuma escrita invalidou o cache durante a leitura, para não guardar dados antigos.
+public class CachingCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository customerRepository;
+    private final LruCache<CustomerId, Customer> byId;
+    private final LruCache<Cpf, CustomerId> byCpf;
+    private final LruCache<Email, CustomerId> byEmail;
+
+    public CachingCustomerRepository(
+            final CustomerRepository customerRepository,
+            final int maximumSize,
+            final Duration ttl,
+            final MeterRegistry meterRegistry
+    ) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.byId = new LruCache<>("customers.id", maximumSize, ttl, meterRegistry);
+        this.byCpf = new LruCache<>("customers.cpf", maximumSize, ttl, meterRegistry);
+        this.byEmail = new LruCache<>("customers.email", maximumSize, ttl, meterRegistry);
+    }
+
+    @Override
+    public Optional<Customer> customerOfId(final CustomerId anId) {
+        final var cached = byId.get(anId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        final var stamp = byId.stamp();
+        return cache(customerRepository.customerOfId(anId), stamp);
+    }
+
+    @Override
+    public Optional<Customer> customerOfCpf(final Cpf cpf) {
+        final var cached = byId.peek(byCpf.get(cpf));
+        if (cached != null && cached.cpf().equals(cpf)) {
+            return Optional.of(cached);
+        }
+
+        final var stamp = byId.stamp();
+        return cache(customerRepository.customerOfCpf(cpf), stamp);
+    }
+
+    @Override
+    public Optional<Customer> customerOfEmail(final Email email) {
+        final var cached = byId.peek(byEmail.get(email));
+        if (cached != null && cached.email().equals(email)) {
+            return Optional.of(cached);
+        }
+
+        final var stamp = byId.stamp();
+        return cache(customerRepository.customerOfEmail(email), stamp);
+    }
+
+    @Override
+    public Customer create(final Customer customer) {
+        final var created = customerRepository.create(customer);
+        invalidate(customer);
+        return created;
+    }
+
+    @Override
+    public Customer update(final Customer customer) {
+        final var updated = customerRepository.update(customer);
+        invalidate(customer);
+        return updated;
+    }
+
+    @Override
+    public void deleteAll() {
+        customerRepository.deleteAll();
+        byId.clear();
+        byCpf.clear();
+        byEmail.clear();
+    }
+
+    // cpf e email não precisam da marca: apontam só para o id, e o cliente guardado nele é conferido na leitura
+    private Optional<Customer> cache(final Optional<Customer> customer, final long stamp) {
+        customer.ifPresent(it -> {
+            if (byId.put(it.customerId(), it, stamp)) {
+                byCpf.put(it.cpf(), it.customerId());
+                byEmail.put(it.email(), it.customerId());
+            }
+        });
+        return customer;
+    }
+
+    // As chaves antigas de cpf e email deixam de valer sozinhas, porque passam a apontar para um id sem entrada
+    private void invalidate(final Customer customer) {
+        byId.invalidate(customer.customerId());
+        byCpf.invalidate(customer.cpf());
+        byEmail.invalidate(customer.email());
+    }
+}
@@ -0,0 +1,104 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+
+// Mesma estrutura do CachingCustomerRepository, com cnpj e email apontando para o id do parceiro
+public class CachingPartnerRepository implements PartnerRepository {
+
+    private final PartnerRepository partnerRepository;
+    private final LruCache<PartnerId, Partner> byId;
+    private final LruCache<Cnpj, PartnerId> byCnpj;
+    private final LruCache<Email, PartnerId> byEmail;
+
+    public CachingPartnerRepository(
+            final PartnerRepository partnerRepository,
+            final int maximumSize,
+            final Duration ttl,
+            final MeterRegistry meterRegistry
+    ) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+        this.byId = new LruCache<>("partners.id", maximumSize, ttl, meterRegistry);
+        this.byCnpj = new LruCache<>("partners.cnpj", maximumSize, ttl, meterRegistry);
+        this.byEmail = new LruCache<>("partners.email", maximumSize, ttl, meterRegistry);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfId(final PartnerId anId) {
+        final var cached = byId.get(anId);
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        final var stamp = byId.stamp();
+        return cache(partnerRepository.partnerOfId(anId), stamp);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfCNPJ(final Cnpj cnpj) {
+        final var cached = byId.peek(byCnpj.get(cnpj));
+        if (cached != null && cached.cnpj().equals(cnpj)) {
+            return Optional.of(cached);
+        }
+
+        final var stamp = byId.stamp();
+        return cache(partnerRepository.partnerOfCNPJ(cnpj), stamp);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfEmail(final Email email) {
+        final var cached = byId.peek(byEmail.get(email));
+        if (cached != null && cached.email().equals(email)) {
+            return Optional.of(cached);
+        }
+
+        final var stamp = byId.stamp();
+        return cache(partnerRepository.partnerOfEmail(email), stamp);
+    }
+
+    @Override
+    public Partner create(final Partner partner) {
+        final var created = partnerRepository.create(partner);
+        invalidate(partner);
+        return created;
+    }
+
+    @Override
+    public Partner update(final Partner partner) {
+        final var updated = partnerRepository.update(partner);
+        invalidate(partner);
+        return updated;
+    }
+
+    @Override
+    public void deleteAll() {
+        partnerRepository.deleteAll();
+        byId.clear();
+        byCnpj.clear();
+        byEmail.clear();
+    }
+
+    private Optional<Partner> cache(final Optional<Partner> partner, final long stamp) {
+        partner.ifPresent(it -> {
+            if (byId.put(it.partnerId(), it, stamp)) {
+                byCnpj.put(it.cnpj(), it.partnerId());
+                byEmail.put(it.email(), it.partnerId());
+            }
+        });
+        return partner;
+    }
+
+    private void invalidate(final Partner partner) {
+        byId.invalidate(partner.partnerId());
+        byCnpj.invalidate(partner.cnpj());
+        byEmail.invalidate(partner.email());
+    }
+}
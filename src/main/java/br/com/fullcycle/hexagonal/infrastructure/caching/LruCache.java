@@ -0,0 +1,160 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.LongSupplier;
+
+// Cache local limitado por tamanho (remove o acessado há mais tempo) e por tempo de vida de cada entrada.
+// Publica cache.gets (hit/miss), cache.evictions (size/expired) e cache.size com a tag do nome do cache.
+public class LruCache<K, V> {
+
+    private final int maximumSize;
+    private final long ttlNanos;
+    private final LongSupplier clock;
+    private final LinkedHashMap<K, Entry<V>> entries;
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter sizeEvictions;
+    private final Counter expirations;
+    private long invalidations;
+
+    public LruCache(final String name, final int maximumSize, final Duration ttl, final MeterRegistry meterRegistry) {
+        this(name, maximumSize, ttl, meterRegistry, System::nanoTime);
+    }
+
+    LruCache(
+            final String name,
+            final int maximumSize,
+            final Duration ttl,
+            final MeterRegistry meterRegistry,
+            final LongSupplier clock
+    ) {
+        if (maximumSize < 1) {
+            throw new IllegalArgumentException("Cache maximum size must be greater than zero");
+        }
+
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("Cache ttl must be greater than zero");
+        }
+
+        this.maximumSize = maximumSize;
+        this.ttlNanos = ttl.toNanos();
+        this.clock = Objects.requireNonNull(clock);
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(final Map.Entry<K, Entry<V>> eldest) {
+                if (size() > LruCache.this.maximumSize) {
+                    LruCache.this.sizeEvictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+        this.hits = meterRegistry.counter("cache.gets", "cache", name, "result", "hit");
+        this.misses = meterRegistry.counter("cache.gets", "cache", name, "result", "miss");
+        this.sizeEvictions = meterRegistry.counter("cache.evictions", "cache", name, "cause", "size");
+        this.expirations = meterRegistry.counter("cache.evictions", "cache", name, "cause", "expired");
+
+        Gauge.builder("cache.size", this, LruCache::size)
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    // Retorna null quando a chave não está no cache ou a entrada já expirou
+    public V get(final K key) {
+        final var value = lookup(key);
+        if (value != null) {
+            this.hits.increment();
+        } else {
+            this.misses.increment();
+        }
+        return value;
+    }
+
+    // Como get, mas sem contar nas métricas: usado para resolver o id guardado por uma chave secundária
+    public V peek(final K key) {
+        return lookup(key);
+    }
+
+    public synchronized void put(final K key, final V value) {
+        this.entries.put(Objects.requireNonNull(key), new Entry<>(Objects.requireNonNull(value), this.clock.getAsLong() + this.ttlNanos));
+    }
+
+    // Marca que a leitura guarda antes de ir ao repositório e depois entrega ao put com marca
+    public synchronized long stamp() {
+        return this.invalidations;
+    }
+
+    // Grava só se nada foi invalidado desde a marca: uma leitura lenta que termina depois de uma atualização não
+    // devolve ao cache o valor antigo que a atualização acabou de remover
+    public synchronized boolean put(final K key, final V value, final long stamp) {
+        if (stamp != this.invalidations) {
+            return false;
+        }
+
+        put(key, value);
+        return true;
+    }
+
+    // Grava só se a chave não estiver no cache (ou tiver expirado) e retorna o valor que já estava lá
+    public synchronized V putIfAbsent(final K key, final V value) {
+        final var existing = get(key);
+        if (existing == null) {
+            put(key, value);
+        }
+        return existing;
+    }
+
+    public synchronized void invalidate(final K key) {
+        if (key != null) {
+            this.entries.remove(key);
+            this.invalidations++;
+        }
+    }
+
+    // Remove só se a chave ainda guardar este valor: não apaga uma entrada gravada depois por outra chamada
+    public synchronized void invalidate(final K key, final V value) {
+        final var entry = key != null ? this.entries.get(key) : null;
+        if (entry != null && entry.value == value) {
+            this.entries.remove(key);
+            this.invalidations++;
+        }
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+        this.invalidations++;
+    }
+
+    public synchronized int size() {
+        return this.entries.size();
+    }
+
+    private synchronized V lookup(final K key) {
+        if (key == null) {
+            return null;
+        }
+
+        final var entry = this.entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+
+        if (this.clock.getAsLong() - entry.expiresAt >= 0) {
+            this.entries.remove(key);
+            this.expirations.increment();
+            return null;
+        }
+
+        return entry.value;
+    }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+}
@@ -0,0 +1,62 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Junta chamadas simultâneas para a mesma chave em uma só: a primeira executa e as que chegam enquanto ela roda
+// esperam e recebem o mesmo resultado (ou a mesma falha). Nada fica guardado depois que a chamada termina.
+// Publica singleflight.calls (leader/coalesced) com a tag do nome.
+public class SingleFlight<K, V> {
+
+    private final Map<K, CompletableFuture<V>> inFlight;
+    private final Counter leaders;
+    private final Counter coalesced;
+
+    public SingleFlight(final String name, final MeterRegistry meterRegistry) {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.leaders = meterRegistry.counter("singleflight.calls", "flight", name, "result", "leader");
+        this.coalesced = meterRegistry.counter("singleflight.calls", "flight", name, "result", "coalesced");
+    }
+
+    public V execute(final K key, final Supplier<V> call) {
+        Objects.requireNonNull(key);
+
+        final var flight = new CompletableFuture<V>();
+        final var existing = this.inFlight.putIfAbsent(key, flight);
+        if (existing != null) {
+            this.coalesced.increment();
+            return join(existing);
+        }
+
+        this.leaders.increment();
+        try {
+            final var result = call.get();
+            flight.complete(result);
+            return result;
+        } catch (RuntimeException | Error ex) {
+            flight.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            this.inFlight.remove(key, flight);
+        }
+    }
+
+    private static <V> V join(final CompletableFuture<V> flight) {
+        try {
+            return flight.join();
+        } catch (CompletionException ex) {
+            // Quem esperou recebe a mesma exceção que a chamada original lançou
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+}
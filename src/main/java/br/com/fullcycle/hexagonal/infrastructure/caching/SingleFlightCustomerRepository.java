@@ -0,0 +1,53 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+import java.util.Optional;
+
+// Mesmo papel do SingleFlightPartnerRepository, para GetCustomerByIdUseCase
+public class SingleFlightCustomerRepository implements CustomerRepository {
+
+    private final CustomerRepository customerRepository;
+    private final SingleFlight<CustomerId, Optional<Customer>> byId;
+
+    public SingleFlightCustomerRepository(final CustomerRepository customerRepository, final MeterRegistry meterRegistry) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.byId = new SingleFlight<>("customers.id", meterRegistry);
+    }
+
+    @Override
+    public Optional<Customer> customerOfId(final CustomerId anId) {
+        return byId.execute(anId, () -> customerRepository.customerOfId(anId));
+    }
+
+    @Override
+    public Optional<Customer> customerOfCpf(final Cpf cpf) {
+        return customerRepository.customerOfCpf(cpf);
+    }
+
+    @Override
+    public Optional<Customer> customerOfEmail(final Email email) {
+        return customerRepository.customerOfEmail(email);
+    }
+
+    @Override
+    public Customer create(final Customer customer) {
+        return customerRepository.create(customer);
+    }
+
+    @Override
+    public Customer update(final Customer customer) {
+        return customerRepository.update(customer);
+    }
+
+    @Override
+    public void deleteAll() {
+        customerRepository.deleteAll();
+    }
+}
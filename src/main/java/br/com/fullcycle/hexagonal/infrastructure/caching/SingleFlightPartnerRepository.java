@@ -0,0 +1,54 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Objects;
+import java.util.Optional;
+
+// Buscas simultâneas pelo mesmo id compartilham uma única ida ao banco e recebem a mesma instância de Partner.
+// Por isso só serve para quem apenas lê o parceiro (GetPartnerByIdUseCase); as demais operações vão direto.
+public class SingleFlightPartnerRepository implements PartnerRepository {
+
+    private final PartnerRepository partnerRepository;
+    private final SingleFlight<PartnerId, Optional<Partner>> byId;
+
+    public SingleFlightPartnerRepository(final PartnerRepository partnerRepository, final MeterRegistry meterRegistry) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+        this.byId = new SingleFlight<>("partners.id", meterRegistry);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfId(final PartnerId anId) {
+        return byId.execute(anId, () -> partnerRepository.partnerOfId(anId));
+    }
+
+    @Override
+    public Optional<Partner> partnerOfCNPJ(final Cnpj cnpj) {
+        return partnerRepository.partnerOfCNPJ(cnpj);
+    }
+
+    @Override
+    public Optional<Partner> partnerOfEmail(final Email email) {
+        return partnerRepository.partnerOfEmail(email);
+    }
+
+    @Override
+    public Partner create(final Partner partner) {
+        return partnerRepository.create(partner);
+    }
+
+    @Override
+    public Partner update(final Partner partner) {
+        return partnerRepository.update(partner);
+    }
+
+    @Override
+    public void deleteAll() {
+        partnerRepository.deleteAll();
+    }
+}
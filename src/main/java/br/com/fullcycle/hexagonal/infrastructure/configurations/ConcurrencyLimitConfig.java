@@ -0,0 +1,22 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public UseCaseLimiter useCaseLimiter(
+            @Value("${usecases.limits.enabled:false}") final boolean enabled,
+            @Value("${usecases.limits.initial:20}") final int initialLimit,
+            @Value("${usecases.limits.min:4}") final int minLimit,
+            @Value("${usecases.limits.max:200}") final int maxLimit,
+            final MeterRegistry meterRegistry
+    ) {
+        return new UseCaseLimiter(enabled, initialLimit, minLimit, maxLimit, meterRegistry);
+    }
+}
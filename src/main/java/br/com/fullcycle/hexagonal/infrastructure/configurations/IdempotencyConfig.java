@@ -0,0 +1,22 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public IdempotentRequests idempotentRequests(
+            @Value("${idempotency.maximum-size:10000}") final int maximumSize,
+            @Value("${idempotency.ttl:1h}") final Duration ttl,
+            final MeterRegistry meterRegistry
+    ) {
+        return new IdempotentRequests(maximumSize, ttl, meterRegistry);
+    }
+}
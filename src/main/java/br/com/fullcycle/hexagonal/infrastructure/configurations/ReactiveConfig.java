@@ -0,0 +1,75 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdAsyncUseCase;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import java.util.Objects;
+
+// Perfil reativo: os casos de uso assíncronos usam direto as portas do R2DBC, que completam no event loop sem
+// bloquear. O cache e o single-flight do perfil MVC decoram portas síncronas e não entram aqui.
+// A reserva do adapter R2DBC é um incremento condicional e dispensa as lanes.
+@Configuration
+@Profile("reactive")
+public class ReactiveConfig {
+
+    private final CustomerAsyncRepository customerRepository;
+    private final EventAsyncRepository eventRepository;
+    private final PartnerAsyncRepository partnerRepository;
+
+    public ReactiveConfig(
+            final CustomerAsyncRepository customerRepository,
+            final EventAsyncRepository eventRepository,
+            final PartnerAsyncRepository partnerRepository
+    ) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+    }
+
+    @Bean
+    public CreateCustomerAsyncUseCase createCustomerAsyncUseCase() {
+        return new CreateCustomerAsyncUseCase(customerRepository);
+    }
+
+    @Bean
+    public CreatePartnerAsyncUseCase createPartnerAsyncUseCase() {
+        return new CreatePartnerAsyncUseCase(partnerRepository);
+    }
+
+    @Bean
+    public CreateEventAsyncUseCase createEventAsyncUseCase() {
+        return new CreateEventAsyncUseCase(eventRepository, partnerRepository);
+    }
+
+    @Bean
+    public GetCustomerByIdAsyncUseCase getCustomerByIdAsyncUseCase() {
+        return new GetCustomerByIdAsyncUseCase(customerRepository);
+    }
+
+    @Bean
+    public GetPartnerByIdAsyncUseCase getPartnerByIdAsyncUseCase() {
+        return new GetPartnerByIdAsyncUseCase(partnerRepository);
+    }
+
+    @Bean
+    public SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventAsyncUseCase() {
+        return new SubscribeCustomerToEventAsyncUseCase(customerRepository, eventRepository);
+    }
+
+    @Bean
+    public SubscribeCustomersToEventAsyncUseCase subscribeCustomersToEventAsyncUseCase() {
+        return new SubscribeCustomersToEventAsyncUseCase(customerRepository, eventRepository);
+    }
+
+}
@@ -0,0 +1,120 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+import br.com.fullcycle.hexagonal.application.usecases.event.ProcessReservationUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventSpotLeaseJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ConflictRetry;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationLanes;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationQueueWorkers;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategies;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategy;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.SpotLeases;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.UUID;
+
+@Configuration
+@Profile("!reactive")
+public class ReservationConfig {
+
+    // Com LEASED, a lane que precisa de um bloco novo abre uma segunda conexão (REQUIRES_NEW) dentro da transação
+    // do lote. Cada lane pode segurar duas conexões ao mesmo tempo, então o pool precisa ter mais que o dobro das lanes
+    // para sobrar conexão para o resto da aplicação.
+    @Bean(destroyMethod = "close")
+    public ReservationLanes reservationLanes(
+            @Value("${reservations.lanes:4}") final int lanes,
+            @Value("${reservations.batch.size:1}") final int batchSize,
+            @Value("${reservations.batch.window:0ms}") final Duration batchWindow,
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int maximumPoolSize,
+            final ReservationStrategies reservationStrategies,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        if (reservationStrategies.uses(ReservationStrategy.LEASED) && maximumPoolSize <= 2 * lanes) {
+            throw new IllegalStateException(
+                    "Leased reservations need a connection pool greater than twice the reservation lanes (pool %d, lanes %d)"
+                            .formatted(maximumPoolSize, lanes)
+            );
+        }
+
+        return new ReservationLanes(lanes, batchSize, batchWindow, new TransactionTemplate(transactionManager), meterRegistry);
+    }
+
+    @Bean
+    public ConflictRetry conflictRetry(
+            @Value("${reservations.retry.attempts:5}") final int attempts,
+            @Value("${reservations.retry.backoff:5ms}") final Duration backoff,
+            @Value("${reservations.retry.max-backoff:200ms}") final Duration maxBackoff,
+            final MeterRegistry meterRegistry
+    ) {
+        return new ConflictRetry(attempts, backoff, maxBackoff, meterRegistry);
+    }
+
+    @Bean
+    public ReservationStrategies reservationStrategies(
+            @Value("${reservations.strategy.default:counter}") final String defaultStrategy,
+            @Value("${reservations.strategy.events:}") final String strategiesByEvent
+    ) {
+        return ReservationStrategies.parse(defaultStrategy, strategiesByEvent);
+    }
+
+    @Bean(destroyMethod = "close")
+    public SpotLeases spotLeases(
+            @Value("${reservations.lease.node-id:}") final String nodeId,
+            @Value("${reservations.lease.block-size:50}") final int blockSize,
+            @Value("${reservations.lease.ttl:30s}") final Duration ttl,
+            final EventJpaRepository eventJpaRepository,
+            final EventTicketJpaRepository eventTicketJpaRepository,
+            final EventSpotLeaseJpaRepository eventSpotLeaseJpaRepository,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        return new SpotLeases(
+                nodeId.isBlank() ? UUID.randomUUID().toString() : nodeId,
+                blockSize,
+                ttl,
+                eventJpaRepository,
+                eventTicketJpaRepository,
+                eventSpotLeaseJpaRepository,
+                transactionManager,
+                meterRegistry
+        );
+    }
+
+    @Bean(destroyMethod = "close")
+    public ReservationQueueWorkers reservationQueueWorkers(
+            final ReservationRepository reservationRepository,
+            final ProcessReservationUseCase processReservationUseCase,
+            final ReservationLanes reservationLanes,
+            final ConflictRetry conflictRetry,
+            @Value("${reservations.queue.workers:4}") final int workers,
+            @Value("${reservations.queue.batch-size:32}") final int batchSize,
+            @Value("${reservations.queue.max-attempts:5}") final int maxAttempts,
+            @Value("${reservations.queue.poll-interval:50ms}") final Duration pollInterval,
+            @Value("${reservations.queue.claim-timeout:30s}") final Duration claimTimeout,
+            final MeterRegistry meterRegistry
+    ) {
+        return new ReservationQueueWorkers(
+                reservationRepository,
+                processReservationUseCase,
+                reservationLanes,
+                conflictRetry,
+                workers,
+                batchSize,
+                maxAttempts,
+                pollInterval,
+                claimTimeout,
+                meterRegistry
+        );
+    }
+
+}
@@ -1,38 +1,87 @@
 package br.com.fullcycle.hexagonal.infrastructure.configurations;
 
+import br.com.fullcycle.hexagonal.application.repositories.CustomerBatchRepository;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
-import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.GetReservationByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.ProcessReservationUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.QueueSubscriptionUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.caching.CachingCustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.caching.CachingPartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.caching.SingleFlightCustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.caching.SingleFlightPartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.ExecutorCustomerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.ExecutorEventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.ExecutorPartnerRepository;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ConflictRetry;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.LaneEventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationLanes;
+import br.com.fullcycle.hexagonal.infrastructure.threads.VirtualThreads;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 
+// Perfil MVC: portas síncronas (JPA ou JDBC) com cache e single-flight; os casos de uso assíncronos usam as mesmas
+// portas através dos adapters Executor*. O perfil reativo monta os seus casos de uso na ReactiveConfig.
 @Configuration
+@Profile("!reactive")
 public class UseCaseConfig {
 
+    public static final String USE_CASE_EXECUTOR = "useCaseExecutor";
+    public static final String LOOKUP_EXECUTOR = "lookupExecutor";
+
     private final CustomerRepository customerRepository;
     private final EventRepository eventRepository;
     private final PartnerRepository partnerRepository;
-    private final TicketRepository ticketRepository;
 
     public UseCaseConfig(
             final CustomerRepository customerRepository,
             final EventRepository eventRepository,
             final PartnerRepository partnerRepository,
-            final TicketRepository ticketRepository
+            @Value("${repositories.cache.enabled:false}") final boolean cacheEnabled,
+            @Value("${repositories.cache.maximum-size:10000}") final int cacheMaximumSize,
+            @Value("${repositories.cache.ttl:5m}") final Duration cacheTtl,
+            final MeterRegistry meterRegistry
     ) {
-        this.customerRepository = Objects.requireNonNull(customerRepository);
+        var customers = Objects.requireNonNull(customerRepository);
+        var partners = Objects.requireNonNull(partnerRepository);
+
+        // Clientes e parceiros quase não mudam: as buscas dos casos de uso passam por um cache local
+        if (cacheEnabled) {
+            customers = new CachingCustomerRepository(customers, cacheMaximumSize, cacheTtl, meterRegistry);
+            partners = new CachingPartnerRepository(partners, cacheMaximumSize, cacheTtl, meterRegistry);
+        }
+
+        this.customerRepository = customers;
         this.eventRepository = Objects.requireNonNull(eventRepository);
-        this.partnerRepository = Objects.requireNonNull(partnerRepository);
-        this.ticketRepository = Objects.requireNonNull(ticketRepository);
+        this.partnerRepository = partners;
     }
 
     @Bean
@@ -50,19 +99,179 @@ public class UseCaseConfig {
         return new CreatePartnerUseCase(partnerRepository);
     }
 
+    // Buscas simultâneas pelo mesmo id (página em alta) dividem uma única ida ao banco
+    @Bean
+    public GetCustomerByIdUseCase getCustomerByIdUseCase(final MeterRegistry meterRegistry) {
+        return new GetCustomerByIdUseCase(new SingleFlightCustomerRepository(customerRepository, meterRegistry));
+    }
+
     @Bean
-    public GetCustomerByIdUseCase getCustomerByIdUseCase() {
-        return new GetCustomerByIdUseCase(customerRepository);
+    public ImportCustomersUseCase importCustomersUseCase(
+            final CustomerBatchRepository customerBatchRepository,
+            @Value("${customers.import.batch-size:1000}") final int batchSize
+    ) {
+        return new ImportCustomersUseCase(customerBatchRepository, batchSize);
     }
 
     @Bean
-    public GetPartnerByIdUseCase getPartnerByIdUseCase() {
-        return new GetPartnerByIdUseCase(partnerRepository);
+    public GetPartnerByIdUseCase getPartnerByIdUseCase(final MeterRegistry meterRegistry) {
+        return new GetPartnerByIdUseCase(new SingleFlightPartnerRepository(partnerRepository, meterRegistry));
     }
 
     @Bean
     public SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase() {
-        return new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        return new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
+    }
+
+    // A reserva em grupo trava o evento uma única vez por pedido, mas ainda disputa o evento com as reservas
+    // individuais: passa pela mesma lane e repete em caso de conflito com outra instância
+    @Bean
+    public SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase(
+            final ReservationLanes reservationLanes,
+            final ConflictRetry conflictRetry
+    ) {
+        return new SubscribeCustomersToEventUseCase(
+                customerRepository,
+                new LaneEventRepository(eventRepository, reservationLanes, conflictRetry)
+        );
+    }
+
+    // Inscrição assíncrona: o pedido vai para a fila e os workers da ReservationConfig fazem a reserva
+    @Bean
+    public QueueSubscriptionUseCase queueSubscriptionUseCase(final ReservationRepository reservationRepository) {
+        return new QueueSubscriptionUseCase(reservationRepository);
+    }
+
+    @Bean
+    public GetReservationByIdUseCase getReservationByIdUseCase(final ReservationRepository reservationRepository) {
+        return new GetReservationByIdUseCase(reservationRepository);
+    }
+
+    // Os workers da fila já entregam o pedido inteiro à lane do evento (com ConflictRetry), para o ticket e o status
+    // serem gravados na mesma transação. Por isso a reserva aqui usa o repositório direto: uma LaneEventRepository
+    // chamada de dentro da lane esperaria por ela mesma.
+    @Bean
+    public ProcessReservationUseCase processReservationUseCase(final ReservationRepository reservationRepository) {
+        return new ProcessReservationUseCase(reservationRepository, subscribeCustomerToEventUseCase());
+    }
+
+    // Executor próprio dos casos de uso assíncronos. Sem virtual threads a fila é limitada: quando ela enche a tarefa é
+    // recusada (RejectedExecutionException, respondida com 503) em vez de esperar atrás das gravações já enfileiradas.
+    // Com virtual threads cada tarefa ganha a sua thread e o acesso ao banco fica limitado pelo BoundedDataSource.
+    @Bean(name = USE_CASE_EXECUTOR)
+    public Executor useCaseExecutor(
+            @Value("${threads.virtual.enabled:false}") final boolean virtualThreads,
+            @Value("${usecases.executor.pool-size:16}") final int poolSize,
+            @Value("${usecases.executor.queue-capacity:64}") final int queueCapacity
+    ) {
+        if (virtualThreads) {
+            return new TaskExecutorAdapter(VirtualThreads.newExecutor("usecase-virtual-"));
+        }
+
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("usecase-");
+        return executor;
+    }
+
+    // Leituras por id feitas pelos casos de uso assíncronos (cliente, parceiro e evento antes da reserva) e pela sala de
+    // espera. Ficam fora do useCaseExecutor porque as reservas seguram as threads dele esperando a lane do evento: com
+    // o mesmo pool, uma rajada de inscrições ocupava as 16 threads e enchia a fila, e as buscas das inscrições seguintes
+    // (de que essas mesmas reservas dependem para começar) eram recusadas ou esperavam atrás delas. As buscas são
+    // curtas, então um pool do mesmo tamanho com fila maior dá conta de uma rajada.
+    @Bean(name = LOOKUP_EXECUTOR)
+    public Executor lookupExecutor(
+            @Value("${threads.virtual.enabled:false}") final boolean virtualThreads,
+            @Value("${usecases.lookup-executor.pool-size:16}") final int poolSize,
+            @Value("${usecases.lookup-executor.queue-capacity:256}") final int queueCapacity
+    ) {
+        if (virtualThreads) {
+            return new TaskExecutorAdapter(VirtualThreads.newExecutor("lookup-virtual-"));
+        }
+
+        final var executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("lookup-");
+        return executor;
+    }
+
+    // Usado fora dos casos de uso pela sala de espera, para conferir o evento na criação da fila
+    @Bean
+    public EventAsyncRepository eventAsyncRepository(@Qualifier(LOOKUP_EXECUTOR) final Executor executor) {
+        return new ExecutorEventRepository(eventRepository, executor);
+    }
+
+    @Bean
+    public CreateCustomerAsyncUseCase createCustomerAsyncUseCase(
+            @Qualifier(USE_CASE_EXECUTOR) final Executor executor
+    ) {
+        return new CreateCustomerAsyncUseCase(new ExecutorCustomerRepository(customerRepository, executor));
+    }
+
+    @Bean
+    public CreatePartnerAsyncUseCase createPartnerAsyncUseCase(
+            @Qualifier(USE_CASE_EXECUTOR) final Executor executor
+    ) {
+        return new CreatePartnerAsyncUseCase(new ExecutorPartnerRepository(partnerRepository, executor));
+    }
+
+    @Bean
+    public CreateEventAsyncUseCase createEventAsyncUseCase(
+            @Qualifier(LOOKUP_EXECUTOR) final Executor lookupExecutor,
+            @Qualifier(USE_CASE_EXECUTOR) final Executor executor
+    ) {
+        return new CreateEventAsyncUseCase(
+                new ExecutorEventRepository(eventRepository, lookupExecutor, executor),
+                new ExecutorPartnerRepository(partnerRepository, lookupExecutor)
+        );
+    }
+
+    @Bean
+    public GetCustomerByIdAsyncUseCase getCustomerByIdAsyncUseCase(
+            @Qualifier(LOOKUP_EXECUTOR) final Executor executor,
+            final MeterRegistry meterRegistry
+    ) {
+        return new GetCustomerByIdAsyncUseCase(new ExecutorCustomerRepository(
+                new SingleFlightCustomerRepository(customerRepository, meterRegistry), executor));
+    }
+
+    @Bean
+    public GetPartnerByIdAsyncUseCase getPartnerByIdAsyncUseCase(
+            @Qualifier(LOOKUP_EXECUTOR) final Executor executor,
+            final MeterRegistry meterRegistry
+    ) {
+        return new GetPartnerByIdAsyncUseCase(new ExecutorPartnerRepository(
+                new SingleFlightPartnerRepository(partnerRepository, meterRegistry), executor));
+    }
+
+    @Bean
+    public SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventAsyncUseCase(
+            @Qualifier(LOOKUP_EXECUTOR) final Executor lookupExecutor,
+            @Qualifier(USE_CASE_EXECUTOR) final Executor executor,
+            final ReservationLanes reservationLanes,
+            final ConflictRetry conflictRetry
+    ) {
+        return new SubscribeCustomerToEventAsyncUseCase(
+                new ExecutorCustomerRepository(customerRepository, lookupExecutor),
+                new ExecutorEventRepository(new LaneEventRepository(eventRepository, reservationLanes, conflictRetry), lookupExecutor, executor)
+        );
+    }
+
+    @Bean
+    public SubscribeCustomersToEventAsyncUseCase subscribeCustomersToEventAsyncUseCase(
+            @Qualifier(LOOKUP_EXECUTOR) final Executor lookupExecutor,
+            @Qualifier(USE_CASE_EXECUTOR) final Executor executor,
+            final ReservationLanes reservationLanes,
+            final ConflictRetry conflictRetry
+    ) {
+        return new SubscribeCustomersToEventAsyncUseCase(
+                new ExecutorCustomerRepository(customerRepository, lookupExecutor),
+                new ExecutorEventRepository(new LaneEventRepository(eventRepository, reservationLanes, conflictRetry), lookupExecutor, executor)
+        );
     }
 
 }
@@ -0,0 +1,55 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.infrastructure.threads.BoundedDataSource;
+import br.com.fullcycle.hexagonal.infrastructure.threads.VirtualThreads;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.web.embedded.tomcat.TomcatProtocolHandlerCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.support.TaskExecutorAdapter;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+// Modo opcional (JDK 21+): requisições REST, data fetching do GraphQL e os casos de uso chamados por eles
+// rodam em virtual threads, e o acesso ao banco continua limitado ao tamanho do pool JDBC.
+@Configuration
+@ConditionalOnProperty(name = "threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    public TomcatProtocolHandlerCustomizer<?> virtualThreadsProtocolHandlerCustomizer() {
+        final var executor = VirtualThreads.newExecutor("http-virtual-");
+        return protocolHandler -> protocolHandler.setExecutor(executor);
+    }
+
+    // Usado pelo Spring MVC para respostas assíncronas e pelo GraphQL para resolvers que retornam Callable
+    @Bean(name = TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME)
+    public AsyncTaskExecutor applicationTaskExecutor() {
+        return new TaskExecutorAdapter(VirtualThreads.newExecutor("task-virtual-"));
+    }
+
+    // A espera pela permissão usa o connectionTimeout do Hikari (30s por padrão, o mesmo default do pool)
+    @Bean
+    public static BeanPostProcessor boundedDataSourcePostProcessor(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") final int maximumPoolSize
+    ) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(final Object bean, final String beanName) {
+                if (bean instanceof DataSource dataSource && !(bean instanceof BoundedDataSource)) {
+                    final var connectionTimeout = bean instanceof HikariDataSource hikari
+                            ? Duration.ofMillis(hikari.getConnectionTimeout())
+                            : Duration.ofSeconds(30);
+                    return new BoundedDataSource(dataSource, maximumPoolSize, connectionTimeout);
+                }
+                return bean;
+            }
+        };
+    }
+}
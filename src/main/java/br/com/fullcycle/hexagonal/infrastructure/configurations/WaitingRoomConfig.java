@@ -0,0 +1,47 @@
+package br.com.fullcycle.hexagonal.infrastructure.configurations;
+
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoomTokens;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.charset.StandardCharsets;
+import java.security.SecureRandom;
+import java.time.Clock;
+import java.time.Duration;
+
+@Configuration
+public class WaitingRoomConfig {
+
+    @Bean
+    public WaitingRoom waitingRoom(
+            @Value("${waiting-room.enabled:false}") final boolean enabled,
+            @Value("${waiting-room.secret:}") final String secret,
+            @Value("${waiting-room.rate:50}") final double rate,
+            @Value("${waiting-room.rates:}") final String ratesByEvent,
+            @Value("${waiting-room.admission-window:5m}") final Duration admissionWindow,
+            final EventAsyncRepository eventRepository,
+            final MeterRegistry meterRegistry
+    ) {
+        return new WaitingRoom(
+                enabled,
+                new WaitingRoomTokens(secret.isBlank() ? randomSecret() : secret.getBytes(StandardCharsets.UTF_8)),
+                eventRepository,
+                rate,
+                WaitingRoom.parseRates(ratesByEvent),
+                admissionWindow,
+                Clock.systemUTC(),
+                meterRegistry
+        );
+    }
+
+    // Sem segredo configurado, as senhas só valem nesta instância e até ela reiniciar
+    private static byte[] randomSecret() {
+        final var secret = new byte[32];
+        new SecureRandom().nextBytes(secret);
+        return secret;
+    }
+}
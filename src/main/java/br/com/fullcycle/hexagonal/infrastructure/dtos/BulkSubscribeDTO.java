@@ -0,0 +1,15 @@
+package br.com.fullcycle.hexagonal.infrastructure.dtos;
+
+import java.util.List;
+
+// allOrNothing ausente equivale a true: por padrão o grupo é inscrito inteiro ou ninguém é
+public record BulkSubscribeDTO(
+        String eventId,
+        List<String> customerIds,
+        Boolean allOrNothing
+) {
+
+    public boolean isAllOrNothing() {
+        return allOrNothing == null || allOrNothing;
+    }
+}
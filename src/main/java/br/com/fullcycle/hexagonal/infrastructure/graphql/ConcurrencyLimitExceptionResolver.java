@@ -0,0 +1,39 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.infrastructure.limits.ConcurrencyLimitExceededException;
+import graphql.ErrorClassification;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.RejectedExecutionException;
+
+// Recusa do UseCaseLimiter vira erro TOO_MANY_REQUESTS no campo que chamou o caso de uso,
+// e a do executor dos casos de uso assíncronos, SERVICE_UNAVAILABLE
+@Component
+public class ConcurrencyLimitExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    private static final ErrorClassification TOO_MANY_REQUESTS = ErrorClassification.errorClassification("TOO_MANY_REQUESTS");
+    private static final ErrorClassification SERVICE_UNAVAILABLE = ErrorClassification.errorClassification("SERVICE_UNAVAILABLE");
+
+    @Override
+    protected GraphQLError resolveToSingleError(final Throwable ex, final DataFetchingEnvironment env) {
+        if (ex instanceof RejectedExecutionException) {
+            return GraphqlErrorBuilder.newError(env)
+                    .errorType(SERVICE_UNAVAILABLE)
+                    .message("Service is busy, try again later")
+                    .build();
+        }
+
+        if (!(ex instanceof ConcurrencyLimitExceededException)) {
+            return null;
+        }
+
+        return GraphqlErrorBuilder.newError(env)
+                .errorType(TOO_MANY_REQUESTS)
+                .message(ex.getMessage())
+                .build();
+    }
+}
@@ -1,35 +1,51 @@
 package br.com.fullcycle.hexagonal.infrastructure.graphql;
 
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class CustomerResolver {
 
-    private final CreateCustomerUseCase createCustomerUseCase;
-    private final GetCustomerByIdUseCase getCustomerByIdUseCase;
-
-    public CustomerResolver(final CreateCustomerUseCase createCustomerUseCase, final GetCustomerByIdUseCase getCustomerByIdUseCase) {
+    private final CreateCustomerAsyncUseCase createCustomerUseCase;
+    private final GetCustomerByIdAsyncUseCase getCustomerByIdUseCase;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
+
+    public CustomerResolver(
+            final CreateCustomerAsyncUseCase createCustomerUseCase,
+            final GetCustomerByIdAsyncUseCase getCustomerByIdUseCase,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests
+    ) {
         this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
         this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
     }
 
     @MutationMapping
-    public CreateCustomerUseCase.Outuput createCustomer(@Argument NewCustomerDTO input) {
-        return createCustomerUseCase.execute(new CreateCustomerUseCase.Input(input.cpf(), input.email(), input.name()));
+    public CompletableFuture<CreateCustomerUseCase.Outuput> createCustomer(@Argument NewCustomerDTO input, @Argument String idempotencyKey) {
+        final var useCaseInput = new CreateCustomerUseCase.Input(input.cpf(), input.email(), input.name());
+        return idempotentRequests.execute(createCustomerUseCase, idempotencyKey, useCaseInput, () ->
+                useCaseLimiter.executeAsync(createCustomerUseCase, () -> createCustomerUseCase.execute(useCaseInput)));
     }
 
     @QueryMapping
-    public GetCustomerByIdUseCase.Output customerOfId(@Argument String id) {
-        return getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id))
-                .orElse(null);
+    public CompletableFuture<GetCustomerByIdUseCase.Output> customerOfId(@Argument String id) {
+        return useCaseLimiter.executeAsync(getCustomerByIdUseCase, () -> getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id)))
+                .thenApply(output -> output.orElse(null));
     }
 
 }
@@ -1,36 +1,72 @@
 package br.com.fullcycle.hexagonal.infrastructure.graphql;
 
+import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.BulkSubscribeDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.stereotype.Controller;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class EventResolver {
 
-    public final CreateEventUseCase createEventUseCase;
-    public final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    public final CreateEventAsyncUseCase createEventUseCase;
+    public final SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventUseCase;
+    public final SubscribeCustomersToEventAsyncUseCase subscribeCustomersToEventUseCase;
+    public final WaitingRoom waitingRoom;
+    public final UseCaseLimiter useCaseLimiter;
+    public final IdempotentRequests idempotentRequests;
 
-    public EventResolver(CreateEventUseCase createEventUseCase, SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase) {
+    public EventResolver(
+            CreateEventAsyncUseCase createEventUseCase,
+            SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventUseCase,
+            SubscribeCustomersToEventAsyncUseCase subscribeCustomersToEventUseCase,
+            WaitingRoom waitingRoom,
+            UseCaseLimiter useCaseLimiter,
+            IdempotentRequests idempotentRequests
+    ) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.subscribeCustomersToEventUseCase = Objects.requireNonNull(subscribeCustomersToEventUseCase);
+        this.waitingRoom = Objects.requireNonNull(waitingRoom);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
     }
 
     @MutationMapping
-    public CreateEventUseCase.Output createEvent(@Argument NewEventDTO input) {
-        return createEventUseCase.execute(new CreateEventUseCase.Input(input.date(), input.name(), input.partnerId(), input.totalSpots()));
+    public CompletableFuture<CreateEventUseCase.Output> createEvent(@Argument NewEventDTO input) {
+        return useCaseLimiter.executeAsync(createEventUseCase, () ->
+                createEventUseCase.execute(new CreateEventUseCase.Input(input.date(), input.name(), input.partnerId(), input.totalSpots())));
     }
 
-    @Transactional
     @MutationMapping
-    public SubscribeCustomerToEventUseCase.Output subscribeCustomerToEvent(@Argument SubscribeDTO input) {
-        return subscribeCustomerToEventUseCase.execute(new SubscribeCustomerToEventUseCase.Input(input.customerId().toString(), input.eventId().toString()));
+    public CompletableFuture<SubscribeCustomerToEventUseCase.Output> subscribeCustomerToEvent(
+            @Argument SubscribeDTO input,
+            @Argument String waitingRoomToken,
+            @Argument String idempotencyKey
+    ) {
+        final var useCaseInput = new SubscribeCustomerToEventUseCase.Input(input.customerId(), input.eventId());
+        return idempotentRequests.execute(subscribeCustomerToEventUseCase, idempotencyKey, useCaseInput, () ->
+                waitingRoom.admitAsync(waitingRoomToken, input.eventId(), input.customerId(), () ->
+                        useCaseLimiter.executeAsync(subscribeCustomerToEventUseCase, () -> subscribeCustomerToEventUseCase.execute(useCaseInput))));
+    }
+
+    @MutationMapping
+    public CompletableFuture<SubscribeCustomersToEventUseCase.Output> subscribeCustomersToEvent(@Argument BulkSubscribeDTO input) {
+        return useCaseLimiter.executeAsync(subscribeCustomersToEventUseCase, () -> subscribeCustomersToEventUseCase.execute(
+                new SubscribeCustomersToEventUseCase.Input(input.eventId(), input.customerIds(), input.isAllOrNothing())));
     }
 
 }
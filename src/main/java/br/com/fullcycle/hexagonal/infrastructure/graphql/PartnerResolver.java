@@ -1,35 +1,51 @@
 package br.com.fullcycle.hexagonal.infrastructure.graphql;
 
+import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewPartnerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
 import org.springframework.graphql.data.method.annotation.Argument;
 import org.springframework.graphql.data.method.annotation.MutationMapping;
 import org.springframework.graphql.data.method.annotation.QueryMapping;
 import org.springframework.stereotype.Controller;
 
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @Controller
 public class PartnerResolver {
 
-    private final CreatePartnerUseCase createPartnerUseCase;
-    private final GetPartnerByIdUseCase getPartnerByIdUseCase;
-
-    public PartnerResolver(final CreatePartnerUseCase createPartnerUseCase, final GetPartnerByIdUseCase getPartnerByIdUseCase) {
+    private final CreatePartnerAsyncUseCase createPartnerUseCase;
+    private final GetPartnerByIdAsyncUseCase getPartnerByIdUseCase;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
+
+    public PartnerResolver(
+            final CreatePartnerAsyncUseCase createPartnerUseCase,
+            final GetPartnerByIdAsyncUseCase getPartnerByIdUseCase,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests
+    ) {
         this.createPartnerUseCase = Objects.requireNonNull(createPartnerUseCase);
         this.getPartnerByIdUseCase = Objects.requireNonNull(getPartnerByIdUseCase);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
     }
 
     @MutationMapping
-    public CreatePartnerUseCase.Output createPartner(@Argument NewPartnerDTO input) {
-        return createPartnerUseCase.execute(new CreatePartnerUseCase.Input(input.cnpj(), input.email(), input.name()));
+    public CompletableFuture<CreatePartnerUseCase.Output> createPartner(@Argument NewPartnerDTO input, @Argument String idempotencyKey) {
+        final var useCaseInput = new CreatePartnerUseCase.Input(input.cnpj(), input.email(), input.name());
+        return idempotentRequests.execute(createPartnerUseCase, idempotencyKey, useCaseInput, () ->
+                useCaseLimiter.executeAsync(createPartnerUseCase, () -> createPartnerUseCase.execute(useCaseInput)));
     }
 
     @QueryMapping
-    public GetPartnerByIdUseCase.Output partnerOfId(@Argument String id) {
-        return getPartnerByIdUseCase.execute(new GetPartnerByIdUseCase.Input(id))
-                .orElse(null);
+    public CompletableFuture<GetPartnerByIdUseCase.Output> partnerOfId(@Argument String id) {
+        return useCaseLimiter.executeAsync(getPartnerByIdUseCase, () -> getPartnerByIdUseCase.execute(new GetPartnerByIdUseCase.Input(id)))
+                .thenApply(output -> output.orElse(null));
     }
 
 }
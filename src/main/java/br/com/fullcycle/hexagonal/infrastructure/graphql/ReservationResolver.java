@@ -0,0 +1,50 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.application.usecases.event.GetReservationByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.QueueSubscriptionUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
+import org.springframework.context.annotation.Profile;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Objects;
+
+@Controller
+@Profile("!reactive")
+public class ReservationResolver {
+
+    private final QueueSubscriptionUseCase queueSubscriptionUseCase;
+    private final GetReservationByIdUseCase getReservationByIdUseCase;
+    private final WaitingRoom waitingRoom;
+    private final UseCaseLimiter useCaseLimiter;
+
+    public ReservationResolver(
+            final QueueSubscriptionUseCase queueSubscriptionUseCase,
+            final GetReservationByIdUseCase getReservationByIdUseCase,
+            final WaitingRoom waitingRoom,
+            final UseCaseLimiter useCaseLimiter
+    ) {
+        this.queueSubscriptionUseCase = Objects.requireNonNull(queueSubscriptionUseCase);
+        this.getReservationByIdUseCase = Objects.requireNonNull(getReservationByIdUseCase);
+        this.waitingRoom = Objects.requireNonNull(waitingRoom);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+    }
+
+    @MutationMapping
+    public QueueSubscriptionUseCase.Output queueSubscription(@Argument SubscribeDTO input, @Argument String waitingRoomToken) {
+        return waitingRoom.admit(waitingRoomToken, input.eventId(), input.customerId(), () ->
+                useCaseLimiter.execute(queueSubscriptionUseCase, () ->
+                        queueSubscriptionUseCase.execute(new QueueSubscriptionUseCase.Input(input.customerId(), input.eventId()))));
+    }
+
+    @QueryMapping
+    public GetReservationByIdUseCase.Output reservationOfId(@Argument String id) {
+        return useCaseLimiter.execute(getReservationByIdUseCase, () -> getReservationByIdUseCase.execute(new GetReservationByIdUseCase.Input(id)))
+                .orElse(null);
+    }
+
+}
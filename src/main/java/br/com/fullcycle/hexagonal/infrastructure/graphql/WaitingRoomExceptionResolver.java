@@ -0,0 +1,33 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.AdmissionDeniedException;
+import graphql.GraphQLError;
+import graphql.GraphqlErrorBuilder;
+import graphql.schema.DataFetchingEnvironment;
+import org.springframework.graphql.execution.DataFetcherExceptionResolverAdapter;
+import org.springframework.graphql.execution.ErrorType;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+// Recusa da sala de espera vira erro FORBIDDEN; quem chegou antes da vez recebe retryAfterSeconds nas extensions
+@Component
+public class WaitingRoomExceptionResolver extends DataFetcherExceptionResolverAdapter {
+
+    @Override
+    protected GraphQLError resolveToSingleError(final Throwable ex, final DataFetchingEnvironment env) {
+        if (!(ex instanceof AdmissionDeniedException denied)) {
+            return null;
+        }
+
+        final var error = GraphqlErrorBuilder.newError(env)
+                .errorType(ErrorType.FORBIDDEN)
+                .message(denied.getMessage());
+
+        if (denied.isEarly()) {
+            error.extensions(Map.of("retryAfterSeconds", denied.retryAfterSeconds()));
+        }
+
+        return error.build();
+    }
+}
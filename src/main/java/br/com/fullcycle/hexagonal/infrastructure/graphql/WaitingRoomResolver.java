@@ -0,0 +1,32 @@
+package br.com.fullcycle.hexagonal.infrastructure.graphql;
+
+import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
+import org.springframework.graphql.data.method.annotation.Argument;
+import org.springframework.graphql.data.method.annotation.MutationMapping;
+import org.springframework.graphql.data.method.annotation.QueryMapping;
+import org.springframework.stereotype.Controller;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+@Controller
+public class WaitingRoomResolver {
+
+    private final WaitingRoom waitingRoom;
+
+    public WaitingRoomResolver(final WaitingRoom waitingRoom) {
+        this.waitingRoom = Objects.requireNonNull(waitingRoom);
+    }
+
+    @MutationMapping
+    public CompletableFuture<WaitingRoom.Ticket> enterWaitingRoom(@Argument SubscribeDTO input) {
+        return waitingRoom.enter(input.eventId(), input.customerId());
+    }
+
+    @QueryMapping
+    public WaitingRoom.Ticket waitingRoomTicket(@Argument String token) {
+        return waitingRoom.statusOf(token);
+    }
+
+}
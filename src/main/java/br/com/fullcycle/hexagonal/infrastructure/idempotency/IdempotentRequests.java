@@ -0,0 +1,107 @@
+package br.com.fullcycle.hexagonal.infrastructure.idempotency;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.caching.LruCache;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Pedidos com Idempotency-Key: a primeira chamada com a chave executa o caso de uso e o Output fica guardado até o ttl.
+// Repetições recebem o mesmo Output sem executar de novo; as que chegam enquanto a primeira ainda roda esperam por ela.
+// Falhas não ficam guardadas, para que o cliente possa tentar de novo com a mesma chave.
+// A chave vale por caso de uso e só para o mesmo Input; as chaves ficam na memória de cada instância.
+// As execuções em andamento ficam num mapa à parte, sem limite de tamanho nem ttl (o número delas é limitado pelos
+// limites de concorrência dos casos de uso), e só vão para o LRU quando terminam com sucesso: o limite do LRU nunca
+// descarta uma chave ainda em execução, e o cache só conta nas métricas a consulta de quem chega com a chave.
+public class IdempotentRequests {
+
+    public static final String KEY_HEADER = "Idempotency-Key";
+
+    private final Map<Key, Execution> inFlight;
+    private final LruCache<Key, Execution> completed;
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter coalesced;
+
+    public IdempotentRequests(final int maximumSize, final Duration ttl, final MeterRegistry meterRegistry) {
+        this.inFlight = new ConcurrentHashMap<>();
+        this.completed = new LruCache<>("idempotency.keys", maximumSize, ttl, meterRegistry);
+        this.executed = meterRegistry.counter("idempotency.requests", "result", "executed");
+        this.replayed = meterRegistry.counter("idempotency.requests", "result", "replayed");
+        this.coalesced = meterRegistry.counter("idempotency.requests", "result", "coalesced");
+    }
+
+    @SuppressWarnings("unchecked")
+    public <I, O> CompletableFuture<O> execute(
+            final Object useCase,
+            final String idempotencyKey,
+            final I input,
+            final Supplier<CompletableFuture<O>> invocation
+    ) {
+        if (idempotencyKey == null || idempotencyKey.isBlank()) {
+            return invocation.get();
+        }
+
+        final var key = new Key(useCase.getClass().getSimpleName(), idempotencyKey);
+        final var execution = new Execution(input, new CompletableFuture<>());
+
+        final var running = this.inFlight.putIfAbsent(key, execution);
+        if (running != null) {
+            return (CompletableFuture<O>) joined(running, input, this.coalesced);
+        }
+
+        // A execução concluída entra no LRU antes de sair do mapa, então quem conseguiu a chave aqui já a encontra
+        final var done = this.completed.get(key);
+        if (done != null) {
+            this.inFlight.remove(key, execution);
+            return (CompletableFuture<O>) joined(done, input, this.replayed);
+        }
+
+        this.executed.increment();
+        final CompletableFuture<O> output;
+        try {
+            output = invocation.get();
+        } catch (RuntimeException ex) {
+            forget(key, execution, ex);
+            throw ex;
+        }
+
+        output.whenComplete((result, failure) -> {
+            if (failure != null) {
+                forget(key, execution, failure);
+            } else {
+                this.completed.put(key, execution);
+                this.inFlight.remove(key, execution);
+                execution.output().complete(result);
+            }
+        });
+
+        return output;
+    }
+
+    private static CompletableFuture<Object> joined(final Execution existing, final Object input, final Counter counter) {
+        if (!Objects.equals(existing.input(), input)) {
+            return CompletableFuture.failedFuture(new ValidationException("Idempotency key already used for a different request"));
+        }
+
+        counter.increment();
+        return existing.output();
+    }
+
+    private void forget(final Key key, final Execution execution, final Throwable failure) {
+        this.inFlight.remove(key, execution);
+        execution.output().completeExceptionally(failure);
+    }
+
+    private record Key(String useCase, String idempotencyKey) {
+    }
+
+    private record Execution(Object input, CompletableFuture<Object> output) {
+    }
+}
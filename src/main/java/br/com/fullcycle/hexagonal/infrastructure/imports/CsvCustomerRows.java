@@ -0,0 +1,79 @@
+package br.com.fullcycle.hexagonal.infrastructure.imports;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
+
+import java.io.BufferedReader;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+// CSV com cabeçalho (cpf, email e name, em qualquer ordem). Campos podem vir entre aspas, com "" para aspas
+// dentro do valor; quebras de linha dentro de um campo não são aceitas.
+public class CsvCustomerRows extends CustomerRows {
+
+    private final int cpf;
+    private final int email;
+    private final int name;
+
+    public CsvCustomerRows(final BufferedReader reader) {
+        super(reader);
+
+        final var header = readLine();
+        if (header == null) {
+            throw new ValidationException("Empty CSV");
+        }
+
+        final var columns = fieldsOf(header).stream()
+                .map(it -> it.trim().toLowerCase(Locale.ROOT))
+                .toList();
+
+        this.cpf = columns.indexOf("cpf");
+        this.email = columns.indexOf("email");
+        this.name = columns.indexOf("name");
+
+        if (this.cpf < 0 || this.email < 0 || this.name < 0) {
+            throw new ValidationException("CSV header must have cpf, email and name columns");
+        }
+    }
+
+    @Override
+    protected ImportCustomersUseCase.Row parse(final long line, final String text) {
+        final var fields = fieldsOf(text);
+        return new ImportCustomersUseCase.Row(line, fieldAt(fields, cpf), fieldAt(fields, email), fieldAt(fields, name));
+    }
+
+    static List<String> fieldsOf(final String text) {
+        final var fields = new ArrayList<String>();
+        final var field = new StringBuilder();
+        var quoted = false;
+
+        for (int i = 0; i < text.length(); i++) {
+            final var c = text.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < text.length() && text.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+
+        return fields;
+    }
+
+    private static String fieldAt(final List<String> fields, final int index) {
+        return index < fields.size() ? fields.get(index).trim() : null;
+    }
+}
@@ -0,0 +1,66 @@
+package br.com.fullcycle.hexagonal.infrastructure.imports;
+
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+// Lê as linhas do corpo da requisição uma a uma, sob demanda do caso de uso. Linhas em branco são ignoradas,
+// mas contam na numeração, para o relatório apontar a linha do arquivo original.
+public abstract class CustomerRows implements Iterator<ImportCustomersUseCase.Row> {
+
+    private final BufferedReader reader;
+    private long lineNumber;
+    private ImportCustomersUseCase.Row next;
+
+    protected CustomerRows(final BufferedReader reader) {
+        this.reader = Objects.requireNonNull(reader);
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (next != null) {
+            return true;
+        }
+
+        String text;
+        while ((text = readLine()) != null) {
+            if (!text.isBlank()) {
+                next = parse(lineNumber, text);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    public ImportCustomersUseCase.Row next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+
+        final var row = next;
+        next = null;
+        return row;
+    }
+
+    // Linhas que não dão para interpretar viram linhas sem campos, recusadas pela validação do cliente
+    protected abstract ImportCustomersUseCase.Row parse(long line, String text);
+
+    protected String readLine() {
+        try {
+            final var text = reader.readLine();
+            if (text != null) {
+                lineNumber++;
+            }
+            return text;
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
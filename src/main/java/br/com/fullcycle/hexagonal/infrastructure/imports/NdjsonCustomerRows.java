@@ -0,0 +1,30 @@
+package br.com.fullcycle.hexagonal.infrastructure.imports;
+
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.util.Objects;
+
+// Um NewCustomerDTO em JSON por linha
+public class NdjsonCustomerRows extends CustomerRows {
+
+    private final ObjectMapper mapper;
+
+    public NdjsonCustomerRows(final BufferedReader reader, final ObjectMapper mapper) {
+        super(reader);
+        this.mapper = Objects.requireNonNull(mapper);
+    }
+
+    @Override
+    protected ImportCustomersUseCase.Row parse(final long line, final String text) {
+        try {
+            final var dto = mapper.readValue(text, NewCustomerDTO.class);
+            return new ImportCustomersUseCase.Row(line, dto.cpf(), dto.email(), dto.name());
+        } catch (JsonProcessingException ex) {
+            return new ImportCustomersUseCase.Row(line, null, null, null);
+        }
+    }
+}
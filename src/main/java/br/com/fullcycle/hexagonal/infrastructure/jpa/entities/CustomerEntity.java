@@ -4,14 +4,26 @@ import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import org.springframework.data.domain.Persistable;
 
 import java.util.Objects;
 import java.util.UUID;
 
+// cpf e email são únicos no banco (migração V2): é a constraint que barra cadastros duplicados
 @Entity(name = "Customer")
-@Table(name = "customers")
-public class CustomerEntity {
+@Table(
+        name = "customers",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_customers_cpf", columnNames = "cpf"),
+                @UniqueConstraint(name = "uk_customers_email", columnNames = "email")
+        }
+)
+public class CustomerEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -22,6 +34,10 @@ public class CustomerEntity {
 
     private String email;
 
+    // Cadastro novo: grava com persist direto, sem o SELECT que o merge faria antes do insert
+    @Transient
+    private boolean isNew;
+
     public CustomerEntity() {
     }
 
@@ -36,14 +52,32 @@ public class CustomerEntity {
         return new CustomerEntity(UUID.fromString(customer.customerId().value()), customer.name().value(), customer.cpf().value(), customer.email().value());
     }
 
+    public static CustomerEntity newCustomer(final Customer customer) {
+        final var entity = of(customer);
+        entity.isNew = true;
+        return entity;
+    }
+
     public Customer toCustomer() {
         return new Customer(CustomerId.with(this.id.toString()), this.name, this.cpf, this.email);
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
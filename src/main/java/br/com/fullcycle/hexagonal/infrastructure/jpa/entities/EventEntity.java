@@ -1,20 +1,20 @@
 package br.com.fullcycle.hexagonal.infrastructure.jpa.entities;
 
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
-import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
-import jakarta.persistence.CascadeType;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicketRows;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
 import jakarta.persistence.OneToMany;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
+import java.util.function.Consumer;
 
 @Entity(name = "Event")
 @Table(name = "events")
@@ -31,7 +31,13 @@ public class EventEntity {
 
     private UUID partnerId;
 
-    @OneToMany(cascade = CascadeType.ALL, fetch = FetchType.EAGER, mappedBy = "event")
+    private int soldCount;
+
+    @Version
+    private long version;
+
+    // Somente leitura e preguiçosa: os tickets são gravados pela reserva e lidos em páginas pelo repositório
+    @OneToMany(fetch = FetchType.LAZY, mappedBy = "event")
     private Set<EventTicketEntity> tickets;
 
     public EventEntity() {
@@ -56,28 +62,25 @@ public class EventEntity {
                 UUID.fromString(event.partnerId().value())
         );
 
-        event.allTickets().forEach(entity::addTickets);
+        entity.setSoldCount(event.soldCount());
+        entity.setVersion(event.version());
 
         return entity;
     }
 
-    public Event toEvent() {
+    public Event toEvent(final Consumer<EventTicketRows> tickets) {
         return Event.restore(
                 this.id().toString(),
                 this.name(),
                 this.date().format(DateTimeFormatter.ISO_LOCAL_DATE),
                 this.totalSpots(),
                 this.partnerId().toString(),
-                this.tickets().stream()
-                        .map(EventTicketEntity::toEventTicket)
-                        .collect(Collectors.toSet())
+                this.soldCount(),
+                tickets,
+                this.version()
         );
     }
 
-    private void addTickets(final EventTicket ticket) {
-        this.tickets.add(EventTicketEntity.of(this, ticket));
-    }
-
     public UUID id() {
         return id;
     }
@@ -118,6 +121,22 @@ public class EventEntity {
         this.partnerId = partnerId;
     }
 
+    public int soldCount() {
+        return soldCount;
+    }
+
+    public void setSoldCount(int soldCount) {
+        this.soldCount = soldCount;
+    }
+
+    public long version() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
+
     public Set<EventTicketEntity> tickets() {
         return tickets;
     }
@@ -0,0 +1,108 @@
+package br.com.fullcycle.hexagonal.infrastructure.jpa.entities;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+
+import java.time.Instant;
+import java.util.UUID;
+
+// Bloco de vagas de um evento reservado por um nó, com a faixa de ordering que ele pode atribuir
+@Entity(name = "EventSpotLease")
+@Table(name = "events_spot_leases")
+public class EventSpotLeaseEntity {
+
+    @Id
+    private UUID id;
+
+    private UUID eventId;
+
+    private String nodeId;
+
+    private int firstOrdering;
+
+    private int lastOrdering;
+
+    private Instant expiresAt;
+
+    private boolean released;
+
+    public EventSpotLeaseEntity() {
+    }
+
+    public EventSpotLeaseEntity(
+            final UUID id,
+            final UUID eventId,
+            final String nodeId,
+            final int firstOrdering,
+            final int lastOrdering,
+            final Instant expiresAt
+    ) {
+        this.id = id;
+        this.eventId = eventId;
+        this.nodeId = nodeId;
+        this.firstOrdering = firstOrdering;
+        this.lastOrdering = lastOrdering;
+        this.expiresAt = expiresAt;
+    }
+
+    public int spots() {
+        return lastOrdering - firstOrdering + 1;
+    }
+
+    public UUID id() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        this.id = id;
+    }
+
+    public UUID eventId() {
+        return eventId;
+    }
+
+    public void setEventId(UUID eventId) {
+        this.eventId = eventId;
+    }
+
+    public String nodeId() {
+        return nodeId;
+    }
+
+    public void setNodeId(String nodeId) {
+        this.nodeId = nodeId;
+    }
+
+    public int firstOrdering() {
+        return firstOrdering;
+    }
+
+    public void setFirstOrdering(int firstOrdering) {
+        this.firstOrdering = firstOrdering;
+    }
+
+    public int lastOrdering() {
+        return lastOrdering;
+    }
+
+    public void setLastOrdering(int lastOrdering) {
+        this.lastOrdering = lastOrdering;
+    }
+
+    public Instant expiresAt() {
+        return expiresAt;
+    }
+
+    public void setExpiresAt(Instant expiresAt) {
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean released() {
+        return released;
+    }
+
+    public void setReleased(boolean released) {
+        this.released = released;
+    }
+}
@@ -4,27 +4,34 @@ import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
 import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
 import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import org.hibernate.annotations.Immutable;
 
 import java.util.Objects;
 import java.util.UUID;
 
+// Visão somente leitura dos tickets do evento sobre a tabela tickets, gravada apenas por TicketEntity
 @Entity(name = "EventTicket")
-@Table(name = "events_tickets")
+@Immutable
+@Table(name = "tickets")
 public class EventTicketEntity {
 
     @Id
+    @Column(name = "id")
     private UUID ticketId;
 
     private UUID customerId;
 
-    private int ordering;
+    private Integer ordering;
 
     @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "event_id", insertable = false, updatable = false)
     private EventEntity event;
 
     public EventTicketEntity() {
@@ -34,7 +41,7 @@ public class EventTicketEntity {
     public EventTicketEntity(
             final UUID ticketId,
             final UUID customerId,
-            final int ordering,
+            final Integer ordering,
             final EventEntity event
     ) {
         this.ticketId = ticketId;
@@ -43,21 +50,12 @@ public class EventTicketEntity {
         this.event = event;
     }
 
-    public static EventTicketEntity of(final EventEntity event, final EventTicket ev) {
-        return new EventTicketEntity(
-                UUID.fromString(ev.ticketId().value()),
-                UUID.fromString(ev.customerId().value()),
-                ev.ordering(),
-                event
-        );
-    }
-
-    public EventTicket toEventTicket() {
+    public EventTicket toEventTicket(final EventId anEventId) {
         return new EventTicket(
                 TicketId.with(this.ticketId.toString()),
-                EventId.with(this.event.id().toString()),
+                anEventId,
                 CustomerId.with(this.customerId.toString()),
-                this.ordering
+                this.ordering != null ? this.ordering : 0
         );
     }
 
@@ -77,11 +75,11 @@ public class EventTicketEntity {
         this.customerId = customerId;
     }
 
-    public int ordering() {
+    public Integer ordering() {
         return ordering;
     }
 
-    public void setOrdering(int ordering) {
+    public void setOrdering(Integer ordering) {
         this.ordering = ordering;
     }
 
@@ -98,7 +96,7 @@ public class EventTicketEntity {
         if (this == o) return true;
         if (o == null || getClass() != o.getClass()) return false;
         EventTicketEntity that = (EventTicketEntity) o;
-        return ordering == that.ordering && Objects.equals(ticketId, that.ticketId) && Objects.equals(customerId, that.customerId) && Objects.equals(event, that.event);
+        return Objects.equals(ordering, that.ordering) && Objects.equals(ticketId, that.ticketId) && Objects.equals(customerId, that.customerId) && Objects.equals(event, that.event);
     }
 
     @Override
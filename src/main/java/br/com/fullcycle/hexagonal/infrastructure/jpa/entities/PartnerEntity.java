@@ -4,13 +4,25 @@ import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
 import jakarta.persistence.Entity;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import org.springframework.data.domain.Persistable;
 
 import java.util.UUID;
 
+// cnpj e email são únicos no banco (migração V2): é a constraint que barra cadastros duplicados
 @Entity(name = "Partner")
-@Table(name = "partners")
-public class PartnerEntity {
+@Table(
+        name = "partners",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_partners_cnpj", columnNames = "cnpj"),
+                @UniqueConstraint(name = "uk_partners_email", columnNames = "email")
+        }
+)
+public class PartnerEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -21,6 +33,10 @@ public class PartnerEntity {
 
     private String email;
 
+    // Cadastro novo: grava com persist direto, sem o SELECT que o merge faria antes do insert
+    @Transient
+    private boolean isNew;
+
     public PartnerEntity() {
     }
 
@@ -35,14 +51,32 @@ public class PartnerEntity {
         return new PartnerEntity(UUID.fromString(partner.partnerId().value()), partner.name().value(), partner.cnpj().value(), partner.email().value());
     }
 
+    public static PartnerEntity newPartner(final Partner partner) {
+        final var entity = of(partner);
+        entity.isNew = true;
+        return entity;
+    }
+
     public Partner toPartner() {
         return new Partner(PartnerId.with(this.id.toString()), this.name, this.cnpj, this.email);
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
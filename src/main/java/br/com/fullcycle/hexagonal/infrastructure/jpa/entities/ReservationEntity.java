@@ -0,0 +1,148 @@
+package br.com.fullcycle.hexagonal.infrastructure.jpa.entities;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.Reservation;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationId;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import org.springframework.data.domain.Persistable;
+
+import java.time.Instant;
+import java.util.Objects;
+import java.util.UUID;
+
+// Fila dos pedidos de inscrição assíncronos. claimedUntil marca o pedido como entregue a um consumidor até aquele instante
+// e attempts conta as entregas.
+@Entity(name = "Reservation")
+@Table(name = "reservations", indexes = @Index(name = "ix_reservations_claimable", columnList = "status, requested_at, claimed_until"))
+public class ReservationEntity implements Persistable<UUID> {
+
+    @Id
+    private UUID id;
+
+    private UUID customerId;
+
+    private UUID eventId;
+
+    @Enumerated(EnumType.STRING)
+    private ReservationStatus status;
+
+    private UUID ticketId;
+
+    private String error;
+
+    private Instant requestedAt;
+
+    private Instant completedAt;
+
+    private Instant claimedUntil;
+
+    private int attempts;
+
+    // Pedido novo: grava com persist direto, sem o SELECT que o merge faria antes do insert
+    @Transient
+    private boolean isNew;
+
+    public ReservationEntity() {
+    }
+
+    public static ReservationEntity newReservation(final Reservation reservation) {
+        final var entity = new ReservationEntity();
+        entity.id = UUID.fromString(reservation.reservationId().value());
+        entity.customerId = UUID.fromString(reservation.customerId().value());
+        entity.eventId = UUID.fromString(reservation.eventId().value());
+        entity.status = reservation.status();
+        entity.requestedAt = reservation.requestedAt();
+        entity.isNew = true;
+        return entity;
+    }
+
+    public Reservation toReservation() {
+        return new Reservation(
+                ReservationId.with(this.id.toString()),
+                CustomerId.with(this.customerId.toString()),
+                EventId.with(this.eventId.toString()),
+                this.status,
+                this.ticketId != null ? TicketId.with(this.ticketId.toString()) : null,
+                this.error,
+                this.requestedAt,
+                this.completedAt,
+                this.attempts
+        );
+    }
+
+    @Override
+    public UUID getId() {
+        return id;
+    }
+
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
+    public UUID customerId() {
+        return customerId;
+    }
+
+    public UUID eventId() {
+        return eventId;
+    }
+
+    public ReservationStatus status() {
+        return status;
+    }
+
+    public UUID ticketId() {
+        return ticketId;
+    }
+
+    public String error() {
+        return error;
+    }
+
+    public Instant requestedAt() {
+        return requestedAt;
+    }
+
+    public Instant completedAt() {
+        return completedAt;
+    }
+
+    public Instant claimedUntil() {
+        return claimedUntil;
+    }
+
+    public int attempts() {
+        return attempts;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (o == null || getClass() != o.getClass()) return false;
+        ReservationEntity that = (ReservationEntity) o;
+        return Objects.equals(id, that.id);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(id);
+    }
+}
@@ -5,19 +5,30 @@ import br.com.fullcycle.hexagonal.application.domain.event.EventId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.Id;
+import jakarta.persistence.PostLoad;
+import jakarta.persistence.PostPersist;
 import jakarta.persistence.Table;
+import jakarta.persistence.Transient;
+import jakarta.persistence.UniqueConstraint;
+import org.springframework.data.domain.Persistable;
 
 import java.time.Instant;
 import java.util.Objects;
 import java.util.UUID;
 
+// Única linha gravada por reserva: o lado do evento (EventTicketEntity) é uma visão somente leitura desta tabela.
+// O unique garante no banco que duas reservas concorrentes nunca recebam o mesmo ordering no evento.
 @Entity(name = "Ticket")
-@Table(name = "tickets")
-public class TicketEntity {
+@Table(
+        name = "tickets",
+        uniqueConstraints = @UniqueConstraint(name = "uk_events_tickets_event_ordering", columnNames = {"event_id", "ordering"})
+)
+public class TicketEntity implements Persistable<UUID> {
 
     @Id
     private UUID id;
@@ -33,6 +44,14 @@ public class TicketEntity {
 
     private Instant reservedAt;
 
+    // Atribuído na reserva e nunca alterado pelas atualizações do ticket
+    @Column(updatable = false)
+    private Integer ordering;
+
+    // Ticket recém reservado: grava com persist direto, sem o SELECT que o merge faria antes do insert
+    @Transient
+    private boolean isNew;
+
     public TicketEntity() {
     }
 
@@ -63,6 +82,13 @@ public class TicketEntity {
         );
     }
 
+    public static TicketEntity reserved(final Ticket ticket, final int ordering) {
+        final var entity = of(ticket);
+        entity.setOrdering(ordering);
+        entity.isNew = true;
+        return entity;
+    }
+
     public Ticket toTicket() {
         return new Ticket(
                 TicketId.with(this.id.toString()),
@@ -74,10 +100,22 @@ public class TicketEntity {
         );
     }
 
+    @Override
     public UUID getId() {
         return id;
     }
 
+    @Override
+    public boolean isNew() {
+        return isNew;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markNotNew() {
+        this.isNew = false;
+    }
+
     public void setId(UUID id) {
         this.id = id;
     }
@@ -114,6 +152,14 @@ public class TicketEntity {
         this.paidAt = paidAt;
     }
 
+    public Integer ordering() {
+        return ordering;
+    }
+
+    public void setOrdering(Integer ordering) {
+        this.ordering = ordering;
+    }
+
     public Instant getReservedAt() {
         return reservedAt;
     }
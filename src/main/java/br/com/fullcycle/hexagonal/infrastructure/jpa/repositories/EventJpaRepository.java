@@ -1,10 +1,78 @@
 package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
 
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventEntity;
-import org.springframework.data.repository.CrudRepository;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
+import java.util.Optional;
 import java.util.UUID;
 
-public interface EventJpaRepository extends CrudRepository<EventEntity, UUID> {
+public interface EventJpaRepository extends JpaRepository<EventEntity, UUID> {
 
+    // Incrementa o contador apenas enquanto houver vagas: retorna 0 quando o evento está esgotado ou não existe.
+    // O "versioned" também incrementa a versão, invalidando cópias do agregado lidas antes desta reserva.
+    @Transactional
+    @Modifying
+    @Query("update versioned Event e set e.soldCount = e.soldCount + 1 where e.id = :id and e.soldCount < e.totalSpots")
+    int incrementSoldCount(@Param("id") UUID id);
+
+    // Incrementa o contador apenas se ninguém gravou no evento desde a leitura da versão
+    @Transactional
+    @Modifying
+    @Query("update Event e set e.soldCount = e.soldCount + 1, e.version = e.version + 1 where e.id = :id and e.version = :version")
+    int incrementSoldCountAt(@Param("id") UUID id, @Param("version") long version);
+
+    // Usado pelos leases de vagas: soma as vagas reservadas por um nó ou subtrai as devolvidas
+    @Transactional
+    @Modifying
+    @Query("update versioned Event e set e.soldCount = e.soldCount + :spots where e.id = :id")
+    int addSoldCount(@Param("id") UUID id, @Param("spots") int spots);
+
+    @Query("select e.soldCount from Event e where e.id = :id")
+    Optional<Integer> soldCountOf(@Param("id") UUID id);
+
+    // Dados do evento sem os tickets, que são carregados à parte e só quando necessários
+    @Query("""
+            select e.id as id, e.name as name, e.date as date, e.totalSpots as totalSpots,
+                   e.partnerId as partnerId, e.soldCount as soldCount, e.version as version
+            from Event e where e.id = :id
+            """)
+    Optional<Summary> summaryOf(@Param("id") UUID id);
+
+    @Query("select e.soldCount as soldCount, e.totalSpots as totalSpots, e.version as version from Event e where e.id = :id")
+    Optional<Spots> spotsOf(@Param("id") UUID id);
+
+    // Trava a linha do evento até o fim da transação; o valor vem da própria leitura com lock, nunca do snapshot
+    @Query(value = "select sold_count from events where id = :id for update", nativeQuery = true)
+    Optional<Integer> lockSoldCountOf(@Param("id") UUID id);
+
+    interface Summary {
+
+        UUID getId();
+
+        String getName();
+
+        LocalDate getDate();
+
+        int getTotalSpots();
+
+        UUID getPartnerId();
+
+        int getSoldCount();
+
+        long getVersion();
+    }
+
+    interface Spots {
+
+        int getSoldCount();
+
+        int getTotalSpots();
+
+        long getVersion();
+    }
 }
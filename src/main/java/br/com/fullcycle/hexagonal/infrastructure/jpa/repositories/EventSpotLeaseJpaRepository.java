@@ -0,0 +1,28 @@
+package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventSpotLeaseEntity;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface EventSpotLeaseJpaRepository extends JpaRepository<EventSpotLeaseEntity, UUID> {
+
+    @Query("select l from EventSpotLease l where l.eventId = :eventId and l.released = false and l.expiresAt < :before")
+    List<EventSpotLeaseEntity> expiredOf(@Param("eventId") UUID eventId, @Param("before") Instant before);
+
+    @Query("select coalesce(max(l.lastOrdering), 0) from EventSpotLease l where l.eventId = :eventId")
+    int lastOrderingOf(@Param("eventId") UUID eventId);
+
+    // Retorna 0 se o lease já foi devolvido (pelo próprio nó ou recuperado por outro depois de expirar)
+    @Transactional
+    @Modifying
+    @Query("update EventSpotLease l set l.released = true where l.id = :id and l.released = false")
+    int markReleased(@Param("id") UUID id);
+
+}
@@ -0,0 +1,76 @@
+package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventTicketEntity;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+public interface EventTicketJpaRepository extends JpaRepository<EventTicketEntity, UUID> {
+
+    // Não força o flush dos inserts pendentes, para que as reservas de um lote sejam enviadas juntas no commit
+    @QueryHints(@QueryHint(name = "org.hibernate.flushMode", value = "COMMIT"))
+    @Query("select case when count(t) > 0 then true else false end from EventTicket t where t.event.id = :eventId and t.customerId = :customerId")
+    boolean existsByEventIdAndCustomerId(@Param("eventId") UUID eventId, @Param("customerId") UUID customerId);
+
+    @Query("select t.customerId from EventTicket t where t.event.id = :eventId and t.customerId in :customerIds")
+    List<UUID> customersOf(@Param("eventId") UUID eventId, @Param("customerIds") Collection<UUID> customerIds);
+
+    // Página por posição (ordering > after) pelo índice único (event_id, ordering): cada página custa o mesmo,
+    // sem o OFFSET que percorre de novo as linhas já lidas. A projeção não fica no contexto de persistência.
+    @Query("""
+            select t.ticketId as ticketId, t.customerId as customerId, t.ordering as ordering from EventTicket t
+            where t.event.id = :eventId and t.ordering > :after
+            order by t.ordering
+            """)
+    List<TicketRow> ticketsAfter(@Param("eventId") UUID eventId, @Param("after") int after, Pageable page);
+
+    // Tickets gravados antes de existir a posição e sem linha em events_tickets para a migração copiar. Ficam com
+    // ordering 0, como no EventTicketEntity e nos adapters JDBC e R2DBC; sem esta consulta o ordering > :after os pulava.
+    @Query("""
+            select t.ticketId as ticketId, t.customerId as customerId, 0 as ordering from EventTicket t
+            where t.event.id = :eventId and t.ordering is null
+            """)
+    List<TicketRow> ticketsWithoutOrdering(@Param("eventId") UUID eventId);
+
+    // Todas as páginas são lidas na mesma transação somente leitura, então enxergam o mesmo estado dos tickets
+    @Transactional(readOnly = true)
+    default void forEachTicketOf(final UUID eventId, final int pageSize, final Consumer<TicketRow> action) {
+        ticketsWithoutOrdering(eventId).forEach(action);
+
+        var lastSeen = 0;
+        List<TicketRow> page;
+        do {
+            page = ticketsAfter(eventId, lastSeen, PageRequest.of(0, pageSize));
+            page.forEach(action);
+            if (!page.isEmpty()) {
+                lastSeen = page.get(page.size() - 1).getOrdering();
+            }
+        } while (page.size() == pageSize);
+    }
+
+    @Query("select count(t) from EventTicket t where t.event.id = :eventId and t.ordering between :first and :last")
+    long countByOrderingBetween(@Param("eventId") UUID eventId, @Param("first") int first, @Param("last") int last);
+
+    @Query("select coalesce(max(t.ordering), 0) from EventTicket t where t.event.id = :eventId")
+    int lastOrderingOf(@Param("eventId") UUID eventId);
+
+    interface TicketRow {
+
+        UUID getTicketId();
+
+        UUID getCustomerId();
+
+        int getOrdering();
+    }
+
+}
@@ -0,0 +1,51 @@
+package br.com.fullcycle.hexagonal.infrastructure.jpa.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.ReservationEntity;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+public interface ReservationJpaRepository extends JpaRepository<ReservationEntity, UUID> {
+
+    @Query("""
+            select r.id from Reservation r
+            where r.status = :status and (r.claimedUntil is null or r.claimedUntil < :now)
+            order by r.requestedAt
+            """)
+    List<UUID> claimableOf(@Param("status") ReservationStatus status, @Param("now") Instant now, Pageable page);
+
+    // Retorna 0 se outro consumidor pegou o pedido entre a leitura e este update. Cada entrega conta uma tentativa.
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reservation r set r.claimedUntil = :until, r.attempts = r.attempts + 1
+            where r.id = :id and r.status = :status and (r.claimedUntil is null or r.claimedUntil < :now)
+            """)
+    int claim(@Param("id") UUID id, @Param("status") ReservationStatus status, @Param("now") Instant now, @Param("until") Instant until);
+
+    // Só conclui pedidos ainda pendentes: retorna 0 se outro consumidor já o concluiu
+    @Transactional
+    @Modifying
+    @Query("""
+            update Reservation r
+            set r.status = :status, r.ticketId = :ticketId, r.error = :error, r.completedAt = :completedAt, r.claimedUntil = null
+            where r.id = :id and r.status = :pending
+            """)
+    int complete(
+            @Param("id") UUID id,
+            @Param("pending") ReservationStatus pending,
+            @Param("status") ReservationStatus status,
+            @Param("ticketId") UUID ticketId,
+            @Param("error") String error,
+            @Param("completedAt") Instant completedAt
+    );
+
+}
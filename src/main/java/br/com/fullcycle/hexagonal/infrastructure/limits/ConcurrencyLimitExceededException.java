@@ -0,0 +1,9 @@
+package br.com.fullcycle.hexagonal.infrastructure.limits;
+
+// Execução recusada antes de chegar ao pool de conexões porque o caso de uso já está no limite de concorrência
+public class ConcurrencyLimitExceededException extends RuntimeException {
+
+    public ConcurrencyLimitExceededException(final String useCase) {
+        super("Too many concurrent requests for " + useCase, null, false, false);
+    }
+}
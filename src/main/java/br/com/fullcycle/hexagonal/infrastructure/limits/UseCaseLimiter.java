@@ -0,0 +1,115 @@
+package br.com.fullcycle.hexagonal.infrastructure.limits;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+// Envolve as chamadas dos adapters (REST e GraphQL) aos casos de uso com um VegasLimit por caso de uso. Acima do
+// limite a chamada é recusada na hora com ConcurrencyLimitExceededException, sem ocupar thread nem conexão.
+// O limite de cada caso de uso é publicado em usecases.concurrency.limit.
+public class UseCaseLimiter {
+
+    private final boolean enabled;
+    private final int initialLimit;
+    private final int minLimit;
+    private final int maxLimit;
+    private final MeterRegistry meterRegistry;
+    private final Map<String, VegasLimit> limits;
+
+    public UseCaseLimiter(
+            final boolean enabled,
+            final int initialLimit,
+            final int minLimit,
+            final int maxLimit,
+            final MeterRegistry meterRegistry
+    ) {
+        this.enabled = enabled;
+        this.initialLimit = initialLimit;
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.meterRegistry = Objects.requireNonNull(meterRegistry);
+        this.limits = new ConcurrentHashMap<>();
+
+        // Valida a configuração já na subida da aplicação
+        new VegasLimit(initialLimit, minLimit, maxLimit);
+    }
+
+    public <T> T execute(final Object useCase, final Supplier<T> invocation) {
+        if (!this.enabled) {
+            return invocation.get();
+        }
+
+        final var limit = acquire(useCase);
+        final var start = System.nanoTime();
+        try {
+            final var output = invocation.get();
+            limit.release(System.nanoTime() - start, false);
+            return output;
+        } catch (RuntimeException ex) {
+            limit.release(System.nanoTime() - start, isDropped(ex));
+            throw ex;
+        }
+    }
+
+    // A permissão fica presa até o futuro completar: a latência medida é a da execução inteira
+    public <T> CompletableFuture<T> executeAsync(final Object useCase, final Supplier<CompletableFuture<T>> invocation) {
+        if (!this.enabled) {
+            return invocation.get();
+        }
+
+        final var limit = acquire(useCase);
+        final var start = System.nanoTime();
+        final CompletableFuture<T> output;
+        try {
+            output = invocation.get();
+        } catch (RuntimeException ex) {
+            limit.release(System.nanoTime() - start, isDropped(ex));
+            throw ex;
+        }
+
+        return output.whenComplete((result, failure) -> limit.release(System.nanoTime() - start, failure != null && isDropped(failure)));
+    }
+
+    public int limitOf(final Object useCase) {
+        final var limit = this.limits.get(nameOf(useCase));
+        return limit != null ? limit.limit() : this.initialLimit;
+    }
+
+    private VegasLimit acquire(final Object useCase) {
+        final var name = nameOf(useCase);
+        final var limit = this.limits.computeIfAbsent(name, this::newLimit);
+        if (!limit.tryAcquire()) {
+            this.meterRegistry.counter("usecases.concurrency.rejected", "usecase", name).increment();
+            throw new ConcurrencyLimitExceededException(name);
+        }
+        return limit;
+    }
+
+    private VegasLimit newLimit(final String name) {
+        final var limit = new VegasLimit(this.initialLimit, this.minLimit, this.maxLimit);
+        Gauge.builder("usecases.concurrency.limit", limit, VegasLimit::limit)
+                .tag("usecase", name)
+                .register(this.meterRegistry);
+        Gauge.builder("usecases.concurrency.inflight", limit, VegasLimit::inFlight)
+                .tag("usecase", name)
+                .register(this.meterRegistry);
+        return limit;
+    }
+
+    private static String nameOf(final Object useCase) {
+        return useCase.getClass().getSimpleName();
+    }
+
+    // Erro de validação é resposta normal do caso de uso; o resto (timeout, conflito, conexão) indica sobrecarga
+    private static boolean isDropped(final Throwable failure) {
+        final var cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+        return !(cause instanceof ValidationException);
+    }
+}
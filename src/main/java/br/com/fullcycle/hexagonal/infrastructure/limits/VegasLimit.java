@@ -0,0 +1,96 @@
+package br.com.fullcycle.hexagonal.infrastructure.limits;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+// Limite de concorrência no estilo TCP Vegas: compara a latência de cada execução com a menor latência vista (sem fila)
+// para estimar quantas execuções estão esperando no banco. Fila pequena: o limite sobe; fila grande ou falha: desce.
+// De tempos em tempos a menor latência é esquecida, para acompanhar o banco quando ele fica mais lento ou mais rápido.
+public class VegasLimit {
+
+    private static final int PROBE_MULTIPLIER = 30;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final AtomicInteger inFlight;
+    private volatile int limit;
+    private double estimatedLimit;
+    private long rttNoLoad;
+    private long sinceProbe;
+
+    public VegasLimit(final int initialLimit, final int minLimit, final int maxLimit) {
+        if (minLimit < 1 || maxLimit < minLimit || initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Concurrency limits must satisfy 1 <= min <= initial <= max");
+        }
+
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.inFlight = new AtomicInteger();
+        this.limit = initialLimit;
+        this.estimatedLimit = initialLimit;
+    }
+
+    public boolean tryAcquire() {
+        for (; ; ) {
+            final var current = this.inFlight.get();
+            if (current >= this.limit) {
+                return false;
+            }
+            if (this.inFlight.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+
+    // dropped: a execução falhou por sobrecarga (timeout, conflito, conexão), não por regra de negócio
+    public void release(final long rttNanos, final boolean dropped) {
+        final var current = this.inFlight.getAndDecrement();
+        update(rttNanos, current, dropped);
+    }
+
+    public int limit() {
+        return this.limit;
+    }
+
+    public int inFlight() {
+        return this.inFlight.get();
+    }
+
+    private synchronized void update(final long rttNanos, final int inFlight, final boolean dropped) {
+        if (rttNanos <= 0) {
+            return;
+        }
+
+        if (this.rttNoLoad == 0 || rttNanos < this.rttNoLoad || ++this.sinceProbe >= PROBE_MULTIPLIER * this.estimatedLimit) {
+            this.rttNoLoad = rttNanos;
+            this.sinceProbe = 0;
+            return;
+        }
+
+        final var log = log10(this.estimatedLimit);
+        final double newLimit;
+        if (dropped) {
+            newLimit = this.estimatedLimit - log;
+        } else if (inFlight * 2 < this.estimatedLimit) {
+            // Pouca carga não diz nada sobre a capacidade: o limite só sobe quando está sendo usado
+            return;
+        } else {
+            final var queue = Math.ceil(this.estimatedLimit * (1 - (double) this.rttNoLoad / rttNanos));
+            if (queue <= log) {
+                newLimit = this.estimatedLimit + 6 * log;
+            } else if (queue < 3 * log) {
+                newLimit = this.estimatedLimit + log;
+            } else if (queue > 6 * log) {
+                newLimit = this.estimatedLimit - log;
+            } else {
+                return;
+            }
+        }
+
+        this.estimatedLimit = Math.max(this.minLimit, Math.min(this.maxLimit, newLimit));
+        this.limit = (int) this.estimatedLimit;
+    }
+
+    private static double log10(final double value) {
+        return Math.max(1, Math.log10(value));
+    }
+}
@@ -0,0 +1,68 @@
+package br.com.fullcycle.hexagonal.infrastructure.r2dbc;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.UniqueKeys;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+// Nenhuma chamada bloqueia: o futuro completa no event loop quando o driver responde
+@Component
+@Profile("reactive")
+public class CustomerR2dbcRepository implements CustomerAsyncRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public CustomerR2dbcRepository(final DatabaseClient databaseClient) {
+        this.databaseClient = Objects.requireNonNull(databaseClient);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Customer>> customerOfId(CustomerId anId) {
+        Objects.requireNonNull(anId, "Customer id cannot be null.");
+        return this.databaseClient.sql("select id, name, cpf, email from customers where id = :id")
+                .bind("id", UUID.fromString(anId.value()))
+                .map(CustomerR2dbcRepository::toCustomer)
+                .first()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Customer> create(Customer customer) {
+        return this.databaseClient.sql("insert into customers (id, name, cpf, email) values (:id, :name, :cpf, :email)")
+                .bind("id", UUID.fromString(customer.customerId().value()))
+                .bind("name", customer.name().value())
+                .bind("cpf", customer.cpf().value())
+                .bind("email", customer.email().value())
+                .then()
+                .onErrorMap(
+                        DataIntegrityViolationException.class,
+                        ex -> UniqueKeys.isViolationOf(ex, "uk_customers_cpf", "uk_customers_email")
+                                ? new ValidationException("Customer already exists")
+                                : ex
+                )
+                .thenReturn(customer)
+                .toFuture();
+    }
+
+    private static Customer toCustomer(final Readable row) {
+        return new Customer(
+                CustomerId.with(row.get("id", UUID.class).toString()),
+                row.get("name", String.class),
+                row.get("cpf", String.class),
+                row.get("email", String.class)
+        );
+    }
+}
@@ -0,0 +1,229 @@
+package br.com.fullcycle.hexagonal.infrastructure.r2dbc;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicketRows;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.reactive.TransactionalOperator;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Collectors;
+
+// Mesma modelagem do adapter JPA: a linha do evento guarda sold_count e version, e cada reserva grava só o seu ticket.
+// A reserva usa o incremento condicional de sold_count (estratégia COUNTER), que não precisa de lanes nem de locks.
+@Component
+@Profile("reactive")
+public class EventR2dbcRepository implements EventAsyncRepository {
+
+    private final DatabaseClient databaseClient;
+    private final TransactionalOperator transactionalOperator;
+
+    public EventR2dbcRepository(final DatabaseClient databaseClient, final TransactionalOperator transactionalOperator) {
+        this.databaseClient = Objects.requireNonNull(databaseClient);
+        this.transactionalOperator = Objects.requireNonNull(transactionalOperator);
+    }
+
+    // Como no adapter JPA, os tickets só são lidos se alguém acessar a lista; os casos de uso assíncronos usam só o id.
+    // O Reactor recusa o block() nas threads do event loop, então essa leitura sob demanda nunca trava o loop:
+    // ela falha ali e só roda em threads que podem bloquear (testes, scripts).
+    @Override
+    public CompletableFuture<Optional<Event>> eventOfId(EventId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        return this.databaseClient.sql("""
+                        select id, name, date, total_spots, partner_id, sold_count, version
+                        from events where id = :id
+                        """)
+                .bind("id", UUID.fromString(anId.value()))
+                .map(row -> Event.restore(
+                        row.get("id", UUID.class).toString(),
+                        row.get("name", String.class),
+                        row.get("date", LocalDate.class).format(DateTimeFormatter.ISO_LOCAL_DATE),
+                        row.get("total_spots", Integer.class),
+                        row.get("partner_id", UUID.class).toString(),
+                        row.get("sold_count", Integer.class),
+                        rows -> ticketsOf(anId, rows).block(),
+                        row.get("version", Long.class)
+                ))
+                .first()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Event> create(Event event) {
+        return this.databaseClient.sql("""
+                        insert into events (id, name, date, total_spots, partner_id, sold_count, version)
+                        values (:id, :name, :date, :totalSpots, :partnerId, :soldCount, :version)
+                        """)
+                .bind("id", UUID.fromString(event.eventId().value()))
+                .bind("name", event.name().value())
+                .bind("date", event.date())
+                .bind("totalSpots", event.totalSpots())
+                .bind("partnerId", UUID.fromString(event.partnerId().value()))
+                .bind("soldCount", event.soldCount())
+                .bind("version", event.version())
+                .then()
+                .thenReturn(event)
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Ticket> reserveTicket(EventId anId, CustomerId aCustomerId) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        Objects.requireNonNull(aCustomerId, "Customer id cannot be null.");
+
+        final var eventId = UUID.fromString(anId.value());
+        final var customerId = UUID.fromString(aCustomerId.value());
+        final var ticket = Ticket.newTicket(aCustomerId, anId);
+
+        final var reservation = hasTicket(eventId, customerId)
+                .flatMap(registered -> registered
+                        ? Mono.<Long>error(new ValidationException("Email already registered"))
+                        : incrementSoldCount(eventId))
+                .flatMap(updated -> updated == 0 ? notReserved(eventId) : soldCountOf(eventId))
+                .flatMap(ordering -> R2dbcTickets.bindTicket(this.databaseClient.sql("""
+                                insert into tickets (id, customer_id, event_id, status, paid_at, reserved_at, ordering)
+                                values (:id, :customerId, :eventId, :status, :paidAt, :reservedAt, :ordering)
+                                """), ticket)
+                        .bind("ordering", ordering)
+                        .then())
+                .thenReturn(ticket);
+
+        return this.transactionalOperator.transactional(reservation).toFuture();
+    }
+
+    // O lock na linha do evento segura as reservas individuais até o commit; os tickets são inseridos em sequência
+    // na mesma transação, já que o DatabaseClient não agrupa inserts em lote
+    @Override
+    public CompletableFuture<List<GroupReservation.Result>> reserveTickets(EventId anId, List<CustomerId> customerIds, boolean allOrNothing) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        Objects.requireNonNull(customerIds, "Customer ids cannot be null.");
+
+        final var eventId = UUID.fromString(anId.value());
+
+        final var reservation = lockSpotsOf(eventId)
+                .switchIfEmpty(Mono.error(new ValidationException("Event not found")))
+                .flatMap(spots -> registeredOf(eventId, customerIds)
+                        .map(registered -> GroupReservation.plan(anId, customerIds, registered, spots[1] - spots[0], allOrNothing))
+                        .flatMap(plan -> insertTickets(eventId, plan.newTickets(), spots[0]).thenReturn(plan.results())));
+
+        return this.transactionalOperator.transactional(reservation).toFuture();
+    }
+
+    private Mono<Boolean> hasTicket(final UUID eventId, final UUID customerId) {
+        return this.databaseClient.sql("select count(*) as total from tickets where event_id = :eventId and customer_id = :customerId")
+                .bind("eventId", eventId)
+                .bind("customerId", customerId)
+                .map(row -> row.get("total", Long.class) > 0)
+                .one();
+    }
+
+    private Mono<int[]> lockSpotsOf(final UUID eventId) {
+        return this.databaseClient.sql("select sold_count, total_spots from events where id = :id for update")
+                .bind("id", eventId)
+                .map(row -> new int[]{row.get("sold_count", Integer.class), row.get("total_spots", Integer.class)})
+                .one();
+    }
+
+    private Mono<Set<CustomerId>> registeredOf(final UUID eventId, final List<CustomerId> customerIds) {
+        if (customerIds.isEmpty()) {
+            return Mono.just(Set.of());
+        }
+
+        return this.databaseClient.sql("select customer_id from tickets where event_id = :eventId and customer_id in (:customerIds)")
+                .bind("eventId", eventId)
+                .bind("customerIds", customerIds.stream().map(it -> UUID.fromString(it.value())).toList())
+                .map(row -> CustomerId.with(row.get("customer_id", UUID.class).toString()))
+                .all()
+                .collect(Collectors.toSet());
+    }
+
+    private Mono<Integer> lastOrderingOf(final UUID eventId) {
+        return this.databaseClient.sql("select coalesce(max(ordering), 0) as last_ordering from tickets where event_id = :eventId")
+                .bind("eventId", eventId)
+                .map(row -> row.get("last_ordering", Integer.class))
+                .one();
+    }
+
+    // As posições começam depois do maior entre o sold_count e o último ticket gravado
+    private Mono<Void> insertTickets(final UUID eventId, final List<Ticket> tickets, final int soldCount) {
+        if (tickets.isEmpty()) {
+            return Mono.empty();
+        }
+
+        return lastOrderingOf(eventId).flatMap(lastOrdering -> {
+            final var first = Math.max(soldCount, lastOrdering) + 1;
+            final var inserts = Flux.range(0, tickets.size())
+                    .concatMap(i -> R2dbcTickets.bindTicket(this.databaseClient.sql("""
+                                    insert into tickets (id, customer_id, event_id, status, paid_at, reserved_at, ordering)
+                                    values (:id, :customerId, :eventId, :status, :paidAt, :reservedAt, :ordering)
+                                    """), tickets.get(i))
+                            .bind("ordering", first + i)
+                            .then());
+
+            return this.databaseClient.sql("update events set sold_count = sold_count + :spots, version = version + 1 where id = :id")
+                    .bind("spots", tickets.size())
+                    .bind("id", eventId)
+                    .then()
+                    .thenMany(inserts)
+                    .then();
+        });
+    }
+
+    private Mono<Long> incrementSoldCount(final UUID eventId) {
+        return this.databaseClient.sql("""
+                        update events set sold_count = sold_count + 1, version = version + 1
+                        where id = :id and sold_count < total_spots
+                        """)
+                .bind("id", eventId)
+                .fetch()
+                .rowsUpdated();
+    }
+
+    private Mono<Integer> soldCountOf(final UUID eventId) {
+        return this.databaseClient.sql("select sold_count from events where id = :id")
+                .bind("id", eventId)
+                .map(row -> row.get("sold_count", Integer.class))
+                .one();
+    }
+
+    private Mono<Integer> notReserved(final UUID eventId) {
+        return this.databaseClient.sql("select count(*) as total from events where id = :id")
+                .bind("id", eventId)
+                .map(row -> row.get("total", Long.class) > 0)
+                .one()
+                .flatMap(exists -> Mono.error(exists
+                        ? new ValidationException("Event sold out")
+                        : new ValidationException("Event not found")));
+    }
+
+    // A Row só vale dentro do map, então cada linha é entregue ao armazenamento compacto do evento ali mesmo
+    private Mono<Void> ticketsOf(final EventId anId, final EventTicketRows rows) {
+        return this.databaseClient.sql("select id, customer_id, ordering from tickets where event_id = :eventId order by ordering")
+                .bind("eventId", UUID.fromString(anId.value()))
+                .map(row -> {
+                    final var ordering = row.get("ordering", Integer.class);
+                    rows.add(row.get("id", UUID.class).toString(), row.get("customer_id", UUID.class).toString(), ordering != null ? ordering : 0);
+                    return Boolean.TRUE;
+                })
+                .all()
+                .then();
+    }
+}
@@ -0,0 +1,67 @@
+package br.com.fullcycle.hexagonal.infrastructure.r2dbc;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerAsyncRepository;
+import br.com.fullcycle.hexagonal.infrastructure.repositories.UniqueKeys;
+import io.r2dbc.spi.Readable;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+
+@Component
+@Profile("reactive")
+public class PartnerR2dbcRepository implements PartnerAsyncRepository {
+
+    private final DatabaseClient databaseClient;
+
+    public PartnerR2dbcRepository(final DatabaseClient databaseClient) {
+        this.databaseClient = Objects.requireNonNull(databaseClient);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Partner>> partnerOfId(PartnerId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        return this.databaseClient.sql("select id, name, cnpj, email from partners where id = :id")
+                .bind("id", UUID.fromString(anId.value()))
+                .map(PartnerR2dbcRepository::toPartner)
+                .first()
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .toFuture();
+    }
+
+    @Override
+    public CompletableFuture<Partner> create(Partner partner) {
+        return this.databaseClient.sql("insert into partners (id, name, cnpj, email) values (:id, :name, :cnpj, :email)")
+                .bind("id", UUID.fromString(partner.partnerId().value()))
+                .bind("name", partner.name().value())
+                .bind("cnpj", partner.cnpj().value())
+                .bind("email", partner.email().value())
+                .then()
+                .onErrorMap(
+                        DataIntegrityViolationException.class,
+                        ex -> UniqueKeys.isViolationOf(ex, "uk_partners_cnpj", "uk_partners_email")
+                                ? new ValidationException("Partner already exists")
+                                : ex
+                )
+                .thenReturn(partner)
+                .toFuture();
+    }
+
+    private static Partner toPartner(final Readable row) {
+        return new Partner(
+                PartnerId.with(row.get("id", UUID.class).toString()),
+                row.get("name", String.class),
+                row.get("cnpj", String.class),
+                row.get("email", String.class)
+        );
+    }
+}
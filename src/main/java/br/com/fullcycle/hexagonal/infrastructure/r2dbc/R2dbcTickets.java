@@ -0,0 +1,35 @@
+package br.com.fullcycle.hexagonal.infrastructure.r2dbc;
+
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import org.springframework.r2dbc.core.DatabaseClient;
+
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.UUID;
+
+// Os tickets são gravados pela reserva do EventR2dbcRepository; aqui fica só o mapeamento das colunas
+final class R2dbcTickets {
+
+    private R2dbcTickets() {
+    }
+
+    static DatabaseClient.GenericExecuteSpec bindTicket(final DatabaseClient.GenericExecuteSpec spec, final Ticket ticket) {
+        return bindInstant(bindInstant(spec, "paidAt", ticket.paidAt()), "reservedAt", ticket.reservedAt())
+                .bind("id", UUID.fromString(ticket.ticketId().value()))
+                .bind("customerId", UUID.fromString(ticket.customerId().value()))
+                .bind("eventId", UUID.fromString(ticket.eventId().value()))
+                .bind("status", ticket.status().name());
+    }
+
+    // Instant não faz parte dos tipos obrigatórios do R2DBC; OffsetDateTime em UTC é suportado pelos drivers
+    private static DatabaseClient.GenericExecuteSpec bindInstant(
+            final DatabaseClient.GenericExecuteSpec spec,
+            final String name,
+            final Instant value
+    ) {
+        return value != null
+                ? spec.bind(name, value.atOffset(ZoneOffset.UTC))
+                : spec.bindNull(name, OffsetDateTime.class);
+    }
+}
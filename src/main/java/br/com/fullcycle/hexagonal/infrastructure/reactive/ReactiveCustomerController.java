@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.infrastructure.reactive;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Objects;
+
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "customers")
+public class ReactiveCustomerController {
+
+    private final CreateCustomerAsyncUseCase createCustomerUseCase;
+    private final GetCustomerByIdAsyncUseCase getCustomerByIdUseCase;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
+
+    public ReactiveCustomerController(
+            final CreateCustomerAsyncUseCase createCustomerUseCase,
+            final GetCustomerByIdAsyncUseCase getCustomerByIdUseCase,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests
+    ) {
+        this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
+        this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<?>> create(
+            @RequestBody NewCustomerDTO dto,
+            @RequestHeader(value = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        final var input = new CreateCustomerUseCase.Input(dto.cpf(), dto.email(), dto.name());
+        return Mono.fromFuture(() -> idempotentRequests.execute(createCustomerUseCase, idempotencyKey, input, () ->
+                        useCaseLimiter.executeAsync(createCustomerUseCase, () -> createCustomerUseCase.execute(input))))
+                .<ResponseEntity<?>>map(output -> ResponseEntity.created(URI.create("/customers/" + output.id())).body(output))
+                .onErrorResume(ValidationException.class, ex -> Mono.just(ResponseEntity.unprocessableEntity().body(ex.getMessage())));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> get(@PathVariable String id) {
+        return Mono.fromFuture(() -> useCaseLimiter.executeAsync(getCustomerByIdUseCase, () -> getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id))))
+                .map(output -> output.<ResponseEntity<?>>map(ResponseEntity::ok)
+                        .orElseGet(ResponseEntity.notFound()::build));
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.fullcycle.hexagonal.infrastructure.reactive;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.BulkSubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import br.com.fullcycle.hexagonal.infrastructure.rest.WaitingRoomResponses;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.AdmissionDeniedException;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Objects;
+
+import static org.springframework.http.HttpStatus.CONFLICT;
+
+// Adapter
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "events")
+public class ReactiveEventController {
+
+    private final CreateEventAsyncUseCase createEventUseCase;
+    private final SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventUseCase;
+    private final SubscribeCustomersToEventAsyncUseCase subscribeCustomersToEventUseCase;
+    private final WaitingRoom waitingRoom;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
+
+    public ReactiveEventController(
+            final CreateEventAsyncUseCase createEventUseCase,
+            final SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventUseCase,
+            final SubscribeCustomersToEventAsyncUseCase subscribeCustomersToEventUseCase,
+            final WaitingRoom waitingRoom,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests
+    ) {
+        this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
+        this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.subscribeCustomersToEventUseCase = Objects.requireNonNull(subscribeCustomersToEventUseCase);
+        this.waitingRoom = Objects.requireNonNull(waitingRoom);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<?>> create(@RequestBody NewEventDTO dto) {
+        return Mono.fromFuture(() -> useCaseLimiter.executeAsync(createEventUseCase, () ->
+                        createEventUseCase.execute(new CreateEventUseCase.Input(dto.date(), dto.name(), dto.partnerId(), dto.totalSpots()))))
+                .<ResponseEntity<?>>map(output -> ResponseEntity.created(URI.create("/events/" + output.id())).body(output))
+                .onErrorResume(ValidationException.class, ex -> Mono.just(ResponseEntity.unprocessableEntity().body(ex.getMessage())));
+    }
+
+    @PostMapping(value = "/{id}/subscribe")
+    public Mono<ResponseEntity<?>> subscribe(
+            @PathVariable String id,
+            @RequestBody SubscribeDTO dto,
+            @RequestHeader(value = WaitingRoom.TOKEN_HEADER, required = false) String waitingRoomToken,
+            @RequestHeader(value = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        // Como no EventController, a senha só é gasta por quem executa, não pelas repetições da mesma Idempotency-Key
+        final var input = new SubscribeCustomerToEventUseCase.Input(dto.customerId(), id);
+        return Mono.fromFuture(() -> idempotentRequests.execute(subscribeCustomerToEventUseCase, idempotencyKey, input, () ->
+                        waitingRoom.admitAsync(waitingRoomToken, id, dto.customerId(), () ->
+                                useCaseLimiter.executeAsync(subscribeCustomerToEventUseCase, () -> subscribeCustomerToEventUseCase.execute(input)))))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(AdmissionDeniedException.class, ex -> Mono.just(WaitingRoomResponses.denied(ex)))
+                .onErrorResume(ValidationException.class, ex -> Mono.just(ResponseEntity.unprocessableEntity().body(ex.getMessage())))
+                .onErrorResume(ConcurrencyFailureException.class, ex -> Mono.just(ResponseEntity.status(CONFLICT).body("Event is busy, try again")));
+    }
+
+    @PostMapping(value = "/{id}/subscribe/bulk")
+    public Mono<ResponseEntity<?>> subscribeAll(@PathVariable String id, @RequestBody BulkSubscribeDTO dto) {
+        return Mono.fromFuture(() -> useCaseLimiter.executeAsync(subscribeCustomersToEventUseCase, () -> subscribeCustomersToEventUseCase.execute(
+                        new SubscribeCustomersToEventUseCase.Input(id, dto.customerIds(), dto.isAllOrNothing()))))
+                .<ResponseEntity<?>>map(ResponseEntity::ok)
+                .onErrorResume(ValidationException.class, ex -> Mono.just(ResponseEntity.unprocessableEntity().body(ex.getMessage())))
+                .onErrorResume(ConcurrencyFailureException.class, ex -> Mono.just(ResponseEntity.status(CONFLICT).body("Event is busy, try again")));
+    }
+}
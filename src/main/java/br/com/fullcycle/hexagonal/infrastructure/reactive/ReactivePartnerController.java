@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.infrastructure.reactive;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdAsyncUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.NewPartnerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.net.URI;
+import java.util.Objects;
+
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "partners")
+public class ReactivePartnerController {
+
+    private final CreatePartnerAsyncUseCase createPartnerUseCase;
+    private final GetPartnerByIdAsyncUseCase getPartnerByIdUseCase;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
+
+    public ReactivePartnerController(
+            final CreatePartnerAsyncUseCase createPartnerUseCase,
+            final GetPartnerByIdAsyncUseCase getPartnerByIdUseCase,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests
+    ) {
+        this.createPartnerUseCase = Objects.requireNonNull(createPartnerUseCase);
+        this.getPartnerByIdUseCase = Objects.requireNonNull(getPartnerByIdUseCase);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<?>> create(
+            @RequestBody NewPartnerDTO dto,
+            @RequestHeader(value = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        final var input = new CreatePartnerUseCase.Input(dto.cnpj(), dto.email(), dto.name());
+        return Mono.fromFuture(() -> idempotentRequests.execute(createPartnerUseCase, idempotencyKey, input, () ->
+                        useCaseLimiter.executeAsync(createPartnerUseCase, () -> createPartnerUseCase.execute(input))))
+                .<ResponseEntity<?>>map(output -> ResponseEntity.created(URI.create("/partners/" + output.id())).body(output))
+                .onErrorResume(ValidationException.class, ex -> Mono.just(ResponseEntity.unprocessableEntity().body(ex.getMessage())));
+    }
+
+    @GetMapping("/{id}")
+    public Mono<ResponseEntity<?>> get(@PathVariable String id) {
+        return Mono.fromFuture(() -> useCaseLimiter.executeAsync(getPartnerByIdUseCase, () -> getPartnerByIdUseCase.execute(new GetPartnerByIdUseCase.Input(id))))
+                .map(output -> output.<ResponseEntity<?>>map(ResponseEntity::ok)
+                        .orElseGet(ResponseEntity.notFound()::build));
+    }
+}
@@ -0,0 +1,49 @@
+package br.com.fullcycle.hexagonal.infrastructure.reactive;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.rest.WaitingRoomResponses;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.AdmissionDeniedException;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import reactor.core.publisher.Mono;
+
+import java.util.Objects;
+
+import static org.springframework.http.HttpStatus.CREATED;
+
+// A sala de espera só usa memória e relógio: responde direto no event loop. Só a primeira entrada de um evento vai
+// ao banco, pelo EventAsyncRepository, para conferir que ele existe.
+@RestController
+@Profile("reactive")
+@RequestMapping(value = "events/{id}/waiting-room")
+public class ReactiveWaitingRoomController {
+
+    private final WaitingRoom waitingRoom;
+
+    public ReactiveWaitingRoomController(final WaitingRoom waitingRoom) {
+        this.waitingRoom = Objects.requireNonNull(waitingRoom);
+    }
+
+    @PostMapping
+    public Mono<ResponseEntity<?>> enter(@PathVariable String id, @RequestBody SubscribeDTO dto) {
+        return Mono.fromFuture(() -> waitingRoom.enter(id, dto.customerId()))
+                .<ResponseEntity<?>>map(ticket -> ResponseEntity.status(CREATED).body(ticket))
+                .onErrorResume(ValidationException.class, ex -> Mono.just(ResponseEntity.unprocessableEntity().body(ex.getMessage())));
+    }
+
+    @GetMapping
+    public Mono<ResponseEntity<?>> status(@PathVariable String id, @RequestHeader(WaitingRoom.TOKEN_HEADER) String token) {
+        return Mono.fromCallable(() -> waitingRoom.statusOf(token))
+                .<ResponseEntity<?>>map(ticket -> ticket.eventId().equalsIgnoreCase(id) ? ResponseEntity.ok(ticket) : ResponseEntity.notFound().build())
+                .onErrorResume(AdmissionDeniedException.class, ex -> Mono.just(WaitingRoomResponses.denied(ex)));
+    }
+}
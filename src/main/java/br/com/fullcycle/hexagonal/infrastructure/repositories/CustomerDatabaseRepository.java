@@ -4,9 +4,13 @@ import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.CustomerEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.CustomerJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +19,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "repositories.adapter", havingValue = "jpa", matchIfMissing = true)
 public class CustomerDatabaseRepository implements CustomerRepository {
 
     private final CustomerJpaRepository customerJpaRepository;
@@ -47,7 +53,15 @@ public class CustomerDatabaseRepository implements CustomerRepository {
     @Override
     @Transactional
     public Customer create(Customer customer) {
-        return this.customerJpaRepository.save(CustomerEntity.of(customer)).toCustomer();
+        // Um único INSERT; o flush antecipa a violação de cpf ou email duplicado para dentro deste método
+        try {
+            return this.customerJpaRepository.saveAndFlush(CustomerEntity.newCustomer(customer)).toCustomer();
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueKeys.isViolationOf(ex, "uk_customers_cpf", "uk_customers_email")) {
+                throw new ValidationException("Customer already exists");
+            }
+            throw ex;
+        }
     }
 
     @Override
@@ -0,0 +1,65 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerBatchRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Statement;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+
+// Usado pela importação com os dois adapters (jpa e jdbc): o lote vai em um único executeBatch, e o resultado
+// de cada linha sai da contagem do driver. Por isso a URL do MySQL não liga rewriteBatchedStatements,
+// que devolveria SUCCESS_NO_INFO para todas as linhas.
+@Component
+@Profile("!reactive")
+public class CustomerJdbcBatchRepository implements CustomerBatchRepository {
+
+    // insert ignore: cpf ou email já cadastrado não derruba o lote, a linha só volta com contagem 0
+    private static final String INSERT = "insert ignore into customers (id, name, cpf, email) values (:id, :name, :cpf, :email)";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcUuids uuids;
+
+    public CustomerJdbcBatchRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.uuids = JdbcUuids.of(jdbcTemplate);
+    }
+
+    @Override
+    @Transactional
+    public Set<CustomerId> createAll(final List<Customer> customers) {
+        if (customers.isEmpty()) {
+            return Set.of();
+        }
+
+        final var parameters = new SqlParameterSource[customers.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            final var customer = customers.get(i);
+            parameters[i] = new MapSqlParameterSource()
+                    .addValue("id", this.uuids.bind(customer.customerId().value()))
+                    .addValue("name", customer.name().value())
+                    .addValue("cpf", customer.cpf().value())
+                    .addValue("email", customer.email().value());
+        }
+
+        final var counts = this.jdbcTemplate.batchUpdate(INSERT, parameters);
+
+        final var inserted = new HashSet<CustomerId>(customers.size() * 2);
+        for (int i = 0; i < counts.length; i++) {
+            if (counts[i] > 0 || counts[i] == Statement.SUCCESS_NO_INFO) {
+                inserted.add(customers.get(i).customerId());
+            }
+        }
+
+        return inserted;
+    }
+}
@@ -0,0 +1,98 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "repositories.adapter", havingValue = "jdbc")
+public class CustomerJdbcRepository implements CustomerRepository {
+
+    private static final String SELECT = "select id, name, cpf, email from customers";
+
+    private static final RowMapper<Customer> CUSTOMER = (rs, rowNum) -> new Customer(
+            CustomerId.with(JdbcUuids.read(rs, "id")),
+            rs.getString("name"),
+            rs.getString("cpf"),
+            rs.getString("email")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcUuids uuids;
+
+    public CustomerJdbcRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.uuids = JdbcUuids.of(jdbcTemplate);
+    }
+
+    @Override
+    public Optional<Customer> customerOfId(CustomerId anId) {
+        Objects.requireNonNull(anId, "Customer id cannot be null.");
+        return customerWhere("id", this.uuids.bind(anId.value()));
+    }
+
+    @Override
+    public Optional<Customer> customerOfCpf(Cpf cpf) {
+        Objects.requireNonNull(cpf, "Cpf cannot be null.");
+        return customerWhere("cpf", cpf.value());
+    }
+
+    @Override
+    public Optional<Customer> customerOfEmail(Email email) {
+        Objects.requireNonNull(email, "Email cannot be null.");
+        return customerWhere("email", email.value());
+    }
+
+    @Override
+    public Customer create(Customer customer) {
+        try {
+            this.jdbcTemplate.update("insert into customers (id, name, cpf, email) values (:id, :name, :cpf, :email)", parametersOf(customer));
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueKeys.isViolationOf(ex, "uk_customers_cpf", "uk_customers_email")) {
+                throw new ValidationException("Customer already exists");
+            }
+            throw ex;
+        }
+        return customer;
+    }
+
+    @Override
+    public Customer update(Customer customer) {
+        this.jdbcTemplate.update("update customers set name = :name, cpf = :cpf, email = :email where id = :id", parametersOf(customer));
+        return customer;
+    }
+
+    @Override
+    public void deleteAll() {
+        this.jdbcTemplate.getJdbcTemplate().update("delete from customers");
+    }
+
+    // A coluna vem de uma constante da própria classe, nunca da entrada do usuário
+    private Optional<Customer> customerWhere(final String column, final Object value) {
+        return this.jdbcTemplate.query(SELECT + " where " + column + " = :value", new MapSqlParameterSource("value", value), CUSTOMER)
+                .stream()
+                .findFirst();
+    }
+
+    private MapSqlParameterSource parametersOf(final Customer customer) {
+        return new MapSqlParameterSource()
+                .addValue("id", this.uuids.bind(customer.customerId().value()))
+                .addValue("name", customer.name().value())
+                .addValue("cpf", customer.cpf().value())
+                .addValue("email", customer.email().value());
+    }
+}
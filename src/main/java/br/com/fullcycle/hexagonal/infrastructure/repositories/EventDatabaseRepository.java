@@ -1,44 +1,267 @@
 package br.com.fullcycle.hexagonal.infrastructure.repositories;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicketRows;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventEntity;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.TicketEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.TicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategies;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.SpotLeases;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "repositories.adapter", havingValue = "jpa", matchIfMissing = true)
 public class EventDatabaseRepository implements EventRepository {
 
+    private static final Object RESERVED_IN_TRANSACTION = new Object();
+    private static final int TICKETS_PAGE_SIZE = 500;
+
     private final EventJpaRepository eventJpaRepository;
+    private final EventTicketJpaRepository eventTicketJpaRepository;
+    private final TicketJpaRepository ticketJpaRepository;
+    private final ReservationStrategies reservationStrategies;
+    private final SpotLeases spotLeases;
 
-    public EventDatabaseRepository(EventJpaRepository eventJpaRepository) {
+    public EventDatabaseRepository(
+            EventJpaRepository eventJpaRepository,
+            EventTicketJpaRepository eventTicketJpaRepository,
+            TicketJpaRepository ticketJpaRepository,
+            ReservationStrategies reservationStrategies,
+            SpotLeases spotLeases
+    ) {
         this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+        this.eventTicketJpaRepository = Objects.requireNonNull(eventTicketJpaRepository);
+        this.ticketJpaRepository = Objects.requireNonNull(ticketJpaRepository);
+        this.reservationStrategies = Objects.requireNonNull(reservationStrategies);
+        this.spotLeases = Objects.requireNonNull(spotLeases);
     }
 
     @Override
     public Optional<Event> eventOfId(EventId anId) {
         Objects.requireNonNull(anId, "Id cannot be null.");
-        return this.eventJpaRepository.findById(UUID.fromString(anId.value()))
-                .map(EventEntity::toEvent);
+        final var eventId = UUID.fromString(anId.value());
+        return this.eventJpaRepository.summaryOf(eventId)
+                .map(summary -> Event.restore(
+                        summary.getId().toString(),
+                        summary.getName(),
+                        summary.getDate().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                        summary.getTotalSpots(),
+                        summary.getPartnerId().toString(),
+                        summary.getSoldCount(),
+                        rows -> ticketsOf(anId, rows),
+                        summary.getVersion()
+                ));
     }
 
     @Override
     public Event create(Event event) {
-        return this.eventJpaRepository.save(EventEntity.of(event)).toEvent();
+        return this.eventJpaRepository.save(EventEntity.of(event)).toEvent(EventTicketRows.of(event.allTickets()));
     }
 
     @Override
     public Event update(Event event) {
-        return this.eventJpaRepository.save(EventEntity.of(event)).toEvent();
+        // Grava só a linha do evento; os tickets do agregado já foram gravados pela reserva
+        return this.eventJpaRepository.save(EventEntity.of(event)).toEvent(EventTicketRows.of(event.allTickets()));
+    }
+
+    @Override
+    @Transactional(noRollbackFor = ValidationException.class)
+    public Ticket reserveTicket(EventId anId, CustomerId aCustomerId) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        Objects.requireNonNull(aCustomerId, "Customer id cannot be null.");
+
+        final var eventId = UUID.fromString(anId.value());
+        final var customerId = UUID.fromString(aCustomerId.value());
+
+        final var reservedInTransaction = reservedInCurrentTransaction();
+        final var reservation = eventId + ":" + customerId;
+
+        if (reservedInTransaction.contains(reservation)
+                || this.eventTicketJpaRepository.existsByEventIdAndCustomerId(eventId, customerId)) {
+            throw new ValidationException("Email already registered");
+        }
+
+        final var ordering = switch (this.reservationStrategies.strategyOf(anId)) {
+            case COUNTER -> reserveWithCounter(eventId);
+            case OPTIMISTIC -> reserveWithVersion(eventId);
+            case PESSIMISTIC -> reserveWithLock(eventId);
+            case LEASED -> reserveWithLease(eventId);
+        };
+
+        final var ticket = Ticket.newTicket(aCustomerId, anId);
+
+        this.ticketJpaRepository.save(TicketEntity.reserved(ticket, ordering));
+
+        reservedInTransaction.add(reservation);
+
+        return ticket;
+    }
+
+    // Um lock na linha do evento para o grupo todo: as reservas individuais concorrentes esperam o commit.
+    // As posições começam depois de tudo que já foi entregue, inclusive aos blocos de vagas dos nós (LEASED).
+    // Como no reserveTicket, um "Event not found" não marca para rollback a transação do lote da lane onde a reserva roda.
+    @Override
+    @Transactional(noRollbackFor = ValidationException.class)
+    public List<GroupReservation.Result> reserveTickets(EventId anId, List<CustomerId> customerIds, boolean allOrNothing) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        Objects.requireNonNull(customerIds, "Customer ids cannot be null.");
+
+        final var eventId = UUID.fromString(anId.value());
+        final var soldCount = this.eventJpaRepository.lockSoldCountOf(eventId)
+                .orElseThrow(() -> new ValidationException("Event not found"));
+        final var totalSpots = this.eventJpaRepository.spotsOf(eventId)
+                .map(EventJpaRepository.Spots::getTotalSpots)
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        final var registered = customerIds.isEmpty() ? Set.<CustomerId>of() : this.eventTicketJpaRepository
+                .customersOf(eventId, customerIds.stream().map(it -> UUID.fromString(it.value())).toList())
+                .stream()
+                .map(it -> CustomerId.with(it.toString()))
+                .collect(Collectors.toSet());
+
+        final var reservation = GroupReservation.plan(anId, customerIds, registered, totalSpots - soldCount, allOrNothing);
+        final var tickets = reservation.newTickets();
+        if (tickets.isEmpty()) {
+            return reservation.results();
+        }
+
+        var ordering = Math.max(soldCount, Math.max(
+                this.eventTicketJpaRepository.lastOrderingOf(eventId),
+                this.spotLeases.lastOrderingOf(eventId)
+        ));
+
+        final var entities = new ArrayList<TicketEntity>(tickets.size());
+        for (final var ticket : tickets) {
+            entities.add(TicketEntity.reserved(ticket, ++ordering));
+        }
+
+        this.eventJpaRepository.addSoldCount(eventId, tickets.size());
+        // Enviados em lotes de hibernate.jdbc.batch_size no flush
+        this.ticketJpaRepository.saveAll(entities);
+
+        return reservation.results();
+    }
+
+    private int reserveWithCounter(final UUID eventId) {
+        if (this.eventJpaRepository.incrementSoldCount(eventId) == 0) {
+            throw this.eventJpaRepository.existsById(eventId)
+                    ? new ValidationException("Event sold out")
+                    : new ValidationException("Event not found");
+        }
+
+        return this.eventJpaRepository.soldCountOf(eventId)
+                .orElseThrow(() -> new ValidationException("Event not found"));
+    }
+
+    private int reserveWithVersion(final UUID eventId) {
+        final var spots = this.eventJpaRepository.spotsOf(eventId)
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        if (spots.getSoldCount() >= spots.getTotalSpots()) {
+            throw new ValidationException("Event sold out");
+        }
+
+        if (this.eventJpaRepository.incrementSoldCountAt(eventId, spots.getVersion()) == 0) {
+            throw new OptimisticLockingFailureException("Event " + eventId + " was updated by another transaction");
+        }
+
+        return spots.getSoldCount() + 1;
+    }
+
+    private int reserveWithLock(final UUID eventId) {
+        final var soldCount = this.eventJpaRepository.lockSoldCountOf(eventId)
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        final var spots = this.eventJpaRepository.spotsOf(eventId)
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        if (soldCount >= spots.getTotalSpots() || this.eventJpaRepository.incrementSoldCount(eventId) == 0) {
+            throw new ValidationException("Event sold out");
+        }
+
+        return soldCount + 1;
+    }
+
+    private int reserveWithLease(final UUID eventId) {
+        final var spot = this.spotLeases.take(eventId);
+        if (spot == null) {
+            throw this.eventJpaRepository.existsById(eventId)
+                    ? new ValidationException("Event sold out")
+                    : new ValidationException("Event not found");
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        spot.giveBack();
+                    }
+                }
+            });
+        }
+
+        return spot.ordering();
+    }
+
+    // Lê os tickets em páginas por posição, todas na mesma transação somente leitura, e cada linha vai direto para o
+    // armazenamento compacto do evento: só a página atual de linhas fica na memória além dele
+    private void ticketsOf(final EventId anId, final EventTicketRows rows) {
+        this.eventTicketJpaRepository.forEachTicketOf(UUID.fromString(anId.value()), TICKETS_PAGE_SIZE, row ->
+                rows.add(row.getTicketId().toString(), row.getCustomerId().toString(), row.getOrdering()));
     }
 
     @Override
     public void deleteAll() {
+        this.eventTicketJpaRepository.deleteAllInBatch();
         this.eventJpaRepository.deleteAll();
     }
+
+    // Os inserts de um lote só vão para o banco no commit, então as reservas ainda pendentes
+    // da transação atual também contam na verificação de cliente já registrado
+    @SuppressWarnings("unchecked")
+    private Set<String> reservedInCurrentTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return new HashSet<>();
+        }
+
+        var reserved = (Set<String>) TransactionSynchronizationManager.getResource(RESERVED_IN_TRANSACTION);
+        if (reserved == null) {
+            reserved = new HashSet<>();
+            TransactionSynchronizationManager.bindResource(RESERVED_IN_TRANSACTION, reserved);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(RESERVED_IN_TRANSACTION);
+                }
+            });
+        }
+
+        return reserved;
+    }
 }
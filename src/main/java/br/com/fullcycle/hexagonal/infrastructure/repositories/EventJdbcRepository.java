@@ -0,0 +1,306 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicketRows;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategies;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.SpotLeases;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.core.namedparam.SqlParameterSource;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+// Mesmo modelo do adapter JPA (sold_count e version na linha do evento, um ticket por reserva),
+// mas com SQL fixo e mapeamento direto para o domínio, sem contexto de persistência nem dirty checking.
+// Os inserts vão direto para o banco, então reservas do mesmo lote já enxergam os tickets anteriores.
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "repositories.adapter", havingValue = "jdbc")
+public class EventJdbcRepository implements EventRepository {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcUuids uuids;
+    private final ReservationStrategies reservationStrategies;
+    private final SpotLeases spotLeases;
+
+    public EventJdbcRepository(
+            final NamedParameterJdbcTemplate jdbcTemplate,
+            final ReservationStrategies reservationStrategies,
+            final SpotLeases spotLeases
+    ) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.uuids = JdbcUuids.of(jdbcTemplate);
+        this.reservationStrategies = Objects.requireNonNull(reservationStrategies);
+        this.spotLeases = Objects.requireNonNull(spotLeases);
+    }
+
+    @Override
+    public Optional<Event> eventOfId(EventId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        return this.jdbcTemplate.query("""
+                                select id, name, date, total_spots, partner_id, sold_count, version
+                                from events where id = :id
+                                """,
+                        idOf(anId.value()),
+                        (rs, rowNum) -> Event.restore(
+                                JdbcUuids.read(rs, "id"),
+                                rs.getString("name"),
+                                rs.getObject("date", LocalDate.class).format(DateTimeFormatter.ISO_LOCAL_DATE),
+                                rs.getInt("total_spots"),
+                                JdbcUuids.read(rs, "partner_id"),
+                                rs.getInt("sold_count"),
+                                rows -> ticketsOf(anId, rows),
+                                rs.getLong("version")
+                        ))
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Event create(Event event) {
+        this.jdbcTemplate.update("""
+                insert into events (id, name, date, total_spots, partner_id, sold_count, version)
+                values (:id, :name, :date, :totalSpots, :partnerId, :soldCount, :version)
+                """, parametersOf(event));
+        return event;
+    }
+
+    @Override
+    public Event update(Event event) {
+        // Grava só a linha do evento; os tickets do agregado já foram gravados pela reserva
+        final var updated = this.jdbcTemplate.update("""
+                update events
+                set name = :name, date = :date, total_spots = :totalSpots, partner_id = :partnerId,
+                    sold_count = :soldCount, version = version + 1
+                where id = :id and version = :version
+                """, parametersOf(event));
+
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Event " + event.eventId().value() + " was updated by another transaction");
+        }
+
+        return Event.restore(
+                event.eventId().value(),
+                event.name().value(),
+                event.date().format(DateTimeFormatter.ISO_LOCAL_DATE),
+                event.totalSpots(),
+                event.partnerId().value(),
+                event.soldCount(),
+                EventTicketRows.of(event.allTickets()),
+                event.version() + 1
+        );
+    }
+
+    @Override
+    @Transactional(noRollbackFor = ValidationException.class)
+    public Ticket reserveTicket(EventId anId, CustomerId aCustomerId) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        Objects.requireNonNull(aCustomerId, "Customer id cannot be null.");
+
+        final var eventId = idOf(anId.value());
+        final var registered = this.jdbcTemplate.queryForObject(
+                "select count(*) from tickets where event_id = :id and customer_id = :customerId",
+                new MapSqlParameterSource(eventId.getValues()).addValue("customerId", this.uuids.bind(aCustomerId.value())),
+                Long.class
+        );
+
+        if (registered != null && registered > 0) {
+            throw new ValidationException("Email already registered");
+        }
+
+        final var ordering = switch (this.reservationStrategies.strategyOf(anId)) {
+            case COUNTER -> reserveWithCounter(eventId);
+            case OPTIMISTIC -> reserveWithVersion(anId, eventId);
+            case PESSIMISTIC -> reserveWithLock(eventId);
+            case LEASED -> reserveWithLease(anId, eventId);
+        };
+
+        final var ticket = Ticket.newTicket(aCustomerId, anId);
+
+        this.jdbcTemplate.update(TicketJdbcRepository.INSERT, TicketJdbcRepository.parametersOf(this.uuids, ticket, ordering));
+
+        return ticket;
+    }
+
+    // Um lock na linha do evento para o grupo todo e um único executeBatch com os tickets.
+    // As posições começam depois de tudo que já foi entregue, inclusive aos blocos de vagas dos nós (LEASED).
+    // Como no reserveTicket, um "Event not found" não marca para rollback a transação do lote da lane onde a reserva roda.
+    @Override
+    @Transactional(noRollbackFor = ValidationException.class)
+    public List<GroupReservation.Result> reserveTickets(EventId anId, List<CustomerId> customerIds, boolean allOrNothing) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        Objects.requireNonNull(customerIds, "Customer ids cannot be null.");
+
+        final var eventId = idOf(anId.value());
+        final var spots = this.jdbcTemplate.query("select sold_count, total_spots from events where id = :id for update", eventId,
+                        (rs, rowNum) -> new int[]{rs.getInt("sold_count"), rs.getInt("total_spots")})
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        final var registered = customerIds.isEmpty() ? Set.<CustomerId>of() : this.jdbcTemplate.query(
+                        "select customer_id from tickets where event_id = :id and customer_id in (:customerIds)",
+                        new MapSqlParameterSource(eventId.getValues())
+                                .addValue("customerIds", customerIds.stream().map(it -> this.uuids.bind(it.value())).toList()),
+                        (rs, rowNum) -> CustomerId.with(JdbcUuids.read(rs, "customer_id")))
+                .stream()
+                .collect(Collectors.toSet());
+
+        final var reservation = GroupReservation.plan(anId, customerIds, registered, spots[1] - spots[0], allOrNothing);
+        final var tickets = reservation.newTickets();
+        if (tickets.isEmpty()) {
+            return reservation.results();
+        }
+
+        final var lastTicket = this.jdbcTemplate.queryForObject(
+                "select coalesce(max(ordering), 0) from tickets where event_id = :id", eventId, Integer.class);
+        var ordering = Math.max(spots[0], Math.max(
+                lastTicket != null ? lastTicket : 0,
+                this.spotLeases.lastOrderingOf(UUID.fromString(anId.value()))
+        ));
+
+        final var parameters = new SqlParameterSource[tickets.size()];
+        for (int i = 0; i < parameters.length; i++) {
+            parameters[i] = TicketJdbcRepository.parametersOf(this.uuids, tickets.get(i), ++ordering);
+        }
+
+        this.jdbcTemplate.update(
+                "update events set sold_count = sold_count + :spots, version = version + 1 where id = :id",
+                new MapSqlParameterSource(eventId.getValues()).addValue("spots", tickets.size())
+        );
+        this.jdbcTemplate.batchUpdate(TicketJdbcRepository.INSERT, parameters);
+
+        return reservation.results();
+    }
+
+    @Override
+    public void deleteAll() {
+        this.jdbcTemplate.getJdbcTemplate().update("delete from tickets");
+        this.jdbcTemplate.getJdbcTemplate().update("delete from events");
+    }
+
+    private int reserveWithCounter(final MapSqlParameterSource eventId) {
+        final var updated = this.jdbcTemplate.update("""
+                update events set sold_count = sold_count + 1, version = version + 1
+                where id = :id and sold_count < total_spots
+                """, eventId);
+
+        if (updated == 0) {
+            throw notReserved(eventId);
+        }
+
+        return soldCountOf(eventId).orElseThrow(() -> new ValidationException("Event not found"));
+    }
+
+    private int reserveWithVersion(final EventId anId, final MapSqlParameterSource eventId) {
+        final var spots = this.jdbcTemplate.query("select sold_count, total_spots, version from events where id = :id", eventId,
+                        (rs, rowNum) -> new long[]{rs.getInt("sold_count"), rs.getInt("total_spots"), rs.getLong("version")})
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        if (spots[0] >= spots[1]) {
+            throw new ValidationException("Event sold out");
+        }
+
+        final var updated = this.jdbcTemplate.update("""
+                update events set sold_count = sold_count + 1, version = version + 1
+                where id = :id and version = :version
+                """, new MapSqlParameterSource(eventId.getValues()).addValue("version", spots[2]));
+
+        if (updated == 0) {
+            throw new OptimisticLockingFailureException("Event " + anId.value() + " was updated by another transaction");
+        }
+
+        return (int) spots[0] + 1;
+    }
+
+    private int reserveWithLock(final MapSqlParameterSource eventId) {
+        final var spots = this.jdbcTemplate.query("select sold_count, total_spots from events where id = :id for update", eventId,
+                        (rs, rowNum) -> new int[]{rs.getInt("sold_count"), rs.getInt("total_spots")})
+                .stream()
+                .findFirst()
+                .orElseThrow(() -> new ValidationException("Event not found"));
+
+        if (spots[0] >= spots[1]) {
+            throw new ValidationException("Event sold out");
+        }
+
+        this.jdbcTemplate.update("update events set sold_count = sold_count + 1, version = version + 1 where id = :id", eventId);
+
+        return spots[0] + 1;
+    }
+
+    private int reserveWithLease(final EventId anId, final MapSqlParameterSource eventId) {
+        final var spot = this.spotLeases.take(UUID.fromString(anId.value()));
+        if (spot == null) {
+            throw notReserved(eventId);
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        spot.giveBack();
+                    }
+                }
+            });
+        }
+
+        return spot.ordering();
+    }
+
+    private Optional<Integer> soldCountOf(final MapSqlParameterSource eventId) {
+        return this.jdbcTemplate.queryForList("select sold_count from events where id = :id", eventId, Integer.class)
+                .stream()
+                .findFirst();
+    }
+
+    private ValidationException notReserved(final MapSqlParameterSource eventId) {
+        return soldCountOf(eventId).isPresent()
+                ? new ValidationException("Event sold out")
+                : new ValidationException("Event not found");
+    }
+
+    // Lê só as colunas da visão do evento, direto do ResultSet para o armazenamento compacto do evento
+    private void ticketsOf(final EventId anId, final EventTicketRows rows) {
+        this.jdbcTemplate.query("select id, customer_id, ordering from tickets where event_id = :id", idOf(anId.value()), rs -> {
+            rows.add(JdbcUuids.read(rs, "id"), JdbcUuids.read(rs, "customer_id"), rs.getInt("ordering"));
+        });
+    }
+
+    private MapSqlParameterSource idOf(final String anId) {
+        return new MapSqlParameterSource("id", this.uuids.bind(anId));
+    }
+
+    private MapSqlParameterSource parametersOf(final Event event) {
+        return idOf(event.eventId().value())
+                .addValue("name", event.name().value())
+                .addValue("date", event.date())
+                .addValue("totalSpots", event.totalSpots())
+                .addValue("partnerId", this.uuids.bind(event.partnerId().value()))
+                .addValue("soldCount", event.soldCount())
+                .addValue("version", event.version());
+    }
+}
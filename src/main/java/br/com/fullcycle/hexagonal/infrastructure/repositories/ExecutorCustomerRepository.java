@@ -0,0 +1,33 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// Porta assíncrona sobre o repositório bloqueante (JPA ou JDBC): cada chamada roda no executor informado
+public class ExecutorCustomerRepository implements CustomerAsyncRepository {
+
+    private final CustomerRepository customerRepository;
+    private final Executor executor;
+
+    public ExecutorCustomerRepository(final CustomerRepository customerRepository, final Executor executor) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Customer>> customerOfId(final CustomerId anId) {
+        return CompletableFuture.supplyAsync(() -> customerRepository.customerOfId(anId), executor);
+    }
+
+    @Override
+    public CompletableFuture<Customer> create(final Customer customer) {
+        return CompletableFuture.supplyAsync(() -> customerRepository.create(customer), executor);
+    }
+}
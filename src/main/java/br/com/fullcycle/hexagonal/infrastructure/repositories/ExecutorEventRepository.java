@@ -0,0 +1,58 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// Mesma ideia do ExecutorCustomerRepository. A leitura do evento pode ir para um executor próprio, para não esperar
+// na fila atrás das reservas, que seguram a thread enquanto a lane do evento não as executa.
+public class ExecutorEventRepository implements EventAsyncRepository {
+
+    private final EventRepository eventRepository;
+    private final Executor lookupExecutor;
+    private final Executor executor;
+
+    public ExecutorEventRepository(final EventRepository eventRepository, final Executor executor) {
+        this(eventRepository, executor, executor);
+    }
+
+    public ExecutorEventRepository(final EventRepository eventRepository, final Executor lookupExecutor, final Executor executor) {
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.lookupExecutor = Objects.requireNonNull(lookupExecutor);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Event>> eventOfId(final EventId anId) {
+        return CompletableFuture.supplyAsync(() -> eventRepository.eventOfId(anId), lookupExecutor);
+    }
+
+    @Override
+    public CompletableFuture<Event> create(final Event event) {
+        return CompletableFuture.supplyAsync(() -> eventRepository.create(event), executor);
+    }
+
+    @Override
+    public CompletableFuture<Ticket> reserveTicket(final EventId anId, final CustomerId aCustomerId) {
+        return CompletableFuture.supplyAsync(() -> eventRepository.reserveTicket(anId, aCustomerId), executor);
+    }
+
+    @Override
+    public CompletableFuture<List<GroupReservation.Result>> reserveTickets(
+            final EventId anId,
+            final List<CustomerId> customerIds,
+            final boolean allOrNothing
+    ) {
+        return CompletableFuture.supplyAsync(() -> eventRepository.reserveTickets(anId, customerIds, allOrNothing), executor);
+    }
+}
@@ -0,0 +1,33 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+// Mesma ideia do ExecutorCustomerRepository
+public class ExecutorPartnerRepository implements PartnerAsyncRepository {
+
+    private final PartnerRepository partnerRepository;
+    private final Executor executor;
+
+    public ExecutorPartnerRepository(final PartnerRepository partnerRepository, final Executor executor) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+        this.executor = Objects.requireNonNull(executor);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Partner>> partnerOfId(final PartnerId anId) {
+        return CompletableFuture.supplyAsync(() -> partnerRepository.partnerOfId(anId), executor);
+    }
+
+    @Override
+    public CompletableFuture<Partner> create(final Partner partner) {
+        return CompletableFuture.supplyAsync(() -> partnerRepository.create(partner), executor);
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+import java.nio.ByteBuffer;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.UUID;
+
+// Os adapters JDBC gravam os ids no mesmo formato que o Hibernate usa nas tabelas que ele criou:
+// binary(16) no MySQL e o tipo uuid nativo nos demais bancos (H2 dos testes).
+final class JdbcUuids {
+
+    private final boolean binary;
+
+    private JdbcUuids(final boolean binary) {
+        this.binary = binary;
+    }
+
+    static JdbcUuids of(final NamedParameterJdbcTemplate jdbcTemplate) {
+        final Boolean mysql = jdbcTemplate.getJdbcTemplate().execute((ConnectionCallback<Boolean>) connection ->
+                "MySQL".equalsIgnoreCase(connection.getMetaData().getDatabaseProductName()));
+        return new JdbcUuids(Boolean.TRUE.equals(mysql));
+    }
+
+    Object bind(final String value) {
+        if (value == null) {
+            return null;
+        }
+
+        final var uuid = UUID.fromString(value);
+        if (!this.binary) {
+            return uuid;
+        }
+
+        return ByteBuffer.allocate(16)
+                .putLong(uuid.getMostSignificantBits())
+                .putLong(uuid.getLeastSignificantBits())
+                .array();
+    }
+
+    static String read(final ResultSet rs, final String column) throws SQLException {
+        final var value = rs.getObject(column);
+        if (value == null) {
+            return null;
+        }
+
+        if (value instanceof byte[] bytes) {
+            final var buffer = ByteBuffer.wrap(bytes);
+            return new UUID(buffer.getLong(), buffer.getLong()).toString();
+        }
+
+        return value.toString();
+    }
+}
@@ -4,9 +4,12 @@ import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.PartnerEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.PartnerJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -15,6 +18,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Component
+@Profile("!reactive")
 public class PartnerDatabaseRepository implements PartnerRepository {
 
     private final PartnerJpaRepository partnerJpaRepository;
@@ -47,7 +51,15 @@ public class PartnerDatabaseRepository implements PartnerRepository {
     @Override
     @Transactional
     public Partner create(Partner partner) {
-        return this.partnerJpaRepository.save(PartnerEntity.of(partner)).toPartner();
+        // Um único INSERT; o flush antecipa a violação de cnpj ou email duplicado para dentro deste método
+        try {
+            return this.partnerJpaRepository.saveAndFlush(PartnerEntity.newPartner(partner)).toPartner();
+        } catch (DataIntegrityViolationException ex) {
+            if (UniqueKeys.isViolationOf(ex, "uk_partners_cnpj", "uk_partners_email")) {
+                throw new ValidationException("Partner already exists");
+            }
+            throw ex;
+        }
     }
 
     @Override
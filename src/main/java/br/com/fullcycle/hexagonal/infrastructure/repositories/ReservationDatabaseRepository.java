@@ -0,0 +1,99 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.Reservation;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationId;
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.ReservationEntity;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.ReservationJpaRepository;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.PENDING;
+
+// A fila é uma tabela do próprio banco da aplicação: sobrevive a reinícios e o status do pedido
+// é gravado na mesma transação que o ticket
+@Component
+@Profile("!reactive")
+public class ReservationDatabaseRepository implements ReservationRepository {
+
+    private final ReservationJpaRepository reservationJpaRepository;
+
+    public ReservationDatabaseRepository(final ReservationJpaRepository reservationJpaRepository) {
+        this.reservationJpaRepository = Objects.requireNonNull(reservationJpaRepository);
+    }
+
+    @Override
+    public Optional<Reservation> reservationOfId(final ReservationId anId) {
+        Objects.requireNonNull(anId, "Id cannot be null.");
+        return this.reservationJpaRepository.findById(UUID.fromString(anId.value()))
+                .map(ReservationEntity::toReservation);
+    }
+
+    @Override
+    @Transactional
+    public Reservation create(final Reservation reservation) {
+        return this.reservationJpaRepository.save(ReservationEntity.newReservation(reservation))
+                .toReservation();
+    }
+
+    @Override
+    @Transactional
+    public Reservation update(final Reservation reservation) {
+        final var completed = this.reservationJpaRepository.complete(
+                UUID.fromString(reservation.reservationId().value()),
+                PENDING,
+                reservation.status(),
+                reservation.ticketId() != null ? UUID.fromString(reservation.ticketId().value()) : null,
+                reservation.error(),
+                reservation.completedAt()
+        );
+
+        if (completed == 0) {
+            throw new OptimisticLockingFailureException("Reservation %s was already completed".formatted(reservation.reservationId().value()));
+        }
+
+        return reservation;
+    }
+
+    // Cada pedido é marcado com um update condicional: entre consumidores concorrentes, só um fica com ele
+    @Override
+    @Transactional
+    public List<Reservation> claimPending(final int limit, final Duration timeout) {
+        final var now = Instant.now();
+        final var until = now.plus(timeout);
+
+        final var claimed = new ArrayList<UUID>(limit);
+        for (final var id : this.reservationJpaRepository.claimableOf(PENDING, now, PageRequest.of(0, limit))) {
+            if (this.reservationJpaRepository.claim(id, PENDING, now, until) == 1) {
+                claimed.add(id);
+            }
+        }
+
+        if (claimed.isEmpty()) {
+            return List.of();
+        }
+
+        return this.reservationJpaRepository.findAllById(claimed).stream()
+                .map(ReservationEntity::toReservation)
+                .sorted(Comparator.comparing(Reservation::requestedAt))
+                .toList();
+    }
+
+    @Override
+    public void deleteAll() {
+        this.reservationJpaRepository.deleteAll();
+    }
+
+}
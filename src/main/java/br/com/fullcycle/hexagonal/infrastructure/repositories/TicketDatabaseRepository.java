@@ -5,6 +5,8 @@ import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.TicketEntity;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.TicketJpaRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,6 +15,8 @@ import java.util.Optional;
 import java.util.UUID;
 
 @Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "repositories.adapter", havingValue = "jpa", matchIfMissing = true)
 public class TicketDatabaseRepository implements TicketRepository {
 
     private final TicketJpaRepository ticketJpaRepository;
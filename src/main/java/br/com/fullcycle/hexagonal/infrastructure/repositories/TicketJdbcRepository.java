@@ -0,0 +1,104 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Profile;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Instant;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.Objects;
+import java.util.Optional;
+
+@Component
+@Profile("!reactive")
+@ConditionalOnProperty(name = "repositories.adapter", havingValue = "jdbc")
+public class TicketJdbcRepository implements TicketRepository {
+
+    static final String INSERT = """
+            insert into tickets (id, customer_id, event_id, status, paid_at, reserved_at, ordering)
+            values (:id, :customerId, :eventId, :status, :paidAt, :reservedAt, :ordering)
+            """;
+
+    private static final RowMapper<Ticket> TICKET = (rs, rowNum) -> new Ticket(
+            TicketId.with(JdbcUuids.read(rs, "id")),
+            CustomerId.with(JdbcUuids.read(rs, "customer_id")),
+            EventId.with(JdbcUuids.read(rs, "event_id")),
+            TicketStatus.valueOf(rs.getString("status")),
+            instantOf(rs, "paid_at"),
+            instantOf(rs, "reserved_at")
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final JdbcUuids uuids;
+
+    public TicketJdbcRepository(final NamedParameterJdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = Objects.requireNonNull(jdbcTemplate);
+        this.uuids = JdbcUuids.of(jdbcTemplate);
+    }
+
+    @Override
+    public Optional<Ticket> ticketOfId(final TicketId anId) {
+        Objects.requireNonNull(anId, "id cannot be null");
+        return this.jdbcTemplate.query(
+                        "select id, customer_id, event_id, status, paid_at, reserved_at from tickets where id = :id",
+                        new MapSqlParameterSource("id", this.uuids.bind(anId.value())),
+                        TICKET
+                )
+                .stream()
+                .findFirst();
+    }
+
+    @Override
+    public Ticket create(final Ticket ticket) {
+        this.jdbcTemplate.update(INSERT, parametersOf(this.uuids, ticket, null));
+        return ticket;
+    }
+
+    @Override
+    public Ticket update(final Ticket ticket) {
+        // O ordering é atribuído na reserva e nunca muda depois
+        this.jdbcTemplate.update("""
+                update tickets set customer_id = :customerId, event_id = :eventId, status = :status,
+                                   paid_at = :paidAt, reserved_at = :reservedAt
+                where id = :id
+                """, parametersOf(this.uuids, ticket, null));
+        return ticket;
+    }
+
+    @Override
+    public void deleteAll() {
+        this.jdbcTemplate.getJdbcTemplate().update("delete from tickets");
+    }
+
+    static MapSqlParameterSource parametersOf(final JdbcUuids uuids, final Ticket ticket, final Integer ordering) {
+        return new MapSqlParameterSource()
+                .addValue("id", uuids.bind(ticket.ticketId().value()))
+                .addValue("customerId", uuids.bind(ticket.customerId().value()))
+                .addValue("eventId", uuids.bind(ticket.eventId().value()))
+                .addValue("status", ticket.status().name())
+                .addValue("paidAt", offsetOf(ticket.paidAt()))
+                .addValue("reservedAt", offsetOf(ticket.reservedAt()))
+                .addValue("ordering", ordering);
+    }
+
+    private static OffsetDateTime offsetOf(final Instant value) {
+        return value != null ? value.atOffset(ZoneOffset.UTC) : null;
+    }
+
+    private static Instant instantOf(final ResultSet rs, final String column) throws SQLException {
+        final var value = rs.getObject(column, OffsetDateTime.class);
+        return value != null ? value.toInstant() : null;
+    }
+}
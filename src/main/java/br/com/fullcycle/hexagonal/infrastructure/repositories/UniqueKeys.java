@@ -0,0 +1,29 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
+// Identifica qual constraint unique barrou a gravação. Os drivers só informam o nome dela na mensagem
+// (MySQL: "Duplicate entry ... for key 'customers.uk_customers_cpf'"; H2: "... PUBLIC.UK_CUSTOMERS_CPF_INDEX_1 ...").
+public final class UniqueKeys {
+
+    private UniqueKeys() {
+    }
+
+    public static boolean isViolationOf(final DataIntegrityViolationException ex, final String... constraints) {
+        final var message = ex.getMostSpecificCause().getMessage();
+        if (message == null) {
+            return false;
+        }
+
+        final var lowerCase = message.toLowerCase(Locale.ROOT);
+        for (final var constraint : constraints) {
+            if (lowerCase.contains(constraint)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
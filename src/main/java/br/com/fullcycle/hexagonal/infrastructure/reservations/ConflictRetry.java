@@ -0,0 +1,73 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.dao.ConcurrencyFailureException;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+// Reexecuta a operação quando outra instância escreveu no mesmo evento (versão divergente, deadlock, lock timeout).
+// O backoff é exponencial com jitter completo para que as instâncias em conflito não tentem de novo ao mesmo tempo.
+public class ConflictRetry {
+
+    private final int maxAttempts;
+    private final long baseBackoffNanos;
+    private final long maxBackoffNanos;
+    private final Counter attempts;
+    private final Counter conflicts;
+    private final Counter exhausted;
+
+    public ConflictRetry(
+            final int maxAttempts,
+            final Duration baseBackoff,
+            final Duration maxBackoff,
+            final MeterRegistry meterRegistry
+    ) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Retry attempts must be greater than zero");
+        }
+
+        this.maxAttempts = maxAttempts;
+        this.baseBackoffNanos = Objects.requireNonNull(baseBackoff).toNanos();
+        this.maxBackoffNanos = Objects.requireNonNull(maxBackoff).toNanos();
+        this.attempts = meterRegistry.counter("reservations.attempts");
+        this.conflicts = meterRegistry.counter("reservations.conflicts");
+        this.exhausted = meterRegistry.counter("reservations.conflicts.exhausted");
+    }
+
+    public <T> T execute(final Supplier<T> operation) {
+        Objects.requireNonNull(operation);
+
+        for (int attempt = 1; ; attempt++) {
+            this.attempts.increment();
+            try {
+                return operation.get();
+            } catch (ConcurrencyFailureException ex) {
+                this.conflicts.increment();
+                if (attempt >= this.maxAttempts) {
+                    this.exhausted.increment();
+                    throw ex;
+                }
+                backoff(attempt, ex);
+            }
+        }
+    }
+
+    long backoffNanos(final int attempt) {
+        final var ceiling = Math.min(this.maxBackoffNanos, this.baseBackoffNanos << Math.min(attempt - 1, 20));
+        return ceiling > 0 ? ThreadLocalRandom.current().nextLong(ceiling + 1) : 0;
+    }
+
+    private void backoff(final int attempt, final ConcurrencyFailureException conflict) {
+        LockSupport.parkNanos(backoffNanos(attempt));
+        if (Thread.interrupted()) {
+            Thread.currentThread().interrupt();
+            throw conflict;
+        }
+    }
+}
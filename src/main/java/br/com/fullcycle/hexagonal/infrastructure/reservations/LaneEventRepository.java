@@ -0,0 +1,63 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+
+// Encaminha as reservas pela lane do evento, repetindo em caso de conflito com outra instância.
+// Assim os casos de uso assíncronos só ocupam a lane com a reserva, e não com as buscas que vêm antes dela.
+public class LaneEventRepository implements EventRepository {
+
+    private final EventRepository eventRepository;
+    private final ReservationLanes reservationLanes;
+    private final ConflictRetry conflictRetry;
+
+    public LaneEventRepository(
+            final EventRepository eventRepository,
+            final ReservationLanes reservationLanes,
+            final ConflictRetry conflictRetry
+    ) {
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.reservationLanes = Objects.requireNonNull(reservationLanes);
+        this.conflictRetry = Objects.requireNonNull(conflictRetry);
+    }
+
+    @Override
+    public Optional<Event> eventOfId(final EventId anId) {
+        return eventRepository.eventOfId(anId);
+    }
+
+    @Override
+    public Event create(final Event event) {
+        return eventRepository.create(event);
+    }
+
+    @Override
+    public Event update(final Event event) {
+        return eventRepository.update(event);
+    }
+
+    @Override
+    public Ticket reserveTicket(final EventId anId, final CustomerId aCustomerId) {
+        return conflictRetry.execute(() -> reservationLanes.execute(anId.value(), () ->
+                eventRepository.reserveTicket(anId, aCustomerId)));
+    }
+
+    @Override
+    public List<GroupReservation.Result> reserveTickets(final EventId anId, final List<CustomerId> customerIds, final boolean allOrNothing) {
+        return conflictRetry.execute(() -> reservationLanes.execute(anId.value(), () ->
+                eventRepository.reserveTickets(anId, customerIds, allOrNothing)));
+    }
+
+    @Override
+    public void deleteAll() {
+        eventRepository.deleteAll();
+    }
+}
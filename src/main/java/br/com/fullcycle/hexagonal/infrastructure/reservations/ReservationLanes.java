@@ -0,0 +1,249 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+// Cada evento é sempre atendido pela mesma lane (uma única thread), então as reservas de um evento
+// rodam em série sem locks enquanto eventos diferentes rodam em paralelo.
+// Com batchSize > 1 a lane agrupa as reservas que chegam dentro da janela em uma única transação (group commit).
+// Se o lote falhar por outro motivo que não validação, cada reserva é refeita sozinha em sua própria transação,
+// assim só a reserva culpada falha. Savepoints não servem aqui: com JPA o rollback para o savepoint não desfaz
+// o contexto de persistência e a exceção do Hibernate já marca a transação inteira como rollback-only.
+public class ReservationLanes implements AutoCloseable {
+
+    private final Lane[] lanes;
+    private final int batchSize;
+    private final long batchWindowNanos;
+    private final TransactionOperations transactionOperations;
+    private volatile boolean closed;
+
+    public ReservationLanes(final int size, final TransactionOperations transactionOperations, final MeterRegistry meterRegistry) {
+        this(size, 1, Duration.ZERO, transactionOperations, meterRegistry);
+    }
+
+    public ReservationLanes(
+            final int size,
+            final int batchSize,
+            final Duration batchWindow,
+            final TransactionOperations transactionOperations,
+            final MeterRegistry meterRegistry
+    ) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Reservation lanes must be greater than zero");
+        }
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Reservation batch size must be greater than zero");
+        }
+
+        this.batchSize = batchSize;
+        this.batchWindowNanos = Objects.requireNonNull(batchWindow).toNanos();
+        this.transactionOperations = Objects.requireNonNull(transactionOperations);
+        this.lanes = new Lane[size];
+
+        for (int i = 0; i < size; i++) {
+            this.lanes[i] = new Lane(String.valueOf(i), meterRegistry);
+        }
+    }
+
+    public <T> T execute(final String anEventId, final Supplier<T> reservation) {
+        if (this.closed) {
+            throw new IllegalStateException("Reservation lanes are closed");
+        }
+
+        final var request = new Reservation<>(Objects.requireNonNull(reservation));
+        final var lane = this.lanes[laneOf(anEventId)];
+
+        lane.queue.add(request);
+        if (this.closed && lane.queue.remove(request)) {
+            throw new IllegalStateException("Reservation lanes are closed");
+        }
+
+        return await(request.result);
+    }
+
+    public int size() {
+        return this.lanes.length;
+    }
+
+    @Override
+    public void close() {
+        this.closed = true;
+        for (final var lane : this.lanes) {
+            lane.thread.interrupt();
+        }
+    }
+
+    int laneOf(final String anEventId) {
+        final var key = anEventId != null ? anEventId.toLowerCase(Locale.ROOT) : null;
+        return Math.floorMod(Objects.hashCode(key), this.lanes.length);
+    }
+
+    private void drain(final Lane lane) {
+        final List<Reservation<?>> batch = new ArrayList<>(this.batchSize);
+
+        while (!this.closed) {
+            try {
+                batch.add(lane.queue.take());
+                final var deadline = System.nanoTime() + this.batchWindowNanos;
+
+                try {
+                    while (batch.size() < this.batchSize) {
+                        final var next = lane.queue.poll(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                        if (next == null) {
+                            break;
+                        }
+                        batch.add(next);
+                    }
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+
+                commit(lane, batch);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            } finally {
+                batch.clear();
+            }
+        }
+
+        batch.addAll(lane.queue);
+        batch.forEach(it -> it.fail(new IllegalStateException("Reservation lanes are closed")));
+    }
+
+    private void commit(final Lane lane, final List<Reservation<?>> batch) {
+        final var failure = runInTransaction(batch);
+
+        if (failure != null && batch.size() > 1) {
+            lane.isolations.increment();
+            for (final var reservation : batch) {
+                reservation.reset();
+                finish(lane, reservation, runInTransaction(List.of(reservation)));
+            }
+            return;
+        }
+
+        batch.forEach(reservation -> finish(lane, reservation, failure));
+    }
+
+    private Throwable runInTransaction(final List<Reservation<?>> batch) {
+        try {
+            this.transactionOperations.executeWithoutResult(status -> batch.forEach(Reservation::run));
+            return null;
+        } catch (RuntimeException | Error ex) {
+            return ex;
+        }
+    }
+
+    private static void finish(final Lane lane, final Reservation<?> reservation, final Throwable failure) {
+        lane.latency.record(System.nanoTime() - reservation.submittedAt, TimeUnit.NANOSECONDS);
+        if (failure != null) {
+            reservation.fail(failure);
+        } else {
+            reservation.complete();
+        }
+    }
+
+    private static <T> T await(final CompletableFuture<T> result) {
+        try {
+            return result.get();
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the reservation", ex);
+        }
+    }
+
+    private final class Lane {
+
+        private final BlockingQueue<Reservation<?>> queue;
+        private final Timer latency;
+        private final Counter isolations;
+        private final Thread thread;
+
+        private Lane(final String name, final MeterRegistry meterRegistry) {
+            this.queue = new LinkedBlockingQueue<>();
+
+            Gauge.builder("reservations.lane.queue.size", this.queue, BlockingQueue::size)
+                    .tag("lane", name)
+                    .register(meterRegistry);
+
+            this.latency = Timer.builder("reservations.lane.latency")
+                    .tag("lane", name)
+                    .publishPercentiles(0.5, 0.99)
+                    .register(meterRegistry);
+
+            this.isolations = meterRegistry.counter("reservations.lane.batch.isolated", "lane", name);
+
+            this.thread = new Thread(() -> drain(this), "reservation-lane-" + name);
+            this.thread.setDaemon(true);
+            this.thread.start();
+        }
+    }
+
+    // Um erro de validação afeta apenas a própria reserva; as demais do lote seguem na mesma transação.
+    // Qualquer outro erro derruba a transação do lote e a reserva é refeita isolada
+    private static final class Reservation<T> {
+
+        private final Supplier<T> supplier;
+        private final CompletableFuture<T> result;
+        private final long submittedAt;
+        private T value;
+        private ValidationException error;
+
+        private Reservation(final Supplier<T> supplier) {
+            this.supplier = supplier;
+            this.result = new CompletableFuture<>();
+            this.submittedAt = System.nanoTime();
+        }
+
+        private void run() {
+            try {
+                this.value = this.supplier.get();
+            } catch (ValidationException ex) {
+                this.error = ex;
+            }
+        }
+
+        private void reset() {
+            this.value = null;
+            this.error = null;
+        }
+
+        private void complete() {
+            if (this.error != null) {
+                this.result.completeExceptionally(this.error);
+            } else {
+                this.result.complete(this.value);
+            }
+        }
+
+        private void fail(final Throwable failure) {
+            this.result.completeExceptionally(this.error != null ? this.error : failure);
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.Reservation;
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+import br.com.fullcycle.hexagonal.application.usecases.event.ProcessReservationUseCase;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.CONFIRMED;
+
+// Consome a fila de pedidos de inscrição assíncronos: o poller pega os pendentes em lotes e os workers entregam
+// cada pedido inteiro à lane do evento, que grava o ticket e o status juntos na transação do lote. Assim a fila
+// disputa o evento na mesma lane das inscrições síncronas e assíncronas, e não por fora dela. A quantidade de workers limita
+// quantas reservas disputam o banco ao mesmo tempo, seja qual for o volume de pedidos chegando.
+// Um pedido que falha mesmo depois do ConflictRetry volta para a fila quando o prazo do lote expira; depois de
+// maxAttempts entregas ele termina FAILED, para um pedido que sempre falha não ocupar os workers para sempre.
+public class ReservationQueueWorkers implements AutoCloseable {
+
+    private static final Logger LOGGER = LoggerFactory.getLogger(ReservationQueueWorkers.class);
+
+    private final ReservationRepository reservationRepository;
+    private final ProcessReservationUseCase processReservationUseCase;
+    private final ReservationLanes reservationLanes;
+    private final ConflictRetry conflictRetry;
+    private final int batchSize;
+    private final int maxAttempts;
+    private final Duration pollInterval;
+    private final Duration claimTimeout;
+    private final ExecutorService workers;
+    private final Thread poller;
+    private final Counter confirmed;
+    private final Counter rejected;
+    private final Counter retried;
+    private final Counter failed;
+    private final Timer latency;
+    private volatile boolean closed;
+
+    public ReservationQueueWorkers(
+            final ReservationRepository reservationRepository,
+            final ProcessReservationUseCase processReservationUseCase,
+            final ReservationLanes reservationLanes,
+            final ConflictRetry conflictRetry,
+            final int workers,
+            final int batchSize,
+            final int maxAttempts,
+            final Duration pollInterval,
+            final Duration claimTimeout,
+            final MeterRegistry meterRegistry
+    ) {
+        if (workers < 1) {
+            throw new IllegalArgumentException("Reservation queue workers must be greater than zero");
+        }
+
+        if (batchSize < 1) {
+            throw new IllegalArgumentException("Reservation queue batch size must be greater than zero");
+        }
+
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("Reservation queue max attempts must be greater than zero");
+        }
+
+        this.reservationRepository = Objects.requireNonNull(reservationRepository);
+        this.processReservationUseCase = Objects.requireNonNull(processReservationUseCase);
+        this.reservationLanes = Objects.requireNonNull(reservationLanes);
+        this.conflictRetry = Objects.requireNonNull(conflictRetry);
+        this.batchSize = batchSize;
+        this.maxAttempts = maxAttempts;
+        this.pollInterval = Objects.requireNonNull(pollInterval);
+        this.claimTimeout = Objects.requireNonNull(claimTimeout);
+        this.confirmed = meterRegistry.counter("reservations.queue.processed", "result", "confirmed");
+        this.rejected = meterRegistry.counter("reservations.queue.processed", "result", "rejected");
+        this.retried = meterRegistry.counter("reservations.queue.processed", "result", "retried");
+        this.failed = meterRegistry.counter("reservations.queue.processed", "result", "failed");
+        this.latency = Timer.builder("reservations.queue.latency")
+                .publishPercentiles(0.5, 0.99)
+                .register(meterRegistry);
+
+        final var next = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workers, task -> {
+            final var thread = new Thread(task, "reservation-queue-worker-" + next.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        this.poller = new Thread(this::poll, "reservation-queue-poller");
+        this.poller.setDaemon(true);
+        this.poller.start();
+    }
+
+    // Os pedidos em andamento terminam; os que ainda não começaram voltam para a fila quando o prazo expirar
+    @Override
+    public void close() {
+        this.closed = true;
+        this.poller.interrupt();
+        this.workers.shutdown();
+        try {
+            this.workers.awaitTermination(this.claimTimeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void poll() {
+        while (!this.closed) {
+            try {
+                final var batch = claim();
+                if (!batch.isEmpty()) {
+                    this.workers.invokeAll(batch.stream().map(this::process).toList());
+                }
+
+                // Lote cheio indica fila com mais pedidos: busca o próximo sem esperar
+                if (batch.size() < this.batchSize) {
+                    Thread.sleep(this.pollInterval.toMillis());
+                }
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+    }
+
+    private List<Reservation> claim() {
+        try {
+            return this.reservationRepository.claimPending(this.batchSize, this.claimTimeout);
+        } catch (RuntimeException ex) {
+            // Banco indisponível: tenta de novo no próximo ciclo
+            return List.of();
+        }
+    }
+
+    private Callable<Void> process(final Reservation reservation) {
+        return () -> {
+            try {
+                final var output = this.conflictRetry.execute(() -> this.reservationLanes.execute(reservation.eventId().value(), () ->
+                        this.processReservationUseCase.execute(new ProcessReservationUseCase.Input(reservation.reservationId().value()))));
+
+                (isConfirmed(output) ? this.confirmed : this.rejected).increment();
+                this.latency.record(Duration.between(reservation.requestedAt(), Instant.now()));
+            } catch (RuntimeException ex) {
+                if (reservation.attempts() < this.maxAttempts) {
+                    this.retried.increment();
+                    LOGGER.warn("Reservation {} failed on attempt {} of {}, it returns to the queue when its claim expires",
+                            reservation.reservationId().value(), reservation.attempts(), this.maxAttempts, ex);
+                } else {
+                    giveUp(reservation, ex);
+                }
+            }
+            return null;
+        };
+    }
+
+    private void giveUp(final Reservation reservation, final RuntimeException failure) {
+        this.failed.increment();
+        LOGGER.error("Reservation {} failed after {} attempts and will not be retried",
+                reservation.reservationId().value(), reservation.attempts(), failure);
+
+        try {
+            reservation.fail("Reservation could not be processed after %d attempts".formatted(reservation.attempts()));
+            this.reservationRepository.update(reservation);
+        } catch (RuntimeException ex) {
+            // Concluído por outro consumidor ou banco indisponível: o pedido volta para a fila quando o prazo expirar
+            LOGGER.warn("Could not mark reservation {} as failed", reservation.reservationId().value(), ex);
+        }
+    }
+
+    private static boolean isConfirmed(final ProcessReservationUseCase.Output output) {
+        return output != null && CONFIRMED.name().equals(output.status());
+    }
+}
@@ -0,0 +1,59 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+
+// Estratégia de reserva por evento: eventos de alta disputa podem ser configurados com uma estratégia própria
+public class ReservationStrategies {
+
+    private final ReservationStrategy defaultStrategy;
+    private final Map<String, ReservationStrategy> strategiesByEvent;
+
+    public ReservationStrategies(final ReservationStrategy defaultStrategy, final Map<String, ReservationStrategy> strategiesByEvent) {
+        this.defaultStrategy = Objects.requireNonNull(defaultStrategy);
+        this.strategiesByEvent = new HashMap<>();
+        Objects.requireNonNull(strategiesByEvent)
+                .forEach((eventId, strategy) -> this.strategiesByEvent.put(eventId.toLowerCase(Locale.ROOT), Objects.requireNonNull(strategy)));
+    }
+
+    public static ReservationStrategies of(final ReservationStrategy defaultStrategy) {
+        return new ReservationStrategies(defaultStrategy, Map.of());
+    }
+
+    // Formato: "<eventId>=<strategy>,<eventId>=<strategy>"
+    public static ReservationStrategies parse(final String defaultStrategy, final String strategiesByEvent) {
+        final var overrides = new HashMap<String, ReservationStrategy>();
+
+        if (strategiesByEvent != null && !strategiesByEvent.isBlank()) {
+            for (final var entry : strategiesByEvent.split(",")) {
+                final var pair = entry.split("=");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid reservation strategy: " + entry.trim());
+                }
+                overrides.put(pair[0].trim(), strategyOf(pair[1]));
+            }
+        }
+
+        return new ReservationStrategies(strategyOf(defaultStrategy), overrides);
+    }
+
+    public ReservationStrategy strategyOf(final EventId anEventId) {
+        if (anEventId == null) {
+            return this.defaultStrategy;
+        }
+
+        return this.strategiesByEvent.getOrDefault(anEventId.value().toLowerCase(Locale.ROOT), this.defaultStrategy);
+    }
+
+    public boolean uses(final ReservationStrategy strategy) {
+        return this.defaultStrategy == strategy || this.strategiesByEvent.containsValue(strategy);
+    }
+
+    private static ReservationStrategy strategyOf(final String name) {
+        return ReservationStrategy.valueOf(Objects.requireNonNull(name).trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,16 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+public enum ReservationStrategy {
+
+    // Update condicional do contador de vendidos, sem leitura prévia
+    COUNTER,
+
+    // Lê o contador e a versão, e grava apenas se a versão não mudou; conflitos são reexecutados pelo ConflictRetry
+    OPTIMISTIC,
+
+    // Trava a linha do evento (SELECT ... FOR UPDATE) até o fim da transação de reserva
+    PESSIMISTIC,
+
+    // Atende a partir de um bloco de vagas reservado pelo nó; a linha do evento só é disputada a cada bloco
+    LEASED
+}
@@ -0,0 +1,259 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.infrastructure.jpa.entities.EventSpotLeaseEntity;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventSpotLeaseJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+// Cada nó reserva blocos de vagas do evento (lease) e atende as reservas a partir do bloco local,
+// então a linha do evento só é disputada uma vez por bloco e não a cada reserva.
+// As vagas do bloco já entram no sold_count; as não usadas voltam quando o bloco é devolvido ou expira.
+// A renovação roda em REQUIRES_NEW dentro da transação da reserva, por isso a ReservationConfig exige um pool
+// com mais que o dobro das lanes quando LEASED está em uso.
+public class SpotLeases implements AutoCloseable {
+
+    private final String nodeId;
+    private final int blockSize;
+    private final Duration ttl;
+    private final Duration safetyMargin;
+    private final EventJpaRepository eventJpaRepository;
+    private final EventTicketJpaRepository eventTicketJpaRepository;
+    private final EventSpotLeaseJpaRepository eventSpotLeaseJpaRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final Map<UUID, Block> blocks;
+    private final Map<UUID, Object> locks;
+    private final Counter leasedSpots;
+    private final Counter returnedSpots;
+
+    public SpotLeases(
+            final String nodeId,
+            final int blockSize,
+            final Duration ttl,
+            final EventJpaRepository eventJpaRepository,
+            final EventTicketJpaRepository eventTicketJpaRepository,
+            final EventSpotLeaseJpaRepository eventSpotLeaseJpaRepository,
+            final PlatformTransactionManager transactionManager,
+            final MeterRegistry meterRegistry
+    ) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("Lease block size must be greater than zero");
+        }
+
+        this.nodeId = Objects.requireNonNull(nodeId);
+        this.blockSize = blockSize;
+        this.ttl = Objects.requireNonNull(ttl);
+        // O nó para de usar o bloco um pouco antes de expirar, para não competir com quem for recuperá-lo
+        this.safetyMargin = ttl.dividedBy(5);
+        this.eventJpaRepository = Objects.requireNonNull(eventJpaRepository);
+        this.eventTicketJpaRepository = Objects.requireNonNull(eventTicketJpaRepository);
+        this.eventSpotLeaseJpaRepository = Objects.requireNonNull(eventSpotLeaseJpaRepository);
+        // O lease é confirmado independente da reserva que o pediu: se ela falhar, o bloco continua válido
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blocks = new ConcurrentHashMap<>();
+        this.locks = new ConcurrentHashMap<>();
+        this.leasedSpots = meterRegistry.counter("reservations.leases.spots", "result", "leased");
+        this.returnedSpots = meterRegistry.counter("reservations.leases.spots", "result", "returned");
+    }
+
+    // Retorna null quando o evento não existe ou não há mais vagas fora dos blocos dos outros nós
+    public Spot take(final UUID anEventId) {
+        final var current = this.blocks.get(anEventId);
+        if (current != null) {
+            final var spot = current.take(Instant.now());
+            if (spot != null) {
+                return spot;
+            }
+        }
+
+        synchronized (this.locks.computeIfAbsent(anEventId, it -> new Object())) {
+            final var block = this.blocks.get(anEventId);
+            if (block != null) {
+                final var spot = block.take(Instant.now());
+                if (spot != null) {
+                    return spot;
+                }
+            }
+
+            final var renewed = renew(anEventId, block);
+            if (renewed == null) {
+                this.blocks.remove(anEventId);
+                return null;
+            }
+
+            this.blocks.put(anEventId, renewed);
+            return renewed.take(Instant.now());
+        }
+    }
+
+    // Última posição já entregue a algum bloco do evento; quem atribui posições fora dos blocos começa depois dela
+    public int lastOrderingOf(final UUID anEventId) {
+        return this.eventSpotLeaseJpaRepository.lastOrderingOf(anEventId);
+    }
+
+    // Devolve os blocos ainda abertos; se o banco não responder, eles são recuperados quando expirarem
+    @Override
+    public void close() {
+        for (final var block : this.blocks.values()) {
+            try {
+                this.transactionTemplate.executeWithoutResult(status -> release(block));
+            } catch (RuntimeException ex) {
+                // segue devolvendo os demais blocos
+            }
+        }
+        this.blocks.clear();
+    }
+
+    private Block renew(final UUID anEventId, final Block previous) {
+        return this.transactionTemplate.execute(status -> {
+            final var soldCount = this.eventJpaRepository.lockSoldCountOf(anEventId);
+            if (soldCount.isEmpty()) {
+                return null;
+            }
+
+            final var now = Instant.now();
+            var returned = previous != null ? release(previous) : 0;
+
+            // Um bloco só é recuperado um ttl inteiro depois de expirar: a contagem só enxerga tickets confirmados,
+            // e uma reserva que pegou a vaga pouco antes de o dono parar de usar o bloco ainda pode estar em andamento
+            for (final var expired : this.eventSpotLeaseJpaRepository.expiredOf(anEventId, now.minus(this.ttl))) {
+                if (this.eventSpotLeaseJpaRepository.markReleased(expired.id()) == 1) {
+                    final var used = this.eventTicketJpaRepository
+                            .countByOrderingBetween(anEventId, expired.firstOrdering(), expired.lastOrdering());
+                    returned += returnSpots(anEventId, expired.spots() - (int) used);
+                }
+            }
+
+            final var totalSpots = this.eventJpaRepository.spotsOf(anEventId)
+                    .map(EventJpaRepository.Spots::getTotalSpots)
+                    .orElse(0);
+
+            final var spots = Math.min(this.blockSize, totalSpots - (soldCount.get() - returned));
+            if (spots <= 0) {
+                return null;
+            }
+
+            final var firstOrdering = Math.max(
+                    this.eventSpotLeaseJpaRepository.lastOrderingOf(anEventId),
+                    this.eventTicketJpaRepository.lastOrderingOf(anEventId)
+            ) + 1;
+
+            final var lease = this.eventSpotLeaseJpaRepository.save(new EventSpotLeaseEntity(
+                    UUID.randomUUID(),
+                    anEventId,
+                    this.nodeId,
+                    firstOrdering,
+                    firstOrdering + spots - 1,
+                    now.plus(this.ttl)
+            ));
+
+            this.eventJpaRepository.addSoldCount(anEventId, spots);
+            this.leasedSpots.increment(spots);
+
+            return new Block(lease.id(), anEventId, lease.firstOrdering(), lease.lastOrdering(), lease.expiresAt().minus(this.safetyMargin));
+        });
+    }
+
+    private int release(final Block block) {
+        final var unused = block.close();
+        if (this.eventSpotLeaseJpaRepository.markReleased(block.leaseId) == 0) {
+            return 0;
+        }
+        return returnSpots(block.eventId, unused);
+    }
+
+    private int returnSpots(final UUID anEventId, final int spots) {
+        if (spots > 0) {
+            this.eventJpaRepository.addSoldCount(anEventId, -spots);
+            this.returnedSpots.increment(spots);
+        }
+        return Math.max(spots, 0);
+    }
+
+    // Vaga de um bloco: se a reserva que a usou não for confirmada, ela volta para o bloco
+    public final class Spot {
+
+        private final Block block;
+        private final int ordering;
+
+        private Spot(final Block block, final int ordering) {
+            this.block = block;
+            this.ordering = ordering;
+        }
+
+        public int ordering() {
+            return this.ordering;
+        }
+
+        public void giveBack() {
+            if (!this.block.giveBack(this.ordering)) {
+                // O bloco já foi devolvido sem contar esta vaga: ela volta direto para o evento
+                transactionTemplate.executeWithoutResult(status -> returnSpots(this.block.eventId, 1));
+            }
+        }
+    }
+
+    private final class Block {
+
+        private final UUID leaseId;
+        private final UUID eventId;
+        private final int lastOrdering;
+        private final Instant usableUntil;
+        private final Deque<Integer> returned;
+        private int nextOrdering;
+        private boolean closed;
+
+        private Block(final UUID leaseId, final UUID eventId, final int firstOrdering, final int lastOrdering, final Instant usableUntil) {
+            this.leaseId = leaseId;
+            this.eventId = eventId;
+            this.lastOrdering = lastOrdering;
+            this.usableUntil = usableUntil;
+            this.returned = new ArrayDeque<>();
+            this.nextOrdering = firstOrdering;
+        }
+
+        private synchronized Spot take(final Instant now) {
+            if (this.closed || now.isAfter(this.usableUntil)) {
+                return null;
+            }
+
+            if (!this.returned.isEmpty()) {
+                return new Spot(this, this.returned.pop());
+            }
+
+            return this.nextOrdering <= this.lastOrdering ? new Spot(this, this.nextOrdering++) : null;
+        }
+
+        private synchronized boolean giveBack(final int ordering) {
+            if (this.closed) {
+                return false;
+            }
+
+            this.returned.push(ordering);
+            return true;
+        }
+
+        // Fecha o bloco e retorna quantas vagas nunca foram entregues
+        private synchronized int close() {
+            final var unused = this.returned.size() + Math.max(0, this.lastOrdering - this.nextOrdering + 1);
+            this.closed = true;
+            this.returned.clear();
+            this.nextOrdering = this.lastOrdering + 1;
+            return unused;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import br.com.fullcycle.hexagonal.infrastructure.limits.ConcurrencyLimitExceededException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.springframework.http.HttpStatus.SERVICE_UNAVAILABLE;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+// Vale para os controllers MVC e reativos: a recusa do UseCaseLimiter vira 429 e a do executor dos casos de uso, 503
+@RestControllerAdvice
+public class ConcurrencyLimitHandler {
+
+    @ExceptionHandler(ConcurrencyLimitExceededException.class)
+    public ResponseEntity<?> limitExceeded(final ConcurrencyLimitExceededException ex) {
+        return ResponseEntity.status(TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
+
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<?> executorSaturated(final RejectedExecutionException ex) {
+        return ResponseEntity.status(SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body("Service is busy, try again later");
+    }
+}
@@ -1,46 +1,129 @@
 package br.com.fullcycle.hexagonal.infrastructure.rest;
 
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.customer.ImportCustomersUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.imports.CsvCustomerRows;
+import br.com.fullcycle.hexagonal.infrastructure.imports.CustomerRows;
+import br.com.fullcycle.hexagonal.infrastructure.imports.NdjsonCustomerRows;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
 import java.net.URI;
+import java.nio.charset.StandardCharsets;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "customers")
 public class CustomerController {
 
-    private final CreateCustomerUseCase createCustomerUseCase;
+    private final CreateCustomerAsyncUseCase createCustomerUseCase;
     private final GetCustomerByIdUseCase getCustomerByIdUseCase;
+    private final ImportCustomersUseCase importCustomersUseCase;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
+    private final ObjectMapper mapper;
 
-    public CustomerController(final CreateCustomerUseCase createCustomerUseCase, final GetCustomerByIdUseCase getCustomerByIdUseCase) {
+    public CustomerController(
+            final CreateCustomerAsyncUseCase createCustomerUseCase,
+            final GetCustomerByIdUseCase getCustomerByIdUseCase,
+            final ImportCustomersUseCase importCustomersUseCase,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests,
+            final ObjectMapper mapper
+    ) {
         this.createCustomerUseCase = Objects.requireNonNull(createCustomerUseCase);
         this.getCustomerByIdUseCase = Objects.requireNonNull(getCustomerByIdUseCase);
+        this.importCustomersUseCase = Objects.requireNonNull(importCustomersUseCase);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
+        this.mapper = Objects.requireNonNull(mapper);
     }
 
     @PostMapping
-    public ResponseEntity<?> create(@RequestBody NewCustomerDTO dto) {
+    public CompletableFuture<ResponseEntity<?>> create(
+            @RequestBody NewCustomerDTO dto,
+            @RequestHeader(value = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        final var input = new CreateCustomerUseCase.Input(dto.cpf(), dto.email(), dto.name());
+        return idempotentRequests.execute(createCustomerUseCase, idempotencyKey, input, () ->
+                        useCaseLimiter.executeAsync(createCustomerUseCase, () -> createCustomerUseCase.execute(input)))
+                .<ResponseEntity<?>>thenApply(output -> ResponseEntity.created(URI.create("/customers/" + output.id())).body(output))
+                .exceptionally(failure -> {
+                    if (Futures.causeOf(failure) instanceof ValidationException ex) {
+                        return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+                    }
+                    throw Futures.rethrow(failure);
+                });
+    }
+
+    // Lê o corpo e escreve o relatório (um resultado por linha, em NDJSON, e um resumo no fim) enquanto importa,
+    // sem guardar nenhum dos dois inteiro em memória. Fica fora do UseCaseLimiter: a duração depende do tamanho do
+    // arquivo e não diz nada sobre a fila no banco.
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"}, produces = "application/x-ndjson")
+    public void importCustomers(final HttpServletRequest request, final HttpServletResponse response) throws IOException {
+        final var reader = new BufferedReader(new InputStreamReader(request.getInputStream(), StandardCharsets.UTF_8));
+
+        final CustomerRows rows;
         try {
-            final var output = createCustomerUseCase.execute(new CreateCustomerUseCase.Input(dto.cpf(), dto.email(), dto.name()));
-            return ResponseEntity.created(URI.create("/customers/" + output.id())).body(output);
+            rows = MediaType.parseMediaType(request.getContentType()).isCompatibleWith(MediaType.parseMediaType("text/csv"))
+                    ? new CsvCustomerRows(reader)
+                    : new NdjsonCustomerRows(reader, mapper);
         } catch (ValidationException ex) {
-            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+            response.setStatus(HttpStatus.UNPROCESSABLE_ENTITY.value());
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.getWriter().write(ex.getMessage());
+            return;
         }
+
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType("application/x-ndjson");
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+
+        final var writer = new BufferedWriter(new OutputStreamWriter(response.getOutputStream(), StandardCharsets.UTF_8));
+        final var output = importCustomersUseCase.execute(new ImportCustomersUseCase.Input(rows, result -> writeLine(writer, result)));
+        writeLine(writer, output);
+        writer.flush();
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> get(@PathVariable String id) {
-        return getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id))
+        return useCaseLimiter.execute(getCustomerByIdUseCase, () -> getCustomerByIdUseCase.execute(new GetCustomerByIdUseCase.Input(id)))
                 .map(ResponseEntity::ok)
                 .orElseGet(ResponseEntity.notFound()::build);
     }
-}
\ No newline at end of file
+
+    private void writeLine(final BufferedWriter writer, final Object value) {
+        try {
+            writer.write(mapper.writeValueAsString(value));
+            writer.newLine();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+}
@@ -2,45 +2,73 @@ package br.com.fullcycle.hexagonal.infrastructure.rest;
 
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.QueueSubscriptionUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomersToEventUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.BulkSubscribeDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.AdmissionDeniedException;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
+import org.springframework.context.annotation.Profile;
+import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.http.ResponseEntity;
-import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
+import static org.springframework.http.HttpStatus.CONFLICT;
 import static org.springframework.http.HttpStatus.CREATED;
 
 // Adapter
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "events")
 public class EventController {
 
     private final CreateEventUseCase createEventUseCase;
-    private final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase;
+    private final SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventUseCase;
+    private final SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase;
+    private final QueueSubscriptionUseCase queueSubscriptionUseCase;
+    private final WaitingRoom waitingRoom;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
 
     public EventController(
             final CreateEventUseCase createEventUseCase,
-            final SubscribeCustomerToEventUseCase subscribeCustomerToEventUseCase
+            final SubscribeCustomerToEventAsyncUseCase subscribeCustomerToEventUseCase,
+            final SubscribeCustomersToEventUseCase subscribeCustomersToEventUseCase,
+            final QueueSubscriptionUseCase queueSubscriptionUseCase,
+            final WaitingRoom waitingRoom,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests
     ) {
         this.createEventUseCase = Objects.requireNonNull(createEventUseCase);
         this.subscribeCustomerToEventUseCase = Objects.requireNonNull(subscribeCustomerToEventUseCase);
+        this.subscribeCustomersToEventUseCase = Objects.requireNonNull(subscribeCustomersToEventUseCase);
+        this.queueSubscriptionUseCase = Objects.requireNonNull(queueSubscriptionUseCase);
+        this.waitingRoom = Objects.requireNonNull(waitingRoom);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
     }
 
     @PostMapping
     @ResponseStatus(CREATED)
     public ResponseEntity<?> create(@RequestBody NewEventDTO dto) {
         try {
-            final var output =
-                    createEventUseCase.execute(new CreateEventUseCase.Input(dto.date(), dto.name(), dto.partnerId(), dto.totalSpots()));
+            final var output = useCaseLimiter.execute(createEventUseCase, () ->
+                    createEventUseCase.execute(new CreateEventUseCase.Input(dto.date(), dto.name(), dto.partnerId(), dto.totalSpots())));
 
             return ResponseEntity.created(URI.create("/events/" + output.id())).body(output);
         } catch (ValidationException ex) {
@@ -48,16 +76,67 @@ public class EventController {
         }
     }
 
-    @Transactional
     @PostMapping(value = "/{id}/subscribe")
-    public ResponseEntity<?> subscribe(@PathVariable String id, @RequestBody SubscribeDTO dto) {
+    public CompletableFuture<ResponseEntity<?>> subscribe(
+            @PathVariable String id,
+            @RequestBody SubscribeDTO dto,
+            @RequestHeader(value = WaitingRoom.TOKEN_HEADER, required = false) String waitingRoomToken,
+            @RequestHeader(value = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        // A senha é conferida dentro da execução idempotente: uma repetição com a mesma Idempotency-Key recebe o Output
+        // guardado sem gastar a senha de novo. Continua antes de qualquer acesso ao banco.
+        final var input = new SubscribeCustomerToEventUseCase.Input(dto.customerId(), id);
         try {
-            final var output =
-                    subscribeCustomerToEventUseCase.execute(new SubscribeCustomerToEventUseCase.Input(dto.customerId(), id));
+            return idempotentRequests.execute(subscribeCustomerToEventUseCase, idempotencyKey, input, () ->
+                            waitingRoom.admitAsync(waitingRoomToken, id, dto.customerId(), () ->
+                                    useCaseLimiter.executeAsync(subscribeCustomerToEventUseCase, () -> subscribeCustomerToEventUseCase.execute(input))))
+                    .<ResponseEntity<?>>thenApply(ResponseEntity::ok)
+                    .exceptionally(failure -> {
+                        final var cause = Futures.causeOf(failure);
+                        if (cause instanceof AdmissionDeniedException ex) {
+                            return WaitingRoomResponses.denied(ex);
+                        }
+                        if (cause instanceof ValidationException ex) {
+                            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+                        }
+                        if (cause instanceof ConcurrencyFailureException) {
+                            return ResponseEntity.status(CONFLICT).body("Event is busy, try again");
+                        }
+                        throw Futures.rethrow(failure);
+                    });
+        } catch (AdmissionDeniedException ex) {
+            return CompletableFuture.<ResponseEntity<?>>completedFuture(WaitingRoomResponses.denied(ex));
+        }
+    }
 
-            return ResponseEntity.ok(output);
+    // Responde assim que o pedido está na fila; o resultado é consultado em GET /reservations/{reservationId}
+    @PostMapping(value = "/{id}/subscribe/async")
+    public ResponseEntity<?> subscribeAsync(
+            @PathVariable String id,
+            @RequestBody SubscribeDTO dto,
+            @RequestHeader(value = WaitingRoom.TOKEN_HEADER, required = false) String waitingRoomToken
+    ) {
+        try {
+            final var output = waitingRoom.admit(waitingRoomToken, id, dto.customerId(), () ->
+                    useCaseLimiter.execute(queueSubscriptionUseCase, () ->
+                            queueSubscriptionUseCase.execute(new QueueSubscriptionUseCase.Input(dto.customerId(), id))));
+            return ResponseEntity.accepted().location(URI.create("/reservations/" + output.id())).body(output);
+        } catch (AdmissionDeniedException ex) {
+            return WaitingRoomResponses.denied(ex);
+        } catch (ValidationException ex) {
+            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        }
+    }
+
+    @PostMapping(value = "/{id}/subscribe/bulk")
+    public ResponseEntity<?> subscribeAll(@PathVariable String id, @RequestBody BulkSubscribeDTO dto) {
+        try {
+            return ResponseEntity.ok(useCaseLimiter.execute(subscribeCustomersToEventUseCase, () -> subscribeCustomersToEventUseCase.execute(
+                    new SubscribeCustomersToEventUseCase.Input(id, dto.customerIds(), dto.isAllOrNothing()))));
         } catch (ValidationException ex) {
             return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+        } catch (ConcurrencyFailureException ex) {
+            return ResponseEntity.status(CONFLICT).body("Event is busy, try again");
         }
     }
 }
@@ -0,0 +1,21 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import java.util.concurrent.CompletionException;
+
+final class Futures {
+
+    private Futures() {
+    }
+
+    // CompletableFuture embrulha a falha original em CompletionException quando ela atravessa uma etapa
+    static Throwable causeOf(final Throwable failure) {
+        if (failure instanceof CompletionException && failure.getCause() != null) {
+            return failure.getCause();
+        }
+        return failure;
+    }
+
+    static CompletionException rethrow(final Throwable failure) {
+        return failure instanceof CompletionException ex ? ex : new CompletionException(failure);
+    }
+}
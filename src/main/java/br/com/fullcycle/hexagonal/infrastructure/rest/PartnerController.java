@@ -1,45 +1,68 @@
 package br.com.fullcycle.hexagonal.infrastructure.rest;
 
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerAsyncUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.parter.GetPartnerByIdUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewPartnerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import org.springframework.context.annotation.Profile;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.net.URI;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 
 @RestController
+@Profile("!reactive")
 @RequestMapping(value = "partners")
 public class PartnerController {
 
-    private final CreatePartnerUseCase createPartnerUseCase;
+    private final CreatePartnerAsyncUseCase createPartnerUseCase;
     private final GetPartnerByIdUseCase getPartnerByIdUseCase;
+    private final UseCaseLimiter useCaseLimiter;
+    private final IdempotentRequests idempotentRequests;
 
-    public PartnerController(final CreatePartnerUseCase createPartnerUseCase, final GetPartnerByIdUseCase getPartnerByIdUseCase) {
+    public PartnerController(
+            final CreatePartnerAsyncUseCase createPartnerUseCase,
+            final GetPartnerByIdUseCase getPartnerByIdUseCase,
+            final UseCaseLimiter useCaseLimiter,
+            final IdempotentRequests idempotentRequests
+    ) {
         this.createPartnerUseCase = Objects.requireNonNull(createPartnerUseCase);
         this.getPartnerByIdUseCase = Objects.requireNonNull(getPartnerByIdUseCase);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+        this.idempotentRequests = Objects.requireNonNull(idempotentRequests);
     }
 
     @PostMapping
-    public ResponseEntity<?> create(@RequestBody NewPartnerDTO dto) {
-        try {
-            final var output = createPartnerUseCase.execute(new CreatePartnerUseCase.Input(dto.cnpj(), dto.email(), dto.name()));
-            return ResponseEntity.created(URI.create("/partners/" + output.id())).body(output);
-        } catch (ValidationException ex) {
-            return ResponseEntity.unprocessableEntity().body(ex.getMessage());
-        }
+    public CompletableFuture<ResponseEntity<?>> create(
+            @RequestBody NewPartnerDTO dto,
+            @RequestHeader(value = IdempotentRequests.KEY_HEADER, required = false) String idempotencyKey
+    ) {
+        final var input = new CreatePartnerUseCase.Input(dto.cnpj(), dto.email(), dto.name());
+        return idempotentRequests.execute(createPartnerUseCase, idempotencyKey, input, () ->
+                        useCaseLimiter.executeAsync(createPartnerUseCase, () -> createPartnerUseCase.execute(input)))
+                .<ResponseEntity<?>>thenApply(output -> ResponseEntity.created(URI.create("/partners/" + output.id())).body(output))
+                .exceptionally(failure -> {
+                    if (Futures.causeOf(failure) instanceof ValidationException ex) {
+                        return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+                    }
+                    throw Futures.rethrow(failure);
+                });
     }
 
     @GetMapping("/{id}")
     public ResponseEntity<?> get(@PathVariable String id) {
-        return getPartnerByIdUseCase.execute(new GetPartnerByIdUseCase.Input(id))
+        return useCaseLimiter.execute(getPartnerByIdUseCase, () -> getPartnerByIdUseCase.execute(new GetPartnerByIdUseCase.Input(id)))
                 .map(ResponseEntity::ok)
                 .orElseGet(ResponseEntity.notFound()::build);
     }
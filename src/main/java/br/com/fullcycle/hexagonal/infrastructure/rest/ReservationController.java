@@ -0,0 +1,34 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import br.com.fullcycle.hexagonal.application.usecases.event.GetReservationByIdUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.limits.UseCaseLimiter;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+
+// Status dos pedidos de inscrição feitos em POST /events/{id}/subscribe/async
+@RestController
+@Profile("!reactive")
+@RequestMapping(value = "reservations")
+public class ReservationController {
+
+    private final GetReservationByIdUseCase getReservationByIdUseCase;
+    private final UseCaseLimiter useCaseLimiter;
+
+    public ReservationController(final GetReservationByIdUseCase getReservationByIdUseCase, final UseCaseLimiter useCaseLimiter) {
+        this.getReservationByIdUseCase = Objects.requireNonNull(getReservationByIdUseCase);
+        this.useCaseLimiter = Objects.requireNonNull(useCaseLimiter);
+    }
+
+    @GetMapping("/{id}")
+    public ResponseEntity<?> get(@PathVariable String id) {
+        return useCaseLimiter.execute(getReservationByIdUseCase, () -> getReservationByIdUseCase.execute(new GetReservationByIdUseCase.Input(id)))
+                .map(ResponseEntity::ok)
+                .orElseGet(ResponseEntity.notFound()::build);
+    }
+}
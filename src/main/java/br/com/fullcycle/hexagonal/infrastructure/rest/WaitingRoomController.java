@@ -0,0 +1,55 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.AdmissionDeniedException;
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.WaitingRoom;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+
+import static org.springframework.http.HttpStatus.CREATED;
+
+// Senhas da sala de espera: o cliente entra na fila do evento e consulta a posição até a vez dele chegar
+@RestController
+@Profile("!reactive")
+@RequestMapping(value = "events/{id}/waiting-room")
+public class WaitingRoomController {
+
+    private final WaitingRoom waitingRoom;
+
+    public WaitingRoomController(final WaitingRoom waitingRoom) {
+        this.waitingRoom = Objects.requireNonNull(waitingRoom);
+    }
+
+    @PostMapping
+    public CompletableFuture<ResponseEntity<?>> enter(@PathVariable String id, @RequestBody SubscribeDTO dto) {
+        return waitingRoom.enter(id, dto.customerId())
+                .<ResponseEntity<?>>thenApply(ticket -> ResponseEntity.status(CREATED).body(ticket))
+                .exceptionally(failure -> {
+                    if (Futures.causeOf(failure) instanceof ValidationException ex) {
+                        return ResponseEntity.unprocessableEntity().body(ex.getMessage());
+                    }
+                    throw Futures.rethrow(failure);
+                });
+    }
+
+    @GetMapping
+    public ResponseEntity<?> status(@PathVariable String id, @RequestHeader(WaitingRoom.TOKEN_HEADER) String token) {
+        try {
+            final var ticket = waitingRoom.statusOf(token);
+            return ticket.eventId().equalsIgnoreCase(id) ? ResponseEntity.ok(ticket) : ResponseEntity.notFound().build();
+        } catch (AdmissionDeniedException ex) {
+            return WaitingRoomResponses.denied(ex);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import br.com.fullcycle.hexagonal.infrastructure.waitingroom.AdmissionDeniedException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+
+import static org.springframework.http.HttpStatus.FORBIDDEN;
+import static org.springframework.http.HttpStatus.TOO_MANY_REQUESTS;
+
+public final class WaitingRoomResponses {
+
+    private WaitingRoomResponses() {
+    }
+
+    // Antes da vez: 429 com Retry-After até o instante da senha. Sem senha válida para o pedido: 403.
+    public static ResponseEntity<?> denied(final AdmissionDeniedException ex) {
+        if (ex.isEarly()) {
+            return ResponseEntity.status(TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.retryAfterSeconds()))
+                    .body(ex.getMessage());
+        }
+        return ResponseEntity.status(FORBIDDEN).body(ex.getMessage());
+    }
+}
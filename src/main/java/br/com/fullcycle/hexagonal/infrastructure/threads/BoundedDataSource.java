@@ -0,0 +1,95 @@
+package br.com.fullcycle.hexagonal.infrastructure.threads;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// Com virtual threads não há mais o limite do pool do Tomcat: milhares de requisições chegariam ao pool JDBC
+// ao mesmo tempo e estourariam o timeout de conexão. O semáforo enfileira as threads (estacionadas, sem custo)
+// e mantém no máximo uma conexão em uso por permissão. A espera pela permissão respeita o mesmo timeout do pool:
+// quem não consegue uma permissão a tempo recebe o mesmo erro que receberia do Hikari.
+public class BoundedDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final long connectionTimeoutMillis;
+
+    public BoundedDataSource(final DataSource targetDataSource, final int permits, final Duration connectionTimeout) {
+        super(targetDataSource);
+
+        if (permits < 1) {
+            throw new IllegalArgumentException("Connection permits must be greater than zero");
+        }
+
+        this.permits = new Semaphore(permits, true);
+        this.connectionTimeoutMillis = Objects.requireNonNull(connectionTimeout).toMillis();
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        acquire();
+        try {
+            return bounded(super.getConnection());
+        } catch (SQLException | RuntimeException ex) {
+            this.permits.release();
+            throw ex;
+        }
+    }
+
+    @Override
+    public Connection getConnection(final String username, final String password) throws SQLException {
+        acquire();
+        try {
+            return bounded(super.getConnection(username, password));
+        } catch (SQLException | RuntimeException ex) {
+            this.permits.release();
+            throw ex;
+        }
+    }
+
+    public int availablePermits() {
+        return this.permits.availablePermits();
+    }
+
+    private void acquire() throws SQLException {
+        try {
+            if (!this.permits.tryAcquire(this.connectionTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException(
+                        "Connection is not available, request timed out after " + this.connectionTimeoutMillis + "ms"
+                );
+            }
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SQLException("Interrupted while waiting for a database connection", ex);
+        }
+    }
+
+    private Connection bounded(final Connection connection) {
+        final var released = new AtomicBoolean();
+
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    try {
+                        return method.invoke(connection, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    } finally {
+                        if ("close".equals(method.getName()) && released.compareAndSet(false, true)) {
+                            this.permits.release();
+                        }
+                    }
+                }
+        );
+    }
+}
@@ -0,0 +1,35 @@
+package br.com.fullcycle.hexagonal.infrastructure.threads;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+// O projeto compila com JDK 17, então as APIs de virtual threads (JDK 21+) são acessadas por reflexão
+public final class VirtualThreads {
+
+    private static final int MINIMUM_JAVA_VERSION = 21;
+
+    private VirtualThreads() {
+    }
+
+    public static boolean available() {
+        return Runtime.version().feature() >= MINIMUM_JAVA_VERSION;
+    }
+
+    public static ExecutorService newExecutor(final String namePrefix) {
+        if (!available()) {
+            throw new IllegalStateException("Virtual threads require JDK " + MINIMUM_JAVA_VERSION + " or newer");
+        }
+
+        try {
+            final var builder = Thread.class.getMethod("ofVirtual").invoke(null);
+            final var ofVirtual = Class.forName("java.lang.Thread$Builder$OfVirtual");
+            ofVirtual.getMethod("name", String.class, long.class).invoke(builder, namePrefix, 0L);
+
+            final var factory = (ThreadFactory) Class.forName("java.lang.Thread$Builder").getMethod("factory").invoke(builder);
+            return (ExecutorService) Executors.class.getMethod("newThreadPerTaskExecutor", ThreadFactory.class).invoke(null, factory);
+        } catch (ReflectiveOperationException ex) {
+            throw new IllegalStateException("Could not create a virtual thread executor", ex);
+        }
+    }
+}
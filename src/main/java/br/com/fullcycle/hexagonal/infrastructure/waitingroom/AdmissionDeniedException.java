@@ -0,0 +1,31 @@
+package br.com.fullcycle.hexagonal.infrastructure.waitingroom;
+
+import java.time.Duration;
+
+// Pedido barrado pela sala de espera. retryAfter só vem preenchido quando a senha é válida e a vez ainda não chegou.
+public class AdmissionDeniedException extends RuntimeException {
+
+    private final Duration retryAfter;
+
+    public AdmissionDeniedException(final String message) {
+        this(message, null);
+    }
+
+    public AdmissionDeniedException(final String message, final Duration retryAfter) {
+        super(message, null, false, false);
+        this.retryAfter = retryAfter;
+    }
+
+    public Duration retryAfter() {
+        return retryAfter;
+    }
+
+    // Arredonda para cima: voltar um segundo antes da vez seria recusado de novo
+    public long retryAfterSeconds() {
+        return retryAfter == null ? 0 : Math.max(1, (long) Math.ceil(retryAfter.toMillis() / 1000d));
+    }
+
+    public boolean isEarly() {
+        return retryAfter != null;
+    }
+}
@@ -0,0 +1,337 @@
+package br.com.fullcycle.hexagonal.infrastructure.waitingroom;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+// Sala de espera para aberturas de vendas: quem quer se inscrever pega antes uma senha assinada com a sua posição
+// na fila do evento e o instante em que pode entrar. Os instantes são espaçados pela vazão do evento (entradas por
+// segundo), então o caminho da inscrição recebe no máximo essa vazão por evento. A senha é conferida só com o HMAC e o
+// relógio, sem ir ao banco: quem chega antes da vez é recusado sem custo.
+// Cada cliente tem uma senha por vez em cada fila e cada senha libera uma única inscrição. As filas ociosas e as senhas
+// usadas já vencidas são descartadas, então a memória acompanha só quem está esperando ou dentro da janela de entrada.
+// A fila, as senhas usadas e a deduplicação são por instância; com várias instâncias, a vazão de cada evento é
+// multiplicada pelo número delas e uma senha pode ser usada uma vez em cada uma.
+public class WaitingRoom {
+
+    public static final String TOKEN_HEADER = "X-Waiting-Room-Token";
+
+    private static final Duration SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final boolean enabled;
+    private final WaitingRoomTokens tokens;
+    private final EventAsyncRepository eventRepository;
+    private final double defaultRate;
+    private final Map<String, Double> ratesByEvent;
+    private final Duration admissionWindow;
+    private final Clock clock;
+    private final Map<String, Line> lines;
+    private final Map<String, Instant> usedTokens;
+    private final AtomicReference<Instant> nextSweep;
+    private final Counter issued;
+    private final Counter admitted;
+    private final Counter early;
+    private final Counter denied;
+
+    public WaitingRoom(
+            final boolean enabled,
+            final WaitingRoomTokens tokens,
+            final EventAsyncRepository eventRepository,
+            final double defaultRate,
+            final Map<String, Double> ratesByEvent,
+            final Duration admissionWindow,
+            final Clock clock,
+            final MeterRegistry meterRegistry
+    ) {
+        if (defaultRate <= 0) {
+            throw new IllegalArgumentException("Waiting room rate must be greater than zero");
+        }
+
+        this.enabled = enabled;
+        this.tokens = Objects.requireNonNull(tokens);
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+        this.defaultRate = defaultRate;
+        this.ratesByEvent = new HashMap<>();
+        Objects.requireNonNull(ratesByEvent).forEach((eventId, rate) -> {
+            if (rate <= 0) {
+                throw new IllegalArgumentException("Waiting room rate must be greater than zero");
+            }
+            this.ratesByEvent.put(eventId.toLowerCase(Locale.ROOT), rate);
+        });
+        this.admissionWindow = Objects.requireNonNull(admissionWindow);
+        this.clock = Objects.requireNonNull(clock);
+        this.lines = new ConcurrentHashMap<>();
+        this.usedTokens = new ConcurrentHashMap<>();
+        this.nextSweep = new AtomicReference<>(Instant.EPOCH);
+        this.issued = meterRegistry.counter("waitingroom.tokens", "result", "issued");
+        this.admitted = meterRegistry.counter("waitingroom.tokens", "result", "admitted");
+        this.early = meterRegistry.counter("waitingroom.tokens", "result", "early");
+        this.denied = meterRegistry.counter("waitingroom.tokens", "result", "denied");
+    }
+
+    // Formato: "<eventId>=<entradas por segundo>,<eventId>=<entradas por segundo>"
+    public static Map<String, Double> parseRates(final String ratesByEvent) {
+        final var rates = new HashMap<String, Double>();
+
+        if (ratesByEvent != null && !ratesByEvent.isBlank()) {
+            for (final var entry : ratesByEvent.split(",")) {
+                final var pair = entry.split("=");
+                if (pair.length != 2) {
+                    throw new IllegalArgumentException("Invalid waiting room rate: " + entry.trim());
+                }
+                rates.put(pair[0].trim(), Double.parseDouble(pair[1].trim()));
+            }
+        }
+
+        return rates;
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // O evento só é procurado no banco quando a fila dele ainda não existe; as entradas seguintes ficam na memória
+    public CompletableFuture<Ticket> enter(final String anEventId, final String aCustomerId) {
+        return CompletableFuture.completedFuture(anEventId)
+                .thenCompose(it -> {
+                    final var eventId = EventId.with(anEventId);
+                    final var customerId = CustomerId.with(aCustomerId).value();
+                    sweep(this.clock.instant());
+
+                    if (this.lines.containsKey(eventId.value())) {
+                        return CompletableFuture.completedFuture(issue(eventId.value(), customerId));
+                    }
+
+                    return this.eventRepository.eventOfId(eventId).thenApply(anEvent -> {
+                        if (anEvent.isEmpty()) {
+                            throw new ValidationException("Event not found");
+                        }
+                        return issue(eventId.value(), customerId);
+                    });
+                });
+    }
+
+    // Dentro do compute da fila, para a emissão não se cruzar com a remoção da fila ociosa
+    private Ticket issue(final String eventId, final String customerId) {
+        final var now = this.clock.instant();
+        final var ticket = new Ticket[1];
+        this.lines.compute(eventId, (key, existing) -> {
+            final var line = existing != null ? existing : new Line(intervalOf(rateOf(eventId)));
+
+            final var current = line.customers.get(customerId);
+            if (current != null && !isExpired(current.payload(), now) && !isUsed(current.payload())) {
+                ticket[0] = ticketOf(current.token(), current.payload(), now);
+                return line;
+            }
+
+            final var payload = line.next(eventId, customerId, now);
+            final var token = this.tokens.sign(payload);
+            line.customers.put(customerId, new Issued(token, payload));
+
+            this.issued.increment();
+            ticket[0] = ticketOf(token, payload, now);
+            return line;
+        });
+        return ticket[0];
+    }
+
+    public Ticket statusOf(final String token) {
+        final var payload = this.tokens.verify(token)
+                .orElseThrow(() -> new AdmissionDeniedException("Invalid waiting room token"));
+        return ticketOf(token, payload, this.clock.instant());
+    }
+
+    // Libera o pedido se a senha for deste evento e cliente, a vez dele tiver chegado (e ainda não tiver passado) e a
+    // senha ainda não tiver sido usada
+    public void admit(final String token, final String anEventId, final String aCustomerId) {
+        consume(token, anEventId, aCustomerId);
+    }
+
+    // Como o admit, mas se a inscrição falhar a senha volta a valer: um "Event is busy, try again" ou uma repetição com
+    // a mesma Idempotency-Key depois de uma falha não mandam o cliente para o fim da fila
+    public <T> T admit(final String token, final String anEventId, final String aCustomerId, final Supplier<T> subscription) {
+        final var used = consume(token, anEventId, aCustomerId);
+        try {
+            return subscription.get();
+        } catch (RuntimeException ex) {
+            release(used);
+            throw ex;
+        }
+    }
+
+    public <T> CompletableFuture<T> admitAsync(
+            final String token,
+            final String anEventId,
+            final String aCustomerId,
+            final Supplier<CompletableFuture<T>> subscription
+    ) {
+        final var used = consume(token, anEventId, aCustomerId);
+        final CompletableFuture<T> output;
+        try {
+            output = subscription.get();
+        } catch (RuntimeException ex) {
+            release(used);
+            throw ex;
+        }
+
+        return output.whenComplete((result, failure) -> {
+            if (failure != null) {
+                release(used);
+            }
+        });
+    }
+
+    // Devolve o conteúdo da senha marcada como usada, ou null com a sala de espera desligada
+    private WaitingRoomTokens.Payload consume(final String token, final String anEventId, final String aCustomerId) {
+        if (!this.enabled) {
+            return null;
+        }
+
+        if (token == null || token.isBlank()) {
+            throw deny(new AdmissionDeniedException("Waiting room token required"));
+        }
+
+        final var payload = this.tokens.verify(token)
+                .orElseThrow(() -> deny(new AdmissionDeniedException("Invalid waiting room token")));
+
+        if (!payload.eventId().equalsIgnoreCase(String.valueOf(anEventId))
+                || !payload.customerId().equalsIgnoreCase(String.valueOf(aCustomerId))) {
+            throw deny(new AdmissionDeniedException("Waiting room token does not match the subscription"));
+        }
+
+        final var now = this.clock.instant();
+        if (now.isBefore(payload.admitAt())) {
+            this.early.increment();
+            throw new AdmissionDeniedException("Not your turn yet", Duration.between(now, payload.admitAt()));
+        }
+
+        if (isExpired(payload, now)) {
+            throw deny(new AdmissionDeniedException("Waiting room token expired"));
+        }
+
+        // A chave é o conteúdo assinado, não o texto da senha, para outra codificação da mesma assinatura não valer de novo
+        if (this.usedTokens.putIfAbsent(payload.encode(), expiresAtOf(payload)) != null) {
+            throw deny(new AdmissionDeniedException("Waiting room token already used"));
+        }
+
+        sweep(now);
+        this.admitted.increment();
+        return payload;
+    }
+
+    private void release(final WaitingRoomTokens.Payload used) {
+        if (used != null) {
+            this.usedTokens.remove(used.encode());
+        }
+    }
+
+    // No máximo uma varredura por intervalo, feita por quem ganhar o compareAndSet: a senha usada só precisa ser
+    // lembrada até vencer, e a fila sai da memória quando não tem mais senha válida nem entrada agendada
+    private void sweep(final Instant now) {
+        final var due = this.nextSweep.get();
+        if (now.isBefore(due) || !this.nextSweep.compareAndSet(due, now.plus(SWEEP_INTERVAL))) {
+            return;
+        }
+
+        this.usedTokens.values().removeIf(expiresAt -> now.isAfter(expiresAt));
+        this.lines.keySet().forEach(eventId -> this.lines.computeIfPresent(eventId, (key, line) -> line.isIdle(now) ? null : line));
+    }
+
+    private boolean isUsed(final WaitingRoomTokens.Payload payload) {
+        return this.usedTokens.containsKey(payload.encode());
+    }
+
+    private boolean isExpired(final WaitingRoomTokens.Payload payload, final Instant now) {
+        return now.isAfter(expiresAtOf(payload));
+    }
+
+    private Instant expiresAtOf(final WaitingRoomTokens.Payload payload) {
+        return payload.admitAt().plus(this.admissionWindow);
+    }
+
+    private AdmissionDeniedException deny(final AdmissionDeniedException ex) {
+        this.denied.increment();
+        return ex;
+    }
+
+    private Ticket ticketOf(final String token, final WaitingRoomTokens.Payload payload, final Instant now) {
+        final var wait = now.isBefore(payload.admitAt()) ? Duration.between(now, payload.admitAt()) : Duration.ZERO;
+        // Estimativa: quem está à frente é quem ainda não entrou na vazão do evento
+        final var ahead = (long) Math.ceil(wait.toNanos() / 1_000_000_000d * rateOf(payload.eventId()));
+
+        return new Ticket(
+                token,
+                payload.eventId(),
+                payload.customerId(),
+                payload.position(),
+                ahead,
+                payload.admitAt(),
+                expiresAtOf(payload),
+                (long) Math.ceil(wait.toMillis() / 1000d)
+        );
+    }
+
+    private double rateOf(final String anEventId) {
+        return this.ratesByEvent.getOrDefault(anEventId.toLowerCase(Locale.ROOT), this.defaultRate);
+    }
+
+    private static Duration intervalOf(final double rate) {
+        return Duration.ofNanos(Math.max(1L, (long) (1_000_000_000d / rate)));
+    }
+
+    public record Ticket(
+            String token,
+            String eventId,
+            String customerId,
+            long position,
+            long ahead,
+            Instant admitAt,
+            Instant expiresAt,
+            long waitSeconds
+    ) {
+    }
+
+    private record Issued(String token, WaitingRoomTokens.Payload payload) {
+    }
+
+    // Fila de um evento: cada senha entra um intervalo depois da anterior, ou na hora se a fila estiver vazia.
+    // Só é lida e alterada dentro do compute do mapa de filas.
+    private final class Line {
+
+        private final Duration interval;
+        private final Map<String, Issued> customers;
+        private long issued;
+        private Instant nextAdmission;
+
+        private Line(final Duration interval) {
+            this.interval = interval;
+            this.customers = new HashMap<>();
+        }
+
+        private WaitingRoomTokens.Payload next(final String eventId, final String customerId, final Instant now) {
+            final var admitAt = this.nextAdmission == null || this.nextAdmission.isBefore(now) ? now : this.nextAdmission;
+            this.nextAdmission = admitAt.plus(this.interval);
+            return new WaitingRoomTokens.Payload(eventId, customerId, ++this.issued, admitAt);
+        }
+
+        private boolean isIdle(final Instant now) {
+            this.customers.values().removeIf(it -> isExpired(it.payload(), now));
+            return this.customers.isEmpty() && (this.nextAdmission == null || !this.nextAdmission.isAfter(now));
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package br.com.fullcycle.hexagonal.infrastructure.waitingroom;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.Objects;
+import java.util.Optional;
+
+// Senhas da sala de espera: "<dados>.<assinatura>", com a assinatura HMAC-SHA256 dos dados em base64url.
+// Conferir uma senha é só recalcular o HMAC; nada é guardado no servidor.
+public class WaitingRoomTokens {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    private final SecretKeySpec key;
+    private final ThreadLocal<Mac> macs;
+
+    public WaitingRoomTokens(final byte[] secret) {
+        if (Objects.requireNonNull(secret).length < 16) {
+            throw new IllegalArgumentException("Waiting room secret must have at least 16 bytes");
+        }
+
+        this.key = new SecretKeySpec(secret.clone(), ALGORITHM);
+        this.macs = ThreadLocal.withInitial(this::newMac);
+        // Falha na subida, e não na primeira senha, se o algoritmo não estiver disponível
+        this.macs.get();
+    }
+
+    public String sign(final Payload payload) {
+        final var data = ENCODER.encodeToString(payload.encode().getBytes(StandardCharsets.UTF_8));
+        return data + "." + ENCODER.encodeToString(signatureOf(data));
+    }
+
+    // Vazio para senhas malformadas ou com assinatura que não confere
+    public Optional<Payload> verify(final String token) {
+        if (token == null) {
+            return Optional.empty();
+        }
+
+        final var separator = token.indexOf('.');
+        if (separator <= 0 || separator != token.lastIndexOf('.')) {
+            return Optional.empty();
+        }
+
+        try {
+            final var data = token.substring(0, separator);
+            final var signature = DECODER.decode(token.substring(separator + 1));
+            if (!MessageDigest.isEqual(signature, signatureOf(data))) {
+                return Optional.empty();
+            }
+
+            return Payload.decode(new String(DECODER.decode(data), StandardCharsets.UTF_8));
+        } catch (IllegalArgumentException ex) {
+            return Optional.empty();
+        }
+    }
+
+    private byte[] signatureOf(final String data) {
+        return this.macs.get().doFinal(data.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    private Mac newMac() {
+        try {
+            final var mac = Mac.getInstance(ALGORITHM);
+            mac.init(this.key);
+            return mac;
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    public record Payload(String eventId, String customerId, long position, Instant admitAt) {
+
+        String encode() {
+            return String.join(":", eventId, customerId, Long.toString(position), Long.toString(admitAt.toEpochMilli()));
+        }
+
+        private static Optional<Payload> decode(final String value) {
+            final var parts = value.split(":");
+            if (parts.length != 4) {
+                return Optional.empty();
+            }
+
+            try {
+                return Optional.of(new Payload(parts[0], parts[1], Long.parseLong(parts[2]), Instant.ofEpochMilli(Long.parseLong(parts[3]))));
+            } catch (NumberFormatException ex) {
+                return Optional.empty();
+            }
+        }
+    }
+}
@@ -0,0 +1,44 @@
+-- Mesmo esquema da migração do MySQL, com os tipos que o Hibernate usa no H2
+create table if not exists customers (
+    id uuid not null,
+    name varchar(255),
+    cpf varchar(255),
+    email varchar(255),
+    primary key (id)
+);
+
+create table if not exists partners (
+    id uuid not null,
+    name varchar(255),
+    cnpj varchar(255),
+    email varchar(255),
+    primary key (id)
+);
+
+create table if not exists events (
+    id uuid not null,
+    name varchar(255),
+    date date,
+    total_spots integer not null,
+    partner_id uuid,
+    primary key (id)
+);
+
+create table if not exists events_tickets (
+    ticket_id uuid not null,
+    customer_id uuid,
+    ordering integer not null,
+    event_id uuid,
+    primary key (ticket_id),
+    foreign key (event_id) references events (id)
+);
+
+create table if not exists tickets (
+    id uuid not null,
+    customer_id uuid,
+    event_id uuid,
+    status varchar(255),
+    paid_at timestamp(6) with time zone,
+    reserved_at timestamp(6) with time zone,
+    primary key (id)
+);
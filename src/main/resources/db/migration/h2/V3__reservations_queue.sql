@@ -0,0 +1,18 @@
+-- Fila dos pedidos de inscrição assíncronos (POST /events/{id}/subscribe/async). Os consumidores buscam os pendentes
+-- mais antigos e ainda não entregues pelo índice de status, requested_at e claimed_until, sem ler as linhas da tabela.
+-- attempts conta as entregas: depois do limite o pedido termina FAILED.
+create table if not exists reservations (
+    id uuid not null,
+    customer_id uuid,
+    event_id uuid,
+    status varchar(255),
+    ticket_id uuid,
+    error varchar(255),
+    requested_at timestamp(6) with time zone,
+    completed_at timestamp(6) with time zone,
+    claimed_until timestamp(6) with time zone,
+    attempts integer default 0 not null,
+    primary key (id)
+);
+
+create index if not exists ix_reservations_claimable on reservations (status, requested_at, claimed_until);
@@ -0,0 +1,17 @@
+-- Colunas e tabela que as reservas passaram a usar depois do esquema base: o contador de vagas vendidas e a versão
+-- do evento, a posição do ticket e os blocos de vagas reservados por instância.
+alter table events add column sold_count integer default 0 not null;
+alter table events add column version bigint default 0 not null;
+
+alter table tickets add column ordering integer;
+
+create table if not exists events_spot_leases (
+    id uuid not null,
+    event_id uuid,
+    node_id varchar(255),
+    first_ordering integer not null,
+    last_ordering integer not null,
+    expires_at timestamp(6) with time zone,
+    released boolean not null,
+    primary key (id)
+);
@@ -0,0 +1,45 @@
+-- Esquema que o Hibernate criava com ddl-auto=update. Bancos que já existem entram no Flyway com baseline na versão 1,
+-- por isso este script é exatamente esse esquema; as mudanças seguintes ficam nas migrações a partir da versão 2.
+create table if not exists customers (
+    id binary(16) not null,
+    name varchar(255),
+    cpf varchar(255),
+    email varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+create table if not exists partners (
+    id binary(16) not null,
+    name varchar(255),
+    cnpj varchar(255),
+    email varchar(255),
+    primary key (id)
+) engine = InnoDB;
+
+create table if not exists events (
+    id binary(16) not null,
+    name varchar(255),
+    date date,
+    total_spots integer not null,
+    partner_id binary(16),
+    primary key (id)
+) engine = InnoDB;
+
+create table if not exists events_tickets (
+    ticket_id binary(16) not null,
+    customer_id binary(16),
+    ordering integer not null,
+    event_id binary(16),
+    primary key (ticket_id),
+    foreign key (event_id) references events (id)
+) engine = InnoDB;
+
+create table if not exists tickets (
+    id binary(16) not null,
+    customer_id binary(16),
+    event_id binary(16),
+    status varchar(255),
+    paid_at datetime(6),
+    reserved_at datetime(6),
+    primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,10 @@
+-- cpf, cnpj e email passam a ser únicos no banco: o cadastro vira um único insert e a duplicidade volta como violação
+-- destas constraints. Falha se já houver duplicados gravados; eles precisam ser resolvidos antes da migração.
+alter table customers add constraint uk_customers_cpf unique (cpf);
+alter table customers add constraint uk_customers_email unique (email);
+
+alter table partners add constraint uk_partners_cnpj unique (cnpj);
+alter table partners add constraint uk_partners_email unique (email);
+
+-- Um cliente só tem um ticket por evento; também serve de índice para a checagem feita na reserva
+alter table tickets add constraint uk_tickets_event_customer unique (event_id, customer_id);
@@ -0,0 +1,17 @@
+-- Fila dos pedidos de inscrição assíncronos (POST /events/{id}/subscribe/async). Os consumidores buscam os pendentes
+-- mais antigos e ainda não entregues pelo índice de status, requested_at e claimed_until, sem ler as linhas da tabela.
+-- attempts conta as entregas: depois do limite o pedido termina FAILED.
+create table if not exists reservations (
+    id binary(16) not null,
+    customer_id binary(16),
+    event_id binary(16),
+    status varchar(255),
+    ticket_id binary(16),
+    error varchar(255),
+    requested_at datetime(6),
+    completed_at datetime(6),
+    claimed_until datetime(6),
+    attempts integer not null default 0,
+    primary key (id),
+    index ix_reservations_claimable (status, requested_at, claimed_until)
+) engine = InnoDB;
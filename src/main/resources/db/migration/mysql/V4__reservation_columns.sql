@@ -0,0 +1,17 @@
+-- Colunas e tabela que as reservas passaram a usar depois do esquema base: o contador de vagas vendidas e a versão
+-- do evento, a posição do ticket e os blocos de vagas reservados por instância.
+alter table events add column sold_count integer not null default 0;
+alter table events add column version bigint not null default 0;
+
+alter table tickets add column ordering integer;
+
+create table if not exists events_spot_leases (
+    id binary(16) not null,
+    event_id binary(16),
+    node_id varchar(255),
+    first_ordering integer not null,
+    last_ordering integer not null,
+    expires_at datetime(6),
+    released bit not null,
+    primary key (id)
+) engine = InnoDB;
@@ -0,0 +1,20 @@
+-- A posição das reservas feitas antes da migração está em events_tickets; ela passa para tickets e a tabela é removida
+update tickets t
+    join events_tickets et on et.ticket_id = t.id
+set t.ordering = et.ordering
+where t.ordering is null;
+
+-- Reservas que só existem em events_tickets passam a ter o seu ticket. A data da reserva não foi guardada, então fica
+-- a da migração, porque o ticket restaurado exige reserved_at.
+insert into tickets (id, customer_id, event_id, status, reserved_at, ordering)
+select et.ticket_id, et.customer_id, et.event_id, 'PENDING', current_timestamp(6), et.ordering
+from events_tickets et
+where not exists (select 1 from tickets t where t.id = et.ticket_id);
+
+-- Nenhum bloco de vagas existe ainda, então o contador é o total de tickets do evento
+update events e
+set sold_count = (select count(*) from tickets t where t.event_id = e.id);
+
+alter table tickets add constraint uk_events_tickets_event_ordering unique (event_id, ordering);
+
+drop table events_tickets;
@@ -0,0 +1,104 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+// Compara a checagem de cliente já registrado antes do índice (varredura dos tickets, como o reserveTicket fazia)
+// e depois dele (EventTickets.hasCustomer), para eventos de tamanhos diferentes. Habilite com CUSTOMER_LOOKUP_BENCHMARK=true.
+@EnabledIfEnvironmentVariable(named = "CUSTOMER_LOOKUP_BENCHMARK", matches = "true")
+class CustomerLookupBenchmarkIT {
+
+    private static final int[] TICKETS = {100, 1_000, 10_000, 100_000};
+    private static final int LOOKUPS = 2_000;
+    private static final int WARMUP_ROUNDS = 3;
+
+    // O índice deve custar quase o mesmo em qualquer tamanho; a folga cobre as faltas de cache da tabela maior
+    private static final int MAX_INDEX_GROWTH = 4;
+
+    @Test
+    @DisplayName("Deve consultar o cliente pelo índice com custo quase constante e mais rápido do que varrendo os tickets")
+    public void testCustomerLookup() {
+        // given
+        final var results = new ArrayList<long[]>();
+
+        // when
+        for (final var size : TICKETS) {
+            final var anEventId = EventId.unique();
+            final var tickets = newTickets(anEventId, size);
+            final var index = EventTickets.of(anEventId, tickets);
+            final var lookups = lookupsOf(tickets);
+
+            final Predicate<CustomerId> scan = aCustomerId -> tickets.stream()
+                    .anyMatch(it -> Objects.equals(it.customerId(), aCustomerId));
+
+            results.add(new long[]{size, measure(scan, lookups), measure(index::hasCustomer, lookups)});
+        }
+
+        // then
+        final var smallest = results.get(0);
+        final var largest = results.get(results.size() - 1);
+
+        Assertions.assertTrue(largest[2] < largest[1], () -> "index should beat scan at the largest size: " + report(results));
+        Assertions.assertTrue(largest[2] <= Math.max(1, smallest[2]) * MAX_INDEX_GROWTH,
+                () -> "index cost should stay within " + MAX_INDEX_GROWTH + "x of the smallest size: " + report(results));
+    }
+
+    private static String report(final List<long[]> results) {
+        return results.stream()
+                .map(it -> it[0] + " tickets: scan " + it[1] + " ns/op, index " + it[2] + " ns/op")
+                .collect(Collectors.joining("; "));
+    }
+
+    private static Set<EventTicket> newTickets(final EventId anEventId, final int size) {
+        final var tickets = new HashSet<EventTicket>(size * 2);
+        for (int i = 0; i < size; i++) {
+            tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), i + 1));
+        }
+        return tickets;
+    }
+
+    // Metade das consultas encontra o cliente e metade não, que é o caso de uma reserva nova
+    private static List<CustomerId> lookupsOf(final Set<EventTicket> tickets) {
+        final var registered = tickets.stream().map(EventTicket::customerId).toList();
+        final var lookups = new ArrayList<CustomerId>(LOOKUPS);
+        for (int i = 0; i < LOOKUPS; i++) {
+            lookups.add(i % 2 == 0 ? registered.get(i % registered.size()) : CustomerId.unique());
+        }
+        return lookups;
+    }
+
+    private static long measure(final Predicate<CustomerId> lookup, final List<CustomerId> lookups) {
+        for (int i = 0; i < WARMUP_ROUNDS; i++) {
+            run(lookup, lookups);
+        }
+
+        final var start = System.nanoTime();
+        final var found = run(lookup, lookups);
+        final var elapsed = System.nanoTime() - start;
+
+        Assertions.assertEquals(LOOKUPS / 2, found);
+        return elapsed / LOOKUPS;
+    }
+
+    private static int run(final Predicate<CustomerId> lookup, final List<CustomerId> lookups) {
+        int found = 0;
+        for (final var aCustomerId : lookups) {
+            if (lookup.test(aCustomerId)) {
+                found++;
+            }
+        }
+        return found;
+    }
+}
@@ -1,6 +1,8 @@
 package br.com.fullcycle.hexagonal.application.domain.event;
 
 import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
 import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import org.junit.jupiter.api.Assertions;
@@ -8,6 +10,9 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
 import java.time.format.DateTimeFormatter;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus.PENDING;
 
@@ -175,4 +180,106 @@ public class EventTest {
         Assertions.assertEquals(expectedError, actualError.getMessage());
     }
 
+    @Test
+    @DisplayName("Não deve reservar um ticket para um cliente já registrado em um evento restaurado")
+    public void testReserveTicketForCustomerAlreadyRegisteredInRestoredEvent() throws Exception {
+        // given
+        final var aPartner =
+                Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+
+        final var aCustomer =
+                Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+
+        final var expectedError = "Email already registered";
+        final var expectedTickets = 1;
+
+        final var anEventId = EventId.unique();
+        final Set<EventTicket> tickets = new HashSet<>();
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, aCustomer.customerId(), 1));
+
+        final var actualEvent = Event.restore(anEventId.value(), "Disney on Ice", "2021-01-01", 10, aPartner.partnerId().value(), tickets);
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                ValidationException.class,
+                () -> actualEvent.reserveTicket(aCustomer.customerId())
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+        Assertions.assertEquals(expectedTickets, actualEvent.allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Deve continuar a sequência de ordering a partir do maior ordering restaurado")
+    public void testReserveTicketContinuesOrderingOfRestoredEvent() throws Exception {
+        // given
+        final var aPartner =
+                Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+
+        final var aCustomer =
+                Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+
+        final var expectedTicketOrder = 4;
+
+        final var anEventId = EventId.unique();
+        final Set<EventTicket> tickets = new HashSet<>();
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 1));
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 3));
+
+        final var actualEvent = Event.restore(anEventId.value(), "Disney on Ice", "2021-01-01", 10, aPartner.partnerId().value(), tickets);
+
+        // when
+        final var actualTicket = actualEvent.reserveTicket(aCustomer.customerId());
+
+        // then
+        final var actualEventTicket = actualEvent.allTickets().stream()
+                .filter(it -> it.ticketId().equals(actualTicket.ticketId()))
+                .findFirst()
+                .get();
+
+        Assertions.assertEquals(expectedTicketOrder, actualEventTicket.ordering());
+    }
+
+    @Test
+    @DisplayName("Deve carregar os tickets de um evento restaurado apenas quando forem acessados")
+    public void testRestoreEventWithLazyTickets() {
+        // given
+        final var aPartner =
+                Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+
+        final var expectedSoldCount = 2;
+        final var expectedTickets = 2;
+
+        final var anEventId = EventId.unique();
+        final Set<EventTicket> tickets = new HashSet<>();
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 1));
+        tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 2));
+
+        final var loads = new AtomicInteger();
+
+        // when
+        final var actualEvent = Event.restore(
+                anEventId.value(),
+                "Disney on Ice",
+                "2021-01-01",
+                10,
+                aPartner.partnerId().value(),
+                expectedSoldCount,
+                rows -> {
+                    loads.incrementAndGet();
+                    tickets.forEach(it -> rows.add(it.ticketId().value(), it.customerId().value(), it.ordering()));
+                },
+                0
+        );
+
+        // then
+        Assertions.assertEquals(expectedSoldCount, actualEvent.soldCount());
+        Assertions.assertEquals(0, loads.get());
+
+        Assertions.assertEquals(expectedTickets, actualEvent.allTickets().size());
+        Assertions.assertEquals(expectedTickets, actualEvent.allTickets().size());
+        Assertions.assertEquals(1, loads.get());
+    }
+
 }
@@ -0,0 +1,100 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+
+import java.lang.management.ManagementFactory;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+// Mede o heap retido ao restaurar um evento com muitos tickets: o EventTickets compacto, carregado linha a linha como
+// fazem os adapters, contra o formato anterior (Set<EventTicket> mais o índice por cliente). Habilite com
+// EVENT_TICKETS_PROBE=true.
+@EnabledIfEnvironmentVariable(named = "EVENT_TICKETS_PROBE", matches = "true")
+class EventTicketsProbeIT {
+
+    private static final int TICKETS = 100_000;
+
+    // Meta do armazenamento compacto: reter no máximo um quinto do heap do formato anterior
+    private static final int TARGET_RATIO = 5;
+
+    @Test
+    @DisplayName("Deve reter ao menos 5x menos heap com o EventTickets compacto do que com objetos EventTicket")
+    public void testCompactTicketsFootprint() {
+        // given
+        final var anEventId = EventId.unique();
+        final var aPartnerId = PartnerId.unique();
+
+        // when
+        final var objects = measure(() -> {
+            final var tickets = newTickets(anEventId);
+            final Map<CustomerId, EventTicket> byCustomer = new HashMap<>(tickets.size());
+            tickets.forEach(it -> byCustomer.put(it.customerId(), it));
+            return new Object[]{tickets, byCustomer};
+        });
+
+        final var compact = measure(() -> {
+            final var anEvent = Event.restore(
+                    anEventId.value(), "Disney on Ice", "2021-01-01", TICKETS, aPartnerId.value(), TICKETS, EventTicketsProbeIT::newRows, 0);
+            Assertions.assertEquals(TICKETS, anEvent.allTickets().size());
+            return anEvent;
+        });
+
+        // then
+        Assertions.assertTrue(compact.retained() * TARGET_RATIO <= objects.retained(), () -> String.format(
+                "compact retained %.1f MB (allocated %.1f MB), objects retained %.1f MB (allocated %.1f MB): ratio %.1fx, target %dx",
+                compact.retained() / 1e6, compact.allocated() / 1e6, objects.retained() / 1e6, objects.allocated() / 1e6,
+                (double) objects.retained() / compact.retained(), TARGET_RATIO));
+    }
+
+    // Mesmo formato das linhas lidas do banco pelos adapters
+    private static void newRows(final EventTicketRows rows) {
+        for (int i = 0; i < TICKETS; i++) {
+            rows.add(TicketId.unique().value(), CustomerId.unique().value(), i + 1);
+        }
+    }
+
+    private static Set<EventTicket> newTickets(final EventId anEventId) {
+        final var tickets = new HashSet<EventTicket>(TICKETS * 2);
+        for (int i = 0; i < TICKETS; i++) {
+            tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), i + 1));
+        }
+        return tickets;
+    }
+
+    // O retido é a diferença do heap usado com o resultado ainda referenciado, depois de coletar o lixo da montagem
+    private static Footprint measure(final Supplier<Object> factory) {
+        final var threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final var thread = Thread.currentThread().getId();
+
+        final var usedBefore = usedHeap();
+        final var allocatedBefore = threads.getThreadAllocatedBytes(thread);
+
+        final var result = factory.get();
+
+        final var allocated = threads.getThreadAllocatedBytes(thread) - allocatedBefore;
+        final var retained = usedHeap() - usedBefore;
+
+        Assertions.assertNotNull(result);
+        return new Footprint(retained, allocated);
+    }
+
+    private static long usedHeap() {
+        final var runtime = Runtime.getRuntime();
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    private record Footprint(long retained, long allocated) {
+    }
+}
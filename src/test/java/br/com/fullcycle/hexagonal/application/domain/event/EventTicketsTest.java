@@ -0,0 +1,105 @@
+package br.com.fullcycle.hexagonal.application.domain.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+
+public class EventTicketsTest {
+
+    @Test
+    @DisplayName("Deve armazenar e materializar os tickets de um evento")
+    public void testAppendAndIterateTickets() {
+        // given
+        final var anEventId = EventId.unique();
+        final var expectedTickets = 1_000;
+
+        final List<TicketId> ticketIds = new ArrayList<>();
+        final List<CustomerId> customerIds = new ArrayList<>();
+
+        final var tickets = EventTickets.of(anEventId, null);
+
+        // when
+        for (int i = 0; i < expectedTickets; i++) {
+            final var aTicketId = TicketId.unique();
+            final var aCustomerId = CustomerId.unique();
+            ticketIds.add(aTicketId);
+            customerIds.add(aCustomerId);
+            tickets.append(aTicketId, aCustomerId, i + 1);
+        }
+
+        // then
+        Assertions.assertEquals(expectedTickets, tickets.size());
+        customerIds.forEach(it -> Assertions.assertTrue(tickets.hasCustomer(it)));
+        Assertions.assertFalse(tickets.hasCustomer(CustomerId.unique()));
+
+        var position = 0;
+        for (final var actualTicket : tickets) {
+            Assertions.assertEquals(anEventId, actualTicket.eventId());
+            Assertions.assertEquals(ticketIds.get(position), actualTicket.ticketId());
+            Assertions.assertEquals(customerIds.get(position), actualTicket.customerId());
+            Assertions.assertEquals(position + 1, actualTicket.ordering());
+            position++;
+        }
+    }
+
+    @Test
+    @DisplayName("Deve restaurar os tickets e indexar os clientes")
+    public void testRestoreTickets() {
+        // given
+        final var anEventId = EventId.unique();
+        final var aCustomerId = CustomerId.unique();
+
+        final var restored = new HashSet<EventTicket>();
+        restored.add(new EventTicket(TicketId.unique(), anEventId, aCustomerId, 1));
+        restored.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 2));
+
+        // when
+        final var tickets = EventTickets.of(anEventId, restored);
+
+        // then
+        Assertions.assertEquals(restored.size(), tickets.size());
+        Assertions.assertTrue(tickets.hasCustomer(aCustomerId));
+    }
+
+    @Test
+    @DisplayName("Não deve permitir alterar a visão dos tickets")
+    public void testTicketsViewIsUnmodifiable() {
+        // given
+        final var anEventId = EventId.unique();
+        final var tickets = EventTickets.of(anEventId, null);
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                UnsupportedOperationException.class,
+                () -> tickets.add(new EventTicket(TicketId.unique(), anEventId, CustomerId.unique(), 1))
+        );
+
+        // then
+        Assertions.assertNotNull(actualError);
+        Assertions.assertEquals(0, tickets.size());
+    }
+
+    @Test
+    @DisplayName("Não deve armazenar um ticket com id inválido")
+    public void testAppendTicketWithInvalidId() {
+        // given
+        final var expectedError = "Invalid ticketId for EventTicket";
+        final var tickets = EventTickets.of(EventId.unique(), null);
+
+        // when
+        final var actualError = Assertions.assertThrows(
+                ValidationException.class,
+                () -> tickets.append(new TicketId("123"), CustomerId.unique(), 1)
+        );
+
+        // then
+        Assertions.assertEquals(expectedError, actualError.getMessage());
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fullcycle.hexagonal.application.repository;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static br.com.fullcycle.hexagonal.application.repository.InMemoryFutures.completed;
+
+public class InMemoryCustomerAsyncRepository implements CustomerAsyncRepository {
+
+    private final CustomerRepository customerRepository;
+
+    public InMemoryCustomerAsyncRepository(final CustomerRepository customerRepository) {
+        this.customerRepository = Objects.requireNonNull(customerRepository);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Customer>> customerOfId(final CustomerId anId) {
+        return completed(() -> customerRepository.customerOfId(anId));
+    }
+
+    @Override
+    public CompletableFuture<Customer> create(final Customer customer) {
+        return completed(() -> customerRepository.create(customer));
+    }
+}
@@ -4,14 +4,19 @@ import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
 import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerBatchRepository;
 import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 
-public class InMemoryCustomerRepository implements CustomerRepository {
+public class InMemoryCustomerRepository implements CustomerRepository, CustomerBatchRepository {
     private final Map<String, Customer> customers;
     private final Map<String, Customer> customersByCPF;
     private final Map<String, Customer> customersByEmail;
@@ -39,12 +44,30 @@ public class InMemoryCustomerRepository implements CustomerRepository {
 
     @Override
     public Customer create(Customer customer) {
+        // Faz o papel das constraints unique do banco
+        if (this.customersByCPF.containsKey(customer.cpf().value())
+                || this.customersByEmail.containsKey(customer.email().value())) {
+            throw new ValidationException("Customer already exists");
+        }
         this.customers.put(customer.customerId().value(), customer);
         this.customersByCPF.put(customer.cpf().value(), customer);
         this.customersByEmail.put(customer.email().value(), customer);
         return customer;
     }
 
+    @Override
+    public Set<CustomerId> createAll(List<Customer> customers) {
+        final var inserted = new HashSet<CustomerId>();
+        for (final var customer : customers) {
+            if (!this.customersByCPF.containsKey(customer.cpf().value())
+                    && !this.customersByEmail.containsKey(customer.email().value())) {
+                create(customer);
+                inserted.add(customer.customerId());
+            }
+        }
+        return inserted;
+    }
+
     @Override
     public Customer update(Customer customer) {
         this.customers.put(customer.customerId().value(), customer);
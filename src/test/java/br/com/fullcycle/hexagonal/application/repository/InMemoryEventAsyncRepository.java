@@ -0,0 +1,49 @@
+package br.com.fullcycle.hexagonal.application.repository;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static br.com.fullcycle.hexagonal.application.repository.InMemoryFutures.completed;
+
+public class InMemoryEventAsyncRepository implements EventAsyncRepository {
+
+    private final EventRepository eventRepository;
+
+    public InMemoryEventAsyncRepository(final EventRepository eventRepository) {
+        this.eventRepository = Objects.requireNonNull(eventRepository);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Event>> eventOfId(final EventId anId) {
+        return completed(() -> eventRepository.eventOfId(anId));
+    }
+
+    @Override
+    public CompletableFuture<Event> create(final Event event) {
+        return completed(() -> eventRepository.create(event));
+    }
+
+    @Override
+    public CompletableFuture<Ticket> reserveTicket(final EventId anId, final CustomerId aCustomerId) {
+        return completed(() -> eventRepository.reserveTicket(anId, aCustomerId));
+    }
+
+    @Override
+    public CompletableFuture<List<GroupReservation.Result>> reserveTickets(
+            final EventId anId,
+            final List<CustomerId> customerIds,
+            final boolean allOrNothing
+    ) {
+        return completed(() -> eventRepository.reserveTickets(anId, customerIds, allOrNothing));
+    }
+}
@@ -1,12 +1,19 @@
 package br.com.fullcycle.hexagonal.application.repository;
 
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
 import br.com.fullcycle.hexagonal.application.domain.event.Event;
 import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.Ticket;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Collectors;
 
 public class InMemoryEventRepository implements EventRepository {
     private final Map<String, Event> events;
@@ -32,6 +39,24 @@ public class InMemoryEventRepository implements EventRepository {
         return event;
     }
 
+    @Override
+    public Ticket reserveTicket(EventId anId, CustomerId aCustomerId) {
+        return eventOfId(anId)
+                .orElseThrow(() -> new ValidationException("Event not found"))
+                .reserveTicket(aCustomerId);
+    }
+
+    @Override
+    public List<GroupReservation.Result> reserveTickets(EventId anId, List<CustomerId> customerIds, boolean allOrNothing) {
+        final var anEvent = eventOfId(anId).orElseThrow(() -> new ValidationException("Event not found"));
+        final var registered = anEvent.allTickets().stream().map(EventTicket::customerId).collect(Collectors.toSet());
+
+        return GroupReservation.plan(anId, customerIds, registered, anEvent.totalSpots() - anEvent.soldCount(), allOrNothing)
+                .results().stream()
+                .map(it -> it.reserved() ? new GroupReservation.Result(it.customerId(), anEvent.reserveTicket(it.customerId()), null) : it)
+                .toList();
+    }
+
     @Override
     public void deleteAll() {
         this.events.clear();
@@ -0,0 +1,19 @@
+package br.com.fullcycle.hexagonal.application.repository;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+final class InMemoryFutures {
+
+    private InMemoryFutures() {
+    }
+
+    // Como um adapter assíncrono: a falha do repositório completa o futuro em vez de ser lançada para quem chamou
+    static <T> CompletableFuture<T> completed(final Supplier<T> call) {
+        try {
+            return CompletableFuture.completedFuture(call.get());
+        } catch (RuntimeException ex) {
+            return CompletableFuture.failedFuture(ex);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package br.com.fullcycle.hexagonal.application.repository;
+
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import static br.com.fullcycle.hexagonal.application.repository.InMemoryFutures.completed;
+
+public class InMemoryPartnerAsyncRepository implements PartnerAsyncRepository {
+
+    private final PartnerRepository partnerRepository;
+
+    public InMemoryPartnerAsyncRepository(final PartnerRepository partnerRepository) {
+        this.partnerRepository = Objects.requireNonNull(partnerRepository);
+    }
+
+    @Override
+    public CompletableFuture<Optional<Partner>> partnerOfId(final PartnerId anId) {
+        return completed(() -> partnerRepository.partnerOfId(anId));
+    }
+
+    @Override
+    public CompletableFuture<Partner> create(final Partner partner) {
+        return completed(() -> partnerRepository.create(partner));
+    }
+}
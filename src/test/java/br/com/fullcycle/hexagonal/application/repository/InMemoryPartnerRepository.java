@@ -4,6 +4,7 @@ import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.domain.partner.PartnerId;
 import br.com.fullcycle.hexagonal.application.domain.person.Cnpj;
 import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 
 import java.util.HashMap;
@@ -39,6 +40,11 @@ public class InMemoryPartnerRepository implements PartnerRepository {
 
     @Override
     public Partner create(Partner partner) {
+        // Faz o papel das constraints unique do banco
+        if (this.partnersByCNPJ.containsKey(partner.cnpj().value())
+                || this.partnersByEmail.containsKey(partner.email().value())) {
+            throw new ValidationException("Partner already exists");
+        }
         this.partners.put(partner.partnerId().value(), partner);
         this.partnersByCNPJ.put(partner.cnpj().value(), partner);
         this.partnersByEmail.put(partner.email().value(), partner);
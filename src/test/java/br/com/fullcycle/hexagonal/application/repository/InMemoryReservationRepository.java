@@ -0,0 +1,68 @@
+package br.com.fullcycle.hexagonal.application.repository;
+
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.Reservation;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationId;
+import br.com.fullcycle.hexagonal.application.repositories.ReservationRepository;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class InMemoryReservationRepository implements ReservationRepository {
+    private final Map<String, Reservation> reservations;
+    private final Set<String> claimed;
+
+    public InMemoryReservationRepository() {
+        this.reservations = new LinkedHashMap<>();
+        this.claimed = new HashSet<>();
+    }
+
+    @Override
+    public Optional<Reservation> reservationOfId(ReservationId anId) {
+        return Optional.ofNullable(this.reservations.get(anId.value()));
+    }
+
+    @Override
+    public Reservation create(Reservation reservation) {
+        this.reservations.put(reservation.reservationId().value(), reservation);
+        return reservation;
+    }
+
+    @Override
+    public Reservation update(Reservation reservation) {
+        this.reservations.put(reservation.reservationId().value(), reservation);
+        this.claimed.remove(reservation.reservationId().value());
+        return reservation;
+    }
+
+    // Sem prazo: um pedido entregue só volta para a fila quando for concluído
+    @Override
+    public List<Reservation> claimPending(int limit, Duration timeout) {
+        final var pending = this.reservations.values().stream()
+                .filter(Reservation::isPending)
+                .filter(it -> !this.claimed.contains(it.reservationId().value()))
+                .sorted(Comparator.comparing(Reservation::requestedAt))
+                .limit(limit)
+                .map(it -> new Reservation(it.reservationId(), it.customerId(), it.eventId(), it.status(), it.ticketId(),
+                        it.error(), it.requestedAt(), it.completedAt(), it.attempts() + 1))
+                .toList();
+
+        pending.forEach(it -> {
+            this.reservations.put(it.reservationId().value(), it);
+            this.claimed.add(it.reservationId().value());
+        });
+        return pending;
+    }
+
+    @Override
+    public void deleteAll() {
+        this.reservations.clear();
+        this.claimed.clear();
+    }
+
+}
@@ -0,0 +1,74 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+import java.util.concurrent.CompletionException;
+
+class CreateCustomerAsyncUseCaseTest {
+
+    @Test
+    @DisplayName("Deve criar um cliente sem consultar CPF e e-mail antes da gravação")
+    public void testCreateCustomerWithoutLookups() {
+        // given
+        final var exectedCpf = "123.456.789-01";
+        final var exectedEmail = "john.doe@gmail.com";
+        final var exectedName = "John Doe";
+
+        final var createInput = new CreateCustomerUseCase.Input(exectedCpf, exectedEmail, exectedName);
+
+        // A duplicidade fica a cargo do create; as buscas não podem mais ser chamadas
+        final var customerRepository = new InMemoryCustomerRepository() {
+            @Override
+            public Optional<Customer> customerOfCpf(final Cpf cpf) {
+                throw new AssertionError("CPF lookup before insert");
+            }
+
+            @Override
+            public Optional<Customer> customerOfEmail(final Email email) {
+                throw new AssertionError("Email lookup before insert");
+            }
+        };
+
+        // when
+        final var useCase = new CreateCustomerAsyncUseCase(new InMemoryCustomerAsyncRepository(customerRepository));
+        final var output = useCase.execute(createInput).join();
+
+        // then
+        Assertions.assertNotNull(output.id());
+        Assertions.assertEquals(exectedCpf, output.cpf());
+        Assertions.assertEquals(exectedEmail, output.email());
+        Assertions.assertEquals(exectedName, output.name());
+    }
+
+    @Test
+    @DisplayName("Não deve cadastrar um cliente com e-mail duplicado")
+    public void testCreateWithDuplicatedEmailShouldFail() {
+        // given
+        final var exectedCpf = "123.456.789-01";
+        final var exectedEmail = "john.doe@gmail.com";
+        final var exectedName = "John Doe";
+        final var expectedError = "Customer already exists";
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(Customer.newCustomer(exectedName, "999.999.189-01", exectedEmail));
+
+        final var createInput = new CreateCustomerUseCase.Input(exectedCpf, exectedEmail, exectedName);
+
+        // when
+        final var useCase = new CreateCustomerAsyncUseCase(new InMemoryCustomerAsyncRepository(customerRepository));
+        final var actualException = Assertions.assertThrows(CompletionException.class, () -> useCase.execute(createInput).join());
+
+        // then
+        Assertions.assertInstanceOf(ValidationException.class, actualException.getCause());
+        Assertions.assertEquals(expectedError, actualException.getCause().getMessage());
+    }
+}
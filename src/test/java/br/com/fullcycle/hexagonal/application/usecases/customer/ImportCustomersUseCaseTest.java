@@ -0,0 +1,131 @@
+package br.com.fullcycle.hexagonal.application.usecases.customer;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+public class ImportCustomersUseCaseTest {
+
+    @Test
+    @DisplayName("Deve importar clientes em lotes e relatar o resultado de cada linha na ordem")
+    public void testImportCustomers() {
+        // given
+        final var expectedCreated = 2L;
+        final var expectedRejected = 3L;
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(Customer.newCustomer("Vanessa Doe", "123.456.789-09", "vanessa.doe@gmail.com"));
+
+        final var rows = List.of(
+                new ImportCustomersUseCase.Row(2, "123.456.789-01", "john.doe@gmail.com", "John Doe"),
+                new ImportCustomersUseCase.Row(3, "123.456.789", "mary.doe@gmail.com", "Mary Doe"),
+                new ImportCustomersUseCase.Row(4, "123.456.789-02", "john.doe@gmail.com", "John Doe"),
+                new ImportCustomersUseCase.Row(5, "123.456.789-09", "vanessa@gmail.com", "Vanessa Doe"),
+                new ImportCustomersUseCase.Row(6, "123.456.789-03", "peter.doe@gmail.com", "Peter Doe")
+        );
+
+        final var results = new ArrayList<ImportCustomersUseCase.Result>();
+
+        // when
+        final var useCase = new ImportCustomersUseCase(customerRepository, 10);
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(rows.iterator(), results::add));
+
+        // then
+        Assertions.assertEquals(expectedCreated, output.created());
+        Assertions.assertEquals(expectedRejected, output.rejected());
+
+        Assertions.assertEquals(List.of(2L, 3L, 4L, 5L, 6L), results.stream().map(ImportCustomersUseCase.Result::line).toList());
+        Assertions.assertEquals("created", results.get(0).status());
+        Assertions.assertEquals("Invalid value for Cpf", results.get(1).error());
+        Assertions.assertEquals("Customer duplicated in line 2", results.get(2).error());
+        Assertions.assertEquals("Customer already exists", results.get(3).error());
+        Assertions.assertEquals("created", results.get(4).status());
+
+        Assertions.assertTrue(customerRepository.customerOfId(CustomerId.with(results.get(4).id())).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve gravar no máximo o tamanho do lote por vez")
+    public void testImportRespectsBatchSize() {
+        // given
+        final var expectedBatches = List.of(3, 3, 1);
+
+        final var batches = new ArrayList<Integer>();
+        final var customerRepository = new InMemoryCustomerRepository() {
+            @Override
+            public Set<CustomerId> createAll(final List<Customer> customers) {
+                batches.add(customers.size());
+                return super.createAll(customers);
+            }
+        };
+
+        final var rows = new ArrayList<ImportCustomersUseCase.Row>();
+        for (int i = 0; i < 7; i++) {
+            rows.add(new ImportCustomersUseCase.Row(i + 1, "123.456.789-0" + i, "john.doe" + i + "@gmail.com", "John Doe"));
+        }
+
+        // when
+        final var useCase = new ImportCustomersUseCase(customerRepository, 3);
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(rows.iterator(), result -> {}));
+
+        // then
+        Assertions.assertEquals(7L, output.created());
+        Assertions.assertEquals(expectedBatches, batches);
+    }
+
+    @Test
+    @DisplayName("Deve apontar a primeira linha da repetição mesmo quando ela foi gravada em outro lote")
+    public void testDuplicatedAcrossBatches() {
+        // given
+        final var customerRepository = new InMemoryCustomerRepository();
+
+        final var rows = List.of(
+                new ImportCustomersUseCase.Row(1, "123.456.789-01", "john.doe@gmail.com", "John Doe"),
+                new ImportCustomersUseCase.Row(2, "123.456.789-02", "mary.doe@gmail.com", "Mary Doe"),
+                new ImportCustomersUseCase.Row(3, "123.456.789-03", "mary.doe@gmail.com", "Mary Doe"),
+                new ImportCustomersUseCase.Row(4, "123.456.789-01", "john@gmail.com", "John Doe")
+        );
+
+        final var results = new ArrayList<ImportCustomersUseCase.Result>();
+
+        // when
+        final var useCase = new ImportCustomersUseCase(customerRepository, 2);
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(rows.iterator(), results::add));
+
+        // then
+        Assertions.assertEquals(2L, output.created());
+        Assertions.assertEquals(2L, output.rejected());
+        Assertions.assertEquals("Customer duplicated in line 2", results.get(2).error());
+        Assertions.assertEquals("Customer duplicated in line 1", results.get(3).error());
+    }
+
+    @Test
+    @DisplayName("Deve comparar o e-mail como ele é gravado, sem tratar maiúsculas como repetição")
+    public void testEmailComparedAsStored() {
+        // given
+        final var customerRepository = new InMemoryCustomerRepository();
+
+        final var rows = List.of(
+                new ImportCustomersUseCase.Row(1, "123.456.789-01", "john.doe@gmail.com", "John Doe"),
+                new ImportCustomersUseCase.Row(2, "123.456.789-02", "JOHN.DOE@gmail.com", "John Doe")
+        );
+
+        final var results = new ArrayList<ImportCustomersUseCase.Result>();
+
+        // when
+        final var useCase = new ImportCustomersUseCase(customerRepository, 10);
+        final var output = useCase.execute(new ImportCustomersUseCase.Input(rows.iterator(), results::add));
+
+        // then
+        Assertions.assertEquals(2L, output.created());
+        Assertions.assertEquals("created", results.get(1).status());
+        Assertions.assertTrue(customerRepository.customerOfId(CustomerId.with(results.get(1).id())).isPresent());
+    }
+}
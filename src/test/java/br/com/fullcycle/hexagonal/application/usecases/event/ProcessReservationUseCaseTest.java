@@ -0,0 +1,81 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationId;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryReservationRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.CONFIRMED;
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.PENDING;
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.REJECTED;
+
+class ProcessReservationUseCaseTest {
+
+    private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+    private final InMemoryEventRepository eventRepository = new InMemoryEventRepository();
+    private final InMemoryReservationRepository reservationRepository = new InMemoryReservationRepository();
+
+    private final QueueSubscriptionUseCase queueUseCase = new QueueSubscriptionUseCase(reservationRepository);
+    private final ProcessReservationUseCase processUseCase = new ProcessReservationUseCase(
+            reservationRepository, new SubscribeCustomerToEventUseCase(customerRepository, eventRepository));
+
+    @Test
+    @DisplayName("Deve enfileirar um pedido de inscrição e confirmá-lo com o ticket reservado")
+    public void testQueueAndConfirm() {
+        //given
+        final var anEvent = newEvent(10);
+        final var aCustomer = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+
+        //when
+        final var queued = queueUseCase.execute(new QueueSubscriptionUseCase.Input(aCustomer.customerId().value(), anEvent.eventId().value()));
+        final var beforeProcessing = anEvent.soldCount();
+
+        final var claimed = reservationRepository.claimPending(10, null);
+        final var output = processUseCase.execute(new ProcessReservationUseCase.Input(claimed.get(0).reservationId().value()));
+
+        //then
+        Assertions.assertEquals(PENDING.name(), queued.status());
+        Assertions.assertEquals(0, beforeProcessing);
+        Assertions.assertEquals(queued.id(), output.reservationId());
+        Assertions.assertEquals(CONFIRMED.name(), output.status());
+
+        final var actualReservation = reservationRepository.reservationOfId(ReservationId.with(queued.id())).get();
+        final var actualTicket = anEvent.allTickets().iterator().next();
+        Assertions.assertEquals(actualTicket.ticketId(), actualReservation.ticketId());
+        Assertions.assertNotNull(actualReservation.completedAt());
+        Assertions.assertTrue(reservationRepository.claimPending(10, null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve rejeitar o pedido com o erro da reserva e não reprocessar um pedido concluído")
+    public void testReject() {
+        //given
+        final var anEvent = newEvent(10);
+        final var unknownCustomer = CustomerId.unique().value();
+        final var queued = queueUseCase.execute(new QueueSubscriptionUseCase.Input(unknownCustomer, anEvent.eventId().value()));
+
+        //when
+        final var output = processUseCase.execute(new ProcessReservationUseCase.Input(queued.id()));
+        final var again = processUseCase.execute(new ProcessReservationUseCase.Input(queued.id()));
+
+        //then
+        Assertions.assertEquals(REJECTED.name(), output.status());
+        Assertions.assertEquals(REJECTED.name(), again.status());
+
+        final var actualReservation = reservationRepository.reservationOfId(ReservationId.with(queued.id())).get();
+        Assertions.assertEquals("Customer not found", actualReservation.error());
+        Assertions.assertNull(actualReservation.ticketId());
+    }
+
+    private Event newEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        return eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
@@ -0,0 +1,99 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletionException;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus.PENDING;
+
+class SubscribeCustomerToEventAsyncUseCaseTest {
+
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento")
+    public void testReserveTicket() {
+        //given
+        final var expectedTicketsSize = 1;
+
+        final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
+        final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner);
+        final var aCustomer = Customer.newCustomer("Hygor Doe", "123.456.789-01", "hygor.doe@gmail.com");
+
+        final var customerId = aCustomer.customerId().value();
+        final var eventId = anEvent.eventId().value();
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(customerId, eventId);
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        final var eventRepository = new InMemoryEventRepository();
+
+        customerRepository.create(aCustomer);
+        eventRepository.create(anEvent);
+
+        //when
+        final var useCase = new SubscribeCustomerToEventAsyncUseCase(
+                new InMemoryCustomerAsyncRepository(customerRepository), new InMemoryEventAsyncRepository(eventRepository));
+        final var output = useCase.execute(subscribeInput).join();
+
+        //then
+        Assertions.assertEquals(eventId, output.eventId());
+        Assertions.assertNotNull(output.ticketId());
+        Assertions.assertNotNull(output.reservationDate());
+        Assertions.assertEquals(PENDING.name(), output.ticketStatus());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId());
+        Assertions.assertEquals(expectedTicketsSize, actualEvent.get().allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Deve informar primeiro o cliente inexistente quando nem cliente nem evento existem")
+    public void testReserveTicketWithoutCustomerAndEvent() {
+        //given
+        final var expectedError = "Customer not found";
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(CustomerId.unique().value(), EventId.unique().value());
+
+        //when
+        final var useCase = new SubscribeCustomerToEventAsyncUseCase(
+                new InMemoryCustomerAsyncRepository(new InMemoryCustomerRepository()), new InMemoryEventAsyncRepository(new InMemoryEventRepository()));
+        final var actualException = Assertions.assertThrows(CompletionException.class, () -> useCase.execute(subscribeInput).join());
+
+        //then
+        Assertions.assertInstanceOf(ValidationException.class, actualException.getCause());
+        Assertions.assertEquals(expectedError, actualException.getCause().getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve comprar um ticket de um evento que não existe")
+    public void testReserveTicketWithoutEvent() {
+        //given
+        final var expectedError = "Event not found";
+
+        final var aCustomer = Customer.newCustomer("Hygor Doe", "123.456.789-01", "hygor.doe@gmail.com");
+
+        final var customerRepository = new InMemoryCustomerRepository();
+        customerRepository.create(aCustomer);
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), EventId.unique().value());
+
+        //when
+        final var useCase = new SubscribeCustomerToEventAsyncUseCase(
+                new InMemoryCustomerAsyncRepository(customerRepository), new InMemoryEventAsyncRepository(new InMemoryEventRepository()));
+        final var actualException = Assertions.assertThrows(CompletionException.class, () -> useCase.execute(subscribeInput).join());
+
+        //then
+        Assertions.assertInstanceOf(ValidationException.class, actualException.getCause());
+        Assertions.assertEquals(expectedError, actualException.getCause().getMessage());
+    }
+}
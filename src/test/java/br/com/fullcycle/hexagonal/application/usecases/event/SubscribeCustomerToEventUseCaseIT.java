@@ -0,0 +1,230 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus.PENDING;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SubscribeCustomerToEventUseCaseIT extends IntegrationTest {
+
+    @Autowired
+    private SubscribeCustomerToEventUseCase useCase;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+    }
+
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento")
+    public void testReserveTicket() {
+        // given
+        final var aCustomer = createCustomer("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        final var anEvent = createEvent(10);
+
+        final var expectedEventId = anEvent.eventId().value();
+        final var expectedTickets = 1;
+        final var expectedTicketOrder = 1;
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), expectedEventId);
+
+        // when
+        final var output = useCase.execute(subscribeInput);
+
+        // then
+        Assertions.assertEquals(expectedEventId, output.eventId());
+        Assertions.assertNotNull(output.ticketId());
+        Assertions.assertNotNull(output.reservationDate());
+        Assertions.assertEquals(PENDING.name(), output.ticketStatus());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        Assertions.assertEquals(expectedTickets, actualEvent.allTickets().size());
+
+        final var actualEventTicket = actualEvent.allTickets().iterator().next();
+        Assertions.assertEquals(expectedTicketOrder, actualEventTicket.ordering());
+        Assertions.assertEquals(output.ticketId(), actualEventTicket.ticketId().value());
+        Assertions.assertTrue(ticketRepository.ticketOfId(actualEventTicket.ticketId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Uma reserva deve inserir uma única linha sem regravar os tickets já vendidos")
+    public void testReserveTicketWritesSingleRow() {
+        // given
+        // Antes: 8 statements e 2 inserts (merge com SELECT de EventTicketEntity e de TicketEntity).
+        // Agora: cliente, verificação de duplicidade, contador, ordering e o insert do ticket.
+        final var expectedStatements = 5;
+        final var expectedInserts = 1;
+        final var expectedUpdates = 0;
+
+        final var anEvent = createEvent(10);
+        for (int i = 0; i < 3; i++) {
+            final var aCustomer = createCustomer("123.456.789-0" + i, "john.doe" + i + "@gmail.com", "John Doe");
+            useCase.execute(new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), anEvent.eventId().value()));
+        }
+
+        final var aCustomer = createCustomer("123.456.789-09", "vanessa.doe@gmail.com", "Vanessa Doe");
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), anEvent.eventId().value());
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        useCase.execute(subscribeInput);
+
+        // then
+        Assertions.assertEquals(expectedStatements, statistics.getPrepareStatementCount());
+        Assertions.assertEquals(expectedInserts, statistics.getEntityInsertCount());
+        Assertions.assertEquals(expectedUpdates, statistics.getEntityUpdateCount());
+    }
+
+    @Test
+    @DisplayName("Deve ler o evento sem carregar os tickets até que sejam acessados")
+    public void testEventOfIdLoadsTicketsOnDemand() {
+        // given
+        final var expectedSoldCount = 3;
+
+        final var anEvent = createEvent(10);
+        for (int i = 0; i < expectedSoldCount; i++) {
+            final var aCustomer = createCustomer("123.456.789-0" + i, "john.doe" + i + "@gmail.com", "John Doe");
+            useCase.execute(new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), anEvent.eventId().value()));
+        }
+
+        final var statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // when
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+
+        // then
+        Assertions.assertEquals(expectedSoldCount, actualEvent.soldCount());
+        Assertions.assertEquals(1, statistics.getPrepareStatementCount());
+
+        Assertions.assertEquals(expectedSoldCount, actualEvent.allTickets().size());
+        Assertions.assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    @DisplayName("Um mesmo cliente não pode comprar mais de um ticket por evento")
+    public void testReserveTicketMoreThanOnce() {
+        // given
+        final var expectedError = "Email already registered";
+
+        final var aCustomer = createCustomer("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        final var anEvent = createEvent(10);
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), anEvent.eventId().value());
+
+        useCase.execute(subscribeInput);
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Um cliente não pode comprar de um evento que não há mais cadeiras")
+    public void testReserveTicketWithoutSlots() {
+        // given
+        final var expectedError = "Event sold out";
+        final var expectedTickets = 1;
+
+        final var aCustomer = createCustomer("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        final var aCustomer2 = createCustomer("123.456.789-02", "vanessa.doe@gmail.com", "Vanessa Doe");
+        final var anEvent = createEvent(1);
+
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), anEvent.eventId().value()));
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(aCustomer2.customerId().value(), anEvent.eventId().value());
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+        Assertions.assertEquals(expectedTickets, eventRepository.eventOfId(anEvent.eventId()).get().allTickets().size());
+    }
+
+    @Test
+    @DisplayName("Não deve comprar um ticket de um evento que não existe")
+    public void testReserveTicketWithoutEvent() {
+        // given
+        final var expectedError = "Event not found";
+
+        final var aCustomer = createCustomer("123.456.789-01", "john.doe@gmail.com", "John Doe");
+
+        final var subscribeInput = new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), EventId.unique().value());
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Não deve sobrescrever um evento com uma cópia lida antes de uma reserva")
+    public void testUpdateStaleEventAfterReservation() {
+        // given
+        final var expectedTickets = 1;
+
+        final var aCustomer = createCustomer("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        final var staleEvent = createEvent(10);
+
+        useCase.execute(new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), staleEvent.eventId().value()));
+
+        // when
+        Assertions.assertThrows(OptimisticLockingFailureException.class, () -> eventRepository.update(staleEvent));
+
+        // then
+        final var actualEvent = eventRepository.eventOfId(staleEvent.eventId()).get();
+        Assertions.assertEquals(expectedTickets, actualEvent.allTickets().size());
+        Assertions.assertTrue(actualEvent.version() > staleEvent.version());
+    }
+
+    private Customer createCustomer(final String cpf, final String email, final String name) {
+        return customerRepository.create(Customer.newCustomer(name, cpf, email));
+    }
+
+    private Event createEvent(final int totalSpots) {
+        final var aPartner = partnerRepository.create(Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com"));
+        return eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
@@ -8,7 +8,6 @@ import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
 import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
 import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
 import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
-import br.com.fullcycle.hexagonal.application.repository.InMemoryTicketRepository;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -34,13 +33,12 @@ class SubscribeCustomerToEventUseCaseTest {
 
         final var customerRepository = new InMemoryCustomerRepository();
         final var eventRepository = new InMemoryEventRepository();
-        final var ticketRepository = new InMemoryTicketRepository();
 
         customerRepository.create(aCustomer);
         eventRepository.create(anEvent);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
         final var output = useCase.execute(subscribeInput);
 
         //then
@@ -69,12 +67,11 @@ class SubscribeCustomerToEventUseCaseTest {
 
         final var customerRepository = new InMemoryCustomerRepository();
         final var eventRepository = new InMemoryEventRepository();
-        final var ticketRepository = new InMemoryTicketRepository();
 
         eventRepository.create(anEvent);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         //then
@@ -96,12 +93,11 @@ class SubscribeCustomerToEventUseCaseTest {
 
         final var customerRepository = new InMemoryCustomerRepository();
         final var eventRepository = new InMemoryEventRepository();
-        final var ticketRepository = new InMemoryTicketRepository();
 
         customerRepository.create(aCustomer);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         //then
@@ -125,17 +121,15 @@ class SubscribeCustomerToEventUseCaseTest {
 
         final var customerRepository = new InMemoryCustomerRepository();
         final var eventRepository = new InMemoryEventRepository();
-        final var ticketRepository = new InMemoryTicketRepository();
 
-        final var ticket = anEvent.reserveTicket(aCustomer.customerId());
+        anEvent.reserveTicket(aCustomer.customerId());
 
         customerRepository.create(aCustomer);
 
         eventRepository.create(anEvent);
-        ticketRepository.create(ticket);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         //then
@@ -151,7 +145,7 @@ class SubscribeCustomerToEventUseCaseTest {
         final var aPartner = Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com");
         final var anEvent = Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner);
         final var aCustomer = Customer.newCustomer("Hygor Doe", "123.456.789-01", "hygor.doe@gmail.com");
-        final var aCustomer2 = Customer.newCustomer("Vanessa Doe", "123.456.789-01", "vanessa.doe@gmail.com");
+        final var aCustomer2 = Customer.newCustomer("Vanessa Doe", "123.456.789-02", "vanessa.doe@gmail.com");
 
         final var customerId = aCustomer.customerId().value();
         final var eventId = anEvent.eventId().value();
@@ -160,17 +154,15 @@ class SubscribeCustomerToEventUseCaseTest {
 
         final var customerRepository = new InMemoryCustomerRepository();
         final var eventRepository = new InMemoryEventRepository();
-        final var ticketRepository = new InMemoryTicketRepository();
 
-        final var ticket = anEvent.reserveTicket(aCustomer2.customerId());
+        anEvent.reserveTicket(aCustomer2.customerId());
 
         customerRepository.create(aCustomer);
         customerRepository.create(aCustomer2);
         eventRepository.create(anEvent);
-        ticketRepository.create(ticket);
 
         //when
-        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository, ticketRepository);
+        final var useCase = new SubscribeCustomerToEventUseCase(customerRepository, eventRepository);
         final var actualException = Assertions.assertThrows(ValidationException.class, () -> useCase.execute(subscribeInput));
 
         //then
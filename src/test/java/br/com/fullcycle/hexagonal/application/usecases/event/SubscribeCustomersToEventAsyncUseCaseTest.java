@@ -0,0 +1,66 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CompletionException;
+
+class SubscribeCustomersToEventAsyncUseCaseTest {
+
+    private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+    private final InMemoryEventRepository eventRepository = new InMemoryEventRepository();
+
+    private final SubscribeCustomersToEventAsyncUseCase useCase = new SubscribeCustomersToEventAsyncUseCase(
+            new InMemoryCustomerAsyncRepository(customerRepository), new InMemoryEventAsyncRepository(eventRepository));
+
+    @Test
+    @DisplayName("Deve inscrever um grupo com as mesmas regras da versão síncrona")
+    public void testSubscribeBestEffort() {
+        //given
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner));
+
+        final var john = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+        final var mary = customerRepository.create(Customer.newCustomer("Mary Doe", "123.456.789-02", "mary.doe@gmail.com"));
+        final var unknownId = CustomerId.unique().value();
+
+        final var input = new SubscribeCustomersToEventUseCase.Input(
+                anEvent.eventId().value(), List.of(john.customerId().value(), unknownId, mary.customerId().value()), false);
+
+        //when
+        final var output = useCase.execute(input).join();
+
+        //then
+        Assertions.assertEquals(1, output.reserved());
+        Assertions.assertEquals(2, output.rejected());
+        Assertions.assertNull(output.outcomes().get(0).error());
+        Assertions.assertEquals("Customer not found", output.outcomes().get(1).error());
+        Assertions.assertEquals("Event sold out", output.outcomes().get(2).error());
+    }
+
+    @Test
+    @DisplayName("Deve completar o futuro com erro quando o grupo estiver vazio")
+    public void testSubscribeWithoutCustomers() {
+        //given
+        final var input = new SubscribeCustomersToEventUseCase.Input(EventId.unique().value(), List.of(), false);
+
+        //when
+        final var actualException = Assertions.assertThrows(CompletionException.class, () -> useCase.execute(input).join());
+
+        //then
+        Assertions.assertInstanceOf(ValidationException.class, actualException.getCause());
+        Assertions.assertEquals("Customers are required", actualException.getCause().getMessage());
+    }
+}
@@ -0,0 +1,112 @@
+package br.com.fullcycle.hexagonal.application.usecases.event;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.GroupReservation;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus.PENDING;
+
+class SubscribeCustomersToEventUseCaseTest {
+
+    private final InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+    private final InMemoryEventRepository eventRepository = new InMemoryEventRepository();
+
+    private final Customer john = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+    private final Customer mary = customerRepository.create(Customer.newCustomer("Mary Doe", "123.456.789-02", "mary.doe@gmail.com"));
+    private final Customer peter = customerRepository.create(Customer.newCustomer("Peter Doe", "123.456.789-03", "peter.doe@gmail.com"));
+
+    @Test
+    @DisplayName("Deve inscrever um grupo e relatar cada cliente na ordem do pedido")
+    public void testSubscribeBestEffort() {
+        //given
+        final var anEvent = newEvent(2);
+        eventRepository.reserveTicket(anEvent.eventId(), john.customerId());
+
+        final var unknownId = CustomerId.unique().value();
+        final var input = new SubscribeCustomersToEventUseCase.Input(
+                anEvent.eventId().value(),
+                List.of(john.customerId().value(), unknownId, mary.customerId().value(), peter.customerId().value()),
+                false
+        );
+
+        //when
+        final var useCase = new SubscribeCustomersToEventUseCase(customerRepository, eventRepository);
+        final var output = useCase.execute(input);
+
+        //then
+        Assertions.assertEquals(1, output.reserved());
+        Assertions.assertEquals(3, output.rejected());
+        Assertions.assertEquals(input.customerIds(), output.outcomes().stream().map(SubscribeCustomersToEventUseCase.Outcome::customerId).toList());
+
+        Assertions.assertEquals("Email already registered", output.outcomes().get(0).error());
+        Assertions.assertEquals("Customer not found", output.outcomes().get(1).error());
+        Assertions.assertNull(output.outcomes().get(2).error());
+        Assertions.assertNotNull(output.outcomes().get(2).ticketId());
+        Assertions.assertEquals(PENDING.name(), output.outcomes().get(2).ticketStatus());
+        Assertions.assertEquals("Event sold out", output.outcomes().get(3).error());
+
+        Assertions.assertEquals(2, eventRepository.eventOfId(anEvent.eventId()).get().soldCount());
+    }
+
+    @Test
+    @DisplayName("Não deve inscrever ninguém do grupo quando algum cliente for recusado em allOrNothing")
+    public void testSubscribeAllOrNothing() {
+        //given
+        final var anEvent = newEvent(2);
+
+        final var input = new SubscribeCustomersToEventUseCase.Input(
+                anEvent.eventId().value(),
+                List.of(john.customerId().value(), mary.customerId().value(), peter.customerId().value()),
+                true
+        );
+
+        //when
+        final var useCase = new SubscribeCustomersToEventUseCase(customerRepository, eventRepository);
+        final var output = useCase.execute(input);
+
+        //then
+        Assertions.assertEquals(0, output.reserved());
+        Assertions.assertEquals(3, output.rejected());
+        Assertions.assertEquals(GroupReservation.CANCELLED, output.outcomes().get(0).error());
+        Assertions.assertEquals(GroupReservation.CANCELLED, output.outcomes().get(1).error());
+        Assertions.assertEquals("Event sold out", output.outcomes().get(2).error());
+
+        Assertions.assertEquals(0, eventRepository.eventOfId(anEvent.eventId()).get().soldCount());
+    }
+
+    @Test
+    @DisplayName("Deve inscrever o grupo inteiro quando houver vagas para todos")
+    public void testSubscribeWholeGroup() {
+        //given
+        final var anEvent = newEvent(10);
+
+        final var input = new SubscribeCustomersToEventUseCase.Input(
+                anEvent.eventId().value(),
+                List.of(john.customerId().value(), mary.customerId().value(), peter.customerId().value()),
+                true
+        );
+
+        //when
+        final var useCase = new SubscribeCustomersToEventUseCase(customerRepository, eventRepository);
+        final var output = useCase.execute(input);
+
+        //then
+        Assertions.assertEquals(3, output.reserved());
+        Assertions.assertEquals(0, output.rejected());
+        Assertions.assertEquals(3, eventRepository.eventOfId(anEvent.eventId()).get().allTickets().size());
+    }
+
+    private Event newEvent(final int totalSpots) {
+        final var aPartner = Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com");
+        return eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
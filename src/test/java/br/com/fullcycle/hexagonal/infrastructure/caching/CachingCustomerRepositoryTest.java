@@ -0,0 +1,121 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.person.Cpf;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+
+class CachingCustomerRepositoryTest {
+
+    @Test
+    @DisplayName("Deve buscar o cliente no repositório só na primeira consulta por id, cpf ou email")
+    public void testReadThrough() {
+        // given
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+
+        final var customerRepository = new CountingCustomerRepository();
+        customerRepository.create(aCustomer);
+
+        final var cachedRepository = new CachingCustomerRepository(customerRepository, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+        // when
+        cachedRepository.customerOfId(aCustomer.customerId());
+        final var actualById = cachedRepository.customerOfId(aCustomer.customerId());
+        final var actualByCpf = cachedRepository.customerOfCpf(aCustomer.cpf());
+        final var actualByEmail = cachedRepository.customerOfEmail(aCustomer.email());
+
+        // then
+        Assertions.assertEquals(aCustomer, actualById.get());
+        Assertions.assertEquals(aCustomer, actualByCpf.get());
+        Assertions.assertEquals(aCustomer, actualByEmail.get());
+        Assertions.assertEquals(1, customerRepository.lookups);
+    }
+
+    @Test
+    @DisplayName("Não deve guardar ausências nem respostas antigas depois de uma atualização")
+    public void testInvalidateOnWrite() {
+        // given
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var expectedEmail = "john@gmail.com";
+
+        final var customerRepository = new CountingCustomerRepository();
+        final var cachedRepository = new CachingCustomerRepository(customerRepository, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+        Assertions.assertTrue(cachedRepository.customerOfCpf(aCustomer.cpf()).isEmpty());
+        cachedRepository.create(aCustomer);
+        Assertions.assertTrue(cachedRepository.customerOfCpf(aCustomer.cpf()).isPresent());
+
+        // when
+        final var updatedCustomer = new Customer(aCustomer.customerId(), "John Doe", aCustomer.cpf().value(), expectedEmail);
+        cachedRepository.update(updatedCustomer);
+
+        // then
+        Assertions.assertEquals(expectedEmail, cachedRepository.customerOfId(aCustomer.customerId()).get().email().value());
+        Assertions.assertEquals(expectedEmail, cachedRepository.customerOfCpf(aCustomer.cpf()).get().email().value());
+    }
+
+    @Test
+    @DisplayName("Não deve guardar o cliente de uma leitura que terminou depois de uma atualização")
+    public void testDiscardLoadFinishedAfterUpdate() {
+        // given
+        final var aCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+        final var expectedEmail = "john@gmail.com";
+        final var updatedCustomer = new Customer(aCustomer.customerId(), "John Doe", aCustomer.cpf().value(), expectedEmail);
+
+        final var customerRepository = new CountingCustomerRepository();
+        customerRepository.create(aCustomer);
+
+        final var cachedRepository = new CachingCustomerRepository(customerRepository, 100, Duration.ofMinutes(1), new SimpleMeterRegistry());
+
+        // A leitura lenta já buscou a versão antiga quando a atualização é gravada e invalida o cache
+        customerRepository.afterLookup = () -> {
+            customerRepository.afterLookup = null;
+            cachedRepository.update(updatedCustomer);
+        };
+
+        // when
+        final var staleRead = cachedRepository.customerOfId(aCustomer.customerId());
+        final var actualCustomer = cachedRepository.customerOfId(aCustomer.customerId());
+
+        // then
+        Assertions.assertEquals("john.doe@gmail.com", staleRead.get().email().value());
+        Assertions.assertEquals(expectedEmail, actualCustomer.get().email().value());
+        Assertions.assertEquals(2, customerRepository.lookups);
+    }
+
+    private static class CountingCustomerRepository extends InMemoryCustomerRepository {
+
+        private int lookups;
+        private Runnable afterLookup;
+
+        @Override
+        public Optional<Customer> customerOfId(final CustomerId anId) {
+            lookups++;
+            final var customer = super.customerOfId(anId);
+            if (afterLookup != null) {
+                afterLookup.run();
+            }
+            return customer;
+        }
+
+        @Override
+        public Optional<Customer> customerOfCpf(final Cpf cpf) {
+            lookups++;
+            return super.customerOfCpf(cpf);
+        }
+
+        @Override
+        public Optional<Customer> customerOfEmail(final Email email) {
+            lookups++;
+            return super.customerOfEmail(email);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+class LruCacheTest {
+
+    @Test
+    @DisplayName("Deve remover a entrada acessada há mais tempo quando o cache estiver cheio")
+    public void testEvictLeastRecentlyUsed() {
+        // given
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var cache = new LruCache<Integer, String>("numbers", 2, Duration.ofMinutes(1), meterRegistry);
+
+        cache.put(1, "one");
+        cache.put(2, "two");
+        cache.get(1);
+
+        // when
+        cache.put(3, "three");
+
+        // then
+        Assertions.assertEquals("one", cache.get(1));
+        Assertions.assertNull(cache.get(2));
+        Assertions.assertEquals("three", cache.get(3));
+        Assertions.assertEquals(2, cache.size());
+
+        Assertions.assertEquals(3, meterRegistry.counter("cache.gets", "cache", "numbers", "result", "hit").count());
+        Assertions.assertEquals(1, meterRegistry.counter("cache.gets", "cache", "numbers", "result", "miss").count());
+        Assertions.assertEquals(1, meterRegistry.counter("cache.evictions", "cache", "numbers", "cause", "size").count());
+    }
+
+    @Test
+    @DisplayName("Deve descartar a entrada depois do tempo de vida")
+    public void testExpireAfterTtl() {
+        // given
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var now = new AtomicLong();
+        final var cache = new LruCache<Integer, String>("numbers", 10, Duration.ofSeconds(30), meterRegistry, now::get);
+
+        cache.put(1, "one");
+
+        // when
+        now.addAndGet(Duration.ofSeconds(29).toNanos());
+        final var beforeTtl = cache.get(1);
+
+        now.addAndGet(Duration.ofSeconds(1).toNanos());
+        final var afterTtl = cache.get(1);
+
+        // then
+        Assertions.assertEquals("one", beforeTtl);
+        Assertions.assertNull(afterTtl);
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(1, meterRegistry.counter("cache.evictions", "cache", "numbers", "cause", "expired").count());
+    }
+}
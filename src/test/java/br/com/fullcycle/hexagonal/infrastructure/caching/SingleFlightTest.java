@@ -0,0 +1,126 @@
+package br.com.fullcycle.hexagonal.infrastructure.caching;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+class SingleFlightTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SingleFlight<String, String> flight = new SingleFlight<>("partners.id", meterRegistry);
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @Test
+    @DisplayName("Deve executar uma única vez as chamadas simultâneas para a mesma chave")
+    public void testCoalesceConcurrentCalls() throws Exception {
+        // given
+        final var expectedCallers = 8;
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(expectedCallers);
+
+        try {
+            final var results = new ArrayList<Future<String>>();
+            results.add(executor.submit(() -> flight.execute("disney", () -> {
+                calls.incrementAndGet();
+                await(release);
+                return "Disney";
+            })));
+            waitUntil(() -> calls.get() == 1);
+
+            for (int i = 1; i < expectedCallers; i++) {
+                results.add(executor.submit(() -> flight.execute("disney", () -> {
+                    calls.incrementAndGet();
+                    return "Disney again";
+                })));
+            }
+
+            // when
+            waitUntil(() -> coalesced() == expectedCallers - 1);
+            release.countDown();
+
+            // then
+            for (final var result : results) {
+                Assertions.assertEquals("Disney", result.get());
+            }
+            Assertions.assertEquals(1, calls.get());
+            Assertions.assertEquals(1, meterRegistry.counter("singleflight.calls", "flight", "partners.id", "result", "leader").count());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve repassar a falha da chamada original para quem esperou por ela")
+    public void testShareFailure() throws Exception {
+        // given
+        final var release = new CountDownLatch(1);
+        final var executor = Executors.newFixedThreadPool(2);
+
+        try {
+            final var leader = executor.submit(() -> flight.execute("disney", () -> {
+                calls.incrementAndGet();
+                await(release);
+                throw new ValidationException("Invalid value for PartnerId");
+            }));
+            waitUntil(() -> calls.get() == 1);
+            final var follower = executor.submit(() -> flight.execute("disney", () -> "Disney"));
+
+            // when
+            waitUntil(() -> coalesced() == 1);
+            release.countDown();
+
+            // then
+            final var leaderException = Assertions.assertThrows(ExecutionException.class, leader::get);
+            final var followerException = Assertions.assertThrows(ExecutionException.class, follower::get);
+            Assertions.assertTrue(leaderException.getCause() instanceof ValidationException);
+            Assertions.assertSame(leaderException.getCause(), followerException.getCause());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve executar de novo depois que a chamada anterior terminou")
+    public void testNoCachingAfterCompletion() {
+        // when
+        flight.execute("disney", () -> "Disney " + calls.incrementAndGet());
+        final var actualResult = flight.execute("disney", () -> "Disney " + calls.incrementAndGet());
+
+        // then
+        Assertions.assertEquals("Disney 2", actualResult);
+        Assertions.assertEquals(0, coalesced());
+    }
+
+    private double coalesced() {
+        return meterRegistry.counter("singleflight.calls", "flight", "partners.id", "result", "coalesced").count();
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private static void waitUntil(final BooleanSupplier condition) throws InterruptedException {
+        final var deadline = System.nanoTime() + 5_000_000_000L;
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                Assertions.fail("Timed out waiting for concurrent callers");
+            }
+            Thread.sleep(1);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package br.com.fullcycle.hexagonal.infrastructure.idempotency;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class IdempotentRequestsTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final IdempotentRequests idempotentRequests = new IdempotentRequests(100, Duration.ofMinutes(10), meterRegistry);
+    private final Object useCase = new Object();
+    private final AtomicInteger executions = new AtomicInteger();
+
+    @Test
+    @DisplayName("Deve devolver o Output guardado para a mesma chave sem executar o caso de uso de novo")
+    public void testReplay() throws Exception {
+        // given
+        final var first = idempotentRequests.execute(useCase, "key-1", "john", () -> execute("john"));
+
+        // when
+        final var second = idempotentRequests.execute(useCase, "key-1", "john", () -> execute("john"));
+
+        // then
+        Assertions.assertEquals("created john", first.get());
+        Assertions.assertEquals("created john", second.get());
+        Assertions.assertEquals(1, executions.get());
+        Assertions.assertEquals(1, meterRegistry.counter("idempotency.requests", "result", "replayed").count());
+    }
+
+    @Test
+    @DisplayName("Deve juntar repetições que chegam enquanto a primeira execução ainda está em andamento")
+    public void testCoalesceInFlight() throws Exception {
+        // given
+        final var pending = new CompletableFuture<String>();
+        final var first = idempotentRequests.execute(useCase, "key-1", "john", () -> {
+            executions.incrementAndGet();
+            return pending;
+        });
+
+        // when
+        final var second = idempotentRequests.execute(useCase, "key-1", "john", () -> execute("john"));
+        pending.complete("created john");
+
+        // then
+        Assertions.assertEquals("created john", first.get());
+        Assertions.assertEquals("created john", second.get());
+        Assertions.assertEquals(1, executions.get());
+        Assertions.assertEquals(1, meterRegistry.counter("idempotency.requests", "result", "coalesced").count());
+    }
+
+    @Test
+    @DisplayName("Não deve descartar pelo limite de tamanho uma chave ainda em execução nem contar a espera nas métricas do cache")
+    public void testKeepInFlightKeysOutOfLru() throws Exception {
+        // given
+        final var smallRequests = new IdempotentRequests(1, Duration.ofMinutes(10), meterRegistry);
+        final var pending = new CompletableFuture<String>();
+        final var first = smallRequests.execute(useCase, "key-1", "john", () -> {
+            executions.incrementAndGet();
+            return pending;
+        });
+        smallRequests.execute(useCase, "key-2", "mary", () -> execute("mary")).get();
+        smallRequests.execute(useCase, "key-3", "paul", () -> execute("paul")).get();
+        final var gets = meterRegistry.counter("cache.gets", "cache", "idempotency.keys", "result", "miss").count();
+
+        // when
+        final var second = smallRequests.execute(useCase, "key-1", "john", () -> execute("john"));
+        pending.complete("created john");
+
+        // then
+        Assertions.assertEquals("created john", first.get());
+        Assertions.assertEquals("created john", second.get());
+        Assertions.assertEquals(3, executions.get());
+        Assertions.assertEquals(gets, meterRegistry.counter("cache.gets", "cache", "idempotency.keys", "result", "miss").count());
+        Assertions.assertEquals(0, meterRegistry.counter("cache.gets", "cache", "idempotency.keys", "result", "hit").count());
+        Assertions.assertEquals(1, meterRegistry.counter("idempotency.requests", "result", "coalesced").count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a mesma chave com outro Input")
+    public void testRejectKeyReuse() {
+        // given
+        idempotentRequests.execute(useCase, "key-1", "john", () -> execute("john"));
+
+        // when
+        final var actualException = Assertions.assertThrows(ExecutionException.class,
+                () -> idempotentRequests.execute(useCase, "key-1", "mary", () -> execute("mary")).get());
+
+        // then
+        Assertions.assertTrue(actualException.getCause() instanceof ValidationException);
+        Assertions.assertEquals("Idempotency key already used for a different request", actualException.getCause().getMessage());
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Deve executar de novo depois de uma falha com a mesma chave")
+    public void testRetryAfterFailure() throws Exception {
+        // given
+        final var failed = idempotentRequests.execute(useCase, "key-1", "john",
+                () -> CompletableFuture.<String>failedFuture(new IllegalStateException("Connection refused")));
+
+        // when
+        final var retried = idempotentRequests.execute(useCase, "key-1", "john", () -> execute("john"));
+
+        // then
+        Assertions.assertTrue(failed.isCompletedExceptionally());
+        Assertions.assertEquals("created john", retried.get());
+        Assertions.assertEquals(1, executions.get());
+    }
+
+    @Test
+    @DisplayName("Deve executar sempre quando não houver chave")
+    public void testWithoutKey() throws Exception {
+        // when
+        idempotentRequests.execute(useCase, null, "john", () -> execute("john")).get();
+        idempotentRequests.execute(useCase, " ", "john", () -> execute("john")).get();
+
+        // then
+        Assertions.assertEquals(2, executions.get());
+    }
+
+    private CompletableFuture<String> execute(final String name) {
+        executions.incrementAndGet();
+        return CompletableFuture.completedFuture("created " + name);
+    }
+}
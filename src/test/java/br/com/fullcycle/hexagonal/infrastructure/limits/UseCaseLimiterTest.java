@@ -0,0 +1,69 @@
+package br.com.fullcycle.hexagonal.infrastructure.limits;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+class UseCaseLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final Object useCase = new Object();
+
+    @Test
+    @DisplayName("Deve recusar a execução enquanto as permissões estiverem presas em futuros pendentes")
+    public void testShedWhilePending() {
+        // given
+        final var limiter = new UseCaseLimiter(true, 2, 1, 10, meterRegistry);
+        final var first = new CompletableFuture<String>();
+        final var second = new CompletableFuture<String>();
+        limiter.executeAsync(useCase, () -> first);
+        limiter.executeAsync(useCase, () -> second);
+
+        // when
+        final var actualException = Assertions.assertThrows(ConcurrencyLimitExceededException.class,
+                () -> limiter.execute(useCase, () -> "never"));
+        final var actualLimit = limiter.limitOf(useCase);
+
+        first.complete("done");
+        final var actualOutput = limiter.execute(useCase, () -> "executed");
+
+        // then
+        Assertions.assertEquals("Too many concurrent requests for Object", actualException.getMessage());
+        Assertions.assertEquals("executed", actualOutput);
+        Assertions.assertEquals(1, meterRegistry.counter("usecases.concurrency.rejected", "usecase", "Object").count());
+        Assertions.assertEquals(2, actualLimit);
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o caso de uso lançar erro de validação")
+    public void testReleaseOnValidationError() {
+        // given
+        final var limiter = new UseCaseLimiter(true, 1, 1, 10, meterRegistry);
+
+        // when
+        Assertions.assertThrows(ValidationException.class, () -> limiter.execute(useCase, () -> {
+            throw new ValidationException("Invalid name for Customer");
+        }));
+
+        // then
+        Assertions.assertEquals("executed", limiter.execute(useCase, () -> "executed"));
+    }
+
+    @Test
+    @DisplayName("Não deve limitar quando estiver desabilitado")
+    public void testDisabled() {
+        // given
+        final var limiter = new UseCaseLimiter(false, 1, 1, 10, meterRegistry);
+        limiter.executeAsync(useCase, CompletableFuture::new);
+
+        // when
+        final var actualOutput = limiter.execute(useCase, () -> "executed");
+
+        // then
+        Assertions.assertEquals("executed", actualOutput);
+    }
+}
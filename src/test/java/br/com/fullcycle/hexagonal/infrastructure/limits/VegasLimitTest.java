@@ -0,0 +1,91 @@
+package br.com.fullcycle.hexagonal.infrastructure.limits;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+class VegasLimitTest {
+
+    private static final long BASELINE = Duration.ofMillis(1).toNanos();
+
+    @Test
+    @DisplayName("Deve recusar execuções acima do limite")
+    public void testRejectAboveLimit() {
+        // given
+        final var limit = new VegasLimit(2, 1, 10);
+
+        // when
+        final var first = limit.tryAcquire();
+        final var second = limit.tryAcquire();
+        final var third = limit.tryAcquire();
+
+        // then
+        Assertions.assertTrue(first);
+        Assertions.assertTrue(second);
+        Assertions.assertFalse(third);
+        Assertions.assertEquals(2, limit.inFlight());
+    }
+
+    @Test
+    @DisplayName("Deve subir o limite enquanto a latência ficar no patamar sem fila")
+    public void testIncreaseWithoutQueue() {
+        // given
+        final var expectedInitial = 10;
+        final var limit = new VegasLimit(expectedInitial, 1, 100);
+        saturate(limit, BASELINE, 1);
+
+        // when
+        saturate(limit, BASELINE, 5);
+
+        // then
+        Assertions.assertTrue(limit.limit() > expectedInitial);
+    }
+
+    @Test
+    @DisplayName("Deve baixar o limite quando a latência subir")
+    public void testDecreaseWhenLatencyGrows() {
+        // given
+        final var expectedInitial = 50;
+        final var limit = new VegasLimit(expectedInitial, 1, 100);
+        saturate(limit, BASELINE, 1);
+
+        // when
+        saturate(limit, BASELINE * 10, 3);
+
+        // then
+        Assertions.assertTrue(limit.limit() < expectedInitial);
+    }
+
+    @Test
+    @DisplayName("Deve baixar o limite quando as execuções falharem, sem passar do mínimo")
+    public void testDecreaseOnDropsUpToMinimum() {
+        // given
+        final var expectedMinimum = 4;
+        final var limit = new VegasLimit(20, expectedMinimum, 100);
+        saturate(limit, BASELINE, 1);
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            limit.tryAcquire();
+            limit.release(BASELINE, true);
+        }
+
+        // then
+        Assertions.assertEquals(expectedMinimum, limit.limit());
+    }
+
+    // Ocupa todas as permissões e libera todas com a mesma latência
+    private static void saturate(final VegasLimit limit, final long rttNanos, final int rounds) {
+        for (int round = 0; round < rounds; round++) {
+            var acquired = 0;
+            while (limit.tryAcquire()) {
+                acquired++;
+            }
+            for (int i = 0; i < acquired; i++) {
+                limit.release(rttNanos, false);
+            }
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package br.com.fullcycle.hexagonal.infrastructure.reactive;
+
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.repositories.EventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.parter.CreatePartnerUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.Main;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.NewPartnerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
+import br.com.fullcycle.hexagonal.infrastructure.r2dbc.EventR2dbcRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+// Mesmo fluxo dos testes de controller MVC, agora em WebFlux + R2DBC (H2)
+@ActiveProfiles({"test", "reactive"})
+@AutoConfigureWebTestClient
+@SpringBootTest(
+        classes = Main.class,
+        properties = {
+                "spring.r2dbc.url=r2dbc:h2:mem:///reactive_test;MODE=MYSQL;DATABASE_TO_LOWER=TRUE;DB_CLOSE_DELAY=-1",
+                "spring.r2dbc.username=sa",
+                "spring.r2dbc.password=",
+                "spring.sql.init.mode=always",
+                "spring.sql.init.schema-locations=classpath:db/r2dbc/schema.sql"
+        }
+)
+class ReactiveEventControllerTest {
+
+    @Autowired
+    private WebTestClient client;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    @Autowired
+    private EventAsyncRepository eventRepository;
+
+    @BeforeEach
+    void setUp() {
+        for (final var table : new String[]{"tickets", "events", "customers", "partners"}) {
+            databaseClient.sql("delete from " + table).then().block();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve usar os adapters R2DBC no perfil reativo")
+    public void testR2dbcAdapters() {
+        Assertions.assertInstanceOf(EventR2dbcRepository.class, eventRepository);
+    }
+
+    @Test
+    @DisplayName("Não deve cadastrar um cliente com CPF duplicado")
+    public void testCreateWithDuplicatedCPFShouldFail() {
+
+        var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
+
+        // Cria o primeiro cliente
+        client.post().uri("/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(customer)
+                .exchange()
+                .expectStatus().isCreated()
+                .expectHeader().exists("Location");
+
+        customer = new NewCustomerDTO("123.456.789-01", "john2@gmail.com", "John Doe");
+
+        // Tenta criar o segundo cliente com o mesmo CPF
+        client.post().uri("/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(customer)
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody(String.class).isEqualTo("Customer already exists");
+    }
+
+    @Test
+    @DisplayName("Deve comprar um ticket de um evento")
+    public void testReserveTicket() {
+
+        final var customerId = client.post().uri("/customers")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CreateCustomerUseCase.Outuput.class)
+                .returnResult().getResponseBody().id();
+
+        final var partnerId = client.post().uri("/partners")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new NewPartnerDTO("41.536.538/0001-00", "disney@gmail.com", "Disney"))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CreatePartnerUseCase.Output.class)
+                .returnResult().getResponseBody().id();
+
+        final var eventId = client.post().uri("/events")
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new NewEventDTO("Disney on Ice", "2021-01-01", 100, partnerId))
+                .exchange()
+                .expectStatus().isCreated()
+                .expectBody(CreateEventUseCase.Output.class)
+                .returnResult().getResponseBody().id();
+
+        client.post().uri("/events/{id}/subscribe", eventId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new SubscribeDTO(customerId, null))
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody().jsonPath("$.ticketId").isNotEmpty();
+
+        // O mesmo cliente não pode comprar de novo
+        client.post().uri("/events/{id}/subscribe", eventId)
+                .contentType(MediaType.APPLICATION_JSON)
+                .bodyValue(new SubscribeDTO(customerId, null))
+                .exchange()
+                .expectStatus().isEqualTo(422)
+                .expectBody(String.class).isEqualTo("Email already registered");
+
+        var actualEvent = eventRepository.eventOfId(EventId.with(eventId)).join().get();
+        Assertions.assertEquals(1, actualEvent.allTickets().size());
+        Assertions.assertEquals(1, actualEvent.soldCount());
+    }
+}
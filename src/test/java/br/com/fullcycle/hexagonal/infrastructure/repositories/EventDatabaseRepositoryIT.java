@@ -0,0 +1,86 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketId;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+class EventDatabaseRepositoryIT extends IntegrationTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Partner aPartner;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+
+        aPartner = partnerRepository.create(Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("Deve ler os tickets antigos sem posição junto com os reservados depois")
+    public void testReadTicketsWithoutOrdering() {
+        // given
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+        final var legacyCustomer = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+        final var aCustomer = customerRepository.create(Customer.newCustomer("Vanessa Doe", "123.456.789-02", "vanessa.doe@gmail.com"));
+        final var legacyTicketId = TicketId.unique();
+
+        jdbcTemplate.update(
+                "insert into tickets (id, customer_id, event_id, status, reserved_at, ordering) values (?, ?, ?, 'PENDING', current_timestamp(6), null)",
+                UUID.fromString(legacyTicketId.value()),
+                UUID.fromString(legacyCustomer.customerId().value()),
+                UUID.fromString(anEvent.eventId().value())
+        );
+
+        // when
+        eventRepository.reserveTicket(anEvent.eventId(), aCustomer.customerId());
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+
+        // then
+        final var actualTickets = actualEvent.allTickets().stream().map(EventTicket::ticketId).collect(Collectors.toSet());
+        final var actualCustomers = actualEvent.allTickets().stream().map(EventTicket::customerId).collect(Collectors.toSet());
+
+        Assertions.assertEquals(2, actualEvent.allTickets().size());
+        Assertions.assertTrue(actualTickets.contains(legacyTicketId));
+        Assertions.assertEquals(Set.of(legacyCustomer.customerId(), aCustomer.customerId()), actualCustomers);
+
+        final var actualException = Assertions.assertThrows(ValidationException.class,
+                () -> actualEvent.reserveTicket(legacyCustomer.customerId()));
+        Assertions.assertEquals("Email already registered", actualException.getMessage());
+    }
+}
@@ -0,0 +1,192 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.domain.person.Email;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.test.context.TestPropertySource;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.ticket.TicketStatus.PENDING;
+
+@TestPropertySource(properties = "repositories.adapter=jdbc")
+class JdbcRepositoriesIT extends IntegrationTest {
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private Partner aPartner;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+
+        aPartner = partnerRepository.create(Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("Deve usar os adapters JDBC quando configurado")
+    public void testJdbcAdaptersAreSelected() {
+        Assertions.assertInstanceOf(CustomerJdbcRepository.class, customerRepository);
+        Assertions.assertInstanceOf(EventJdbcRepository.class, eventRepository);
+        Assertions.assertInstanceOf(TicketJdbcRepository.class, ticketRepository);
+    }
+
+    @Test
+    @DisplayName("Deve gravar e buscar um cliente por id, cpf e email")
+    public void testCustomerRoundTrip() {
+        // given
+        final var expectedCustomer = Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com");
+
+        // when
+        customerRepository.create(expectedCustomer);
+
+        // then
+        final var actualCustomer = customerRepository.customerOfId(expectedCustomer.customerId()).get();
+        Assertions.assertEquals(expectedCustomer.customerId(), actualCustomer.customerId());
+        Assertions.assertEquals("John Doe", actualCustomer.name().value());
+        Assertions.assertEquals(expectedCustomer.cpf(), actualCustomer.cpf());
+        Assertions.assertEquals(expectedCustomer.email(), actualCustomer.email());
+
+        Assertions.assertTrue(customerRepository.customerOfCpf(expectedCustomer.cpf()).isPresent());
+        Assertions.assertTrue(customerRepository.customerOfEmail(expectedCustomer.email()).isPresent());
+        Assertions.assertTrue(customerRepository.customerOfEmail(new Email("vanessa.doe@gmail.com")).isEmpty());
+    }
+
+    @Test
+    @DisplayName("Deve barrar no insert um cliente com cpf ou email já cadastrado")
+    public void testCreateDuplicatedCustomerShouldFail() {
+        // given
+        final var expectedError = "Customer already exists";
+        customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+
+        // when
+        final var sameCpf = Assertions.assertThrows(ValidationException.class, () -> customerRepository.create(
+                Customer.newCustomer("Vanessa Doe", "123.456.789-01", "vanessa.doe@gmail.com")));
+        final var sameEmail = Assertions.assertThrows(ValidationException.class, () -> customerRepository.create(
+                Customer.newCustomer("Vanessa Doe", "123.456.789-02", "john.doe@gmail.com")));
+
+        // then
+        Assertions.assertEquals(expectedError, sameCpf.getMessage());
+        Assertions.assertEquals(expectedError, sameEmail.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve reservar tickets em sequência e ler os tickets do evento sob demanda")
+    public void testReserveTickets() {
+        // given
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+        final var aCustomer = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+        final var otherCustomer = customerRepository.create(Customer.newCustomer("Vanessa Doe", "123.456.789-02", "vanessa.doe@gmail.com"));
+
+        // when
+        final var aTicket = eventRepository.reserveTicket(anEvent.eventId(), aCustomer.customerId());
+        eventRepository.reserveTicket(anEvent.eventId(), otherCustomer.customerId());
+
+        // then
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        final var actualOrderings = actualEvent.allTickets().stream().map(EventTicket::ordering).collect(Collectors.toSet());
+
+        Assertions.assertEquals(2, actualEvent.soldCount());
+        Assertions.assertEquals(2, actualEvent.allTickets().size());
+        Assertions.assertEquals(Set.of(1, 2), actualOrderings);
+
+        final var actualTicket = ticketRepository.ticketOfId(aTicket.ticketId()).get();
+        Assertions.assertEquals(aCustomer.customerId(), actualTicket.customerId());
+        Assertions.assertEquals(anEvent.eventId(), actualTicket.eventId());
+        Assertions.assertEquals(PENDING, actualTicket.status());
+        Assertions.assertNotNull(actualTicket.reservedAt());
+    }
+
+    @Test
+    @DisplayName("Não deve reservar duas vezes para o mesmo cliente nem além das vagas do evento")
+    public void testReserveTicketRejections() {
+        // given
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 1, aPartner));
+        final var aCustomer = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+        final var otherCustomer = customerRepository.create(Customer.newCustomer("Vanessa Doe", "123.456.789-02", "vanessa.doe@gmail.com"));
+
+        eventRepository.reserveTicket(anEvent.eventId(), aCustomer.customerId());
+
+        // when
+        final var duplicated = Assertions.assertThrows(ValidationException.class,
+                () -> eventRepository.reserveTicket(anEvent.eventId(), aCustomer.customerId()));
+        final var soldOut = Assertions.assertThrows(ValidationException.class,
+                () -> eventRepository.reserveTicket(anEvent.eventId(), otherCustomer.customerId()));
+
+        // then
+        Assertions.assertEquals("Email already registered", duplicated.getMessage());
+        Assertions.assertEquals("Event sold out", soldOut.getMessage());
+        Assertions.assertEquals(1, eventRepository.eventOfId(anEvent.eventId()).get().soldCount());
+    }
+
+    @Test
+    @DisplayName("Deve reservar um grupo em lote, continuando a numeração e recusando quem já tem ticket")
+    public void testReserveTicketsForGroup() {
+        // given
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+        final var aCustomer = customerRepository.create(Customer.newCustomer("John Doe", "123.456.789-01", "john.doe@gmail.com"));
+        final var otherCustomer = customerRepository.create(Customer.newCustomer("Vanessa Doe", "123.456.789-02", "vanessa.doe@gmail.com"));
+        final var thirdCustomer = customerRepository.create(Customer.newCustomer("Peter Doe", "123.456.789-03", "peter.doe@gmail.com"));
+
+        eventRepository.reserveTicket(anEvent.eventId(), aCustomer.customerId());
+
+        // when
+        final var results = eventRepository.reserveTickets(anEvent.eventId(),
+                List.of(aCustomer.customerId(), otherCustomer.customerId(), thirdCustomer.customerId()), false);
+
+        // then
+        Assertions.assertEquals("Email already registered", results.get(0).error());
+        Assertions.assertTrue(results.get(1).reserved());
+        Assertions.assertTrue(results.get(2).reserved());
+
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        final var actualOrderings = actualEvent.allTickets().stream().map(EventTicket::ordering).collect(Collectors.toSet());
+
+        Assertions.assertEquals(3, actualEvent.soldCount());
+        Assertions.assertEquals(Set.of(1, 2, 3), actualOrderings);
+        Assertions.assertTrue(ticketRepository.ticketOfId(results.get(2).ticket().ticketId()).isPresent());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a atualização de um evento com versão desatualizada")
+    public void testUpdateWithStaleVersion() {
+        // given
+        final var anEvent = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10, aPartner));
+        final var stale = eventRepository.eventOfId(anEvent.eventId()).get();
+
+        eventRepository.update(eventRepository.eventOfId(anEvent.eventId()).get());
+
+        // when
+        // then
+        Assertions.assertThrows(OptimisticLockingFailureException.class, () -> eventRepository.update(stale));
+    }
+}
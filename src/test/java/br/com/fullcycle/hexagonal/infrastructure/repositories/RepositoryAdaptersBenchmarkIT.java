@@ -0,0 +1,157 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.CustomerJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.TicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategies;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategy;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.SpotLeases;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+
+// Compara os adapters JPA e JDBC nos caminhos quentes: busca de cliente, leitura do evento com os tickets
+// e a reserva (subscribe). Cada operação roda na sua própria transação, sem lanes.
+// Habilite com REPOSITORIES_BENCHMARK=true.
+@EnabledIfEnvironmentVariable(named = "REPOSITORIES_BENCHMARK", matches = "true")
+class RepositoryAdaptersBenchmarkIT extends IntegrationTest {
+
+    private static final int WARMUP = 500;
+    private static final int OPERATIONS = 2_000;
+
+    @Autowired
+    private CustomerJpaRepository customerJpaRepository;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventTicketJpaRepository eventTicketJpaRepository;
+
+    @Autowired
+    private TicketJpaRepository ticketJpaRepository;
+
+    @Autowired
+    private NamedParameterJdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private SpotLeases spotLeases;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private CustomerRepository customerRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    private Partner aPartner;
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        customerRepository.deleteAll();
+        partnerRepository.deleteAll();
+
+        aPartner = partnerRepository.create(Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com"));
+        transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    @Test
+    @DisplayName("Deve comparar vazão e p99 dos adapters JPA e JDBC")
+    public void testCompareRepositoryAdapters() {
+        final var strategies = ReservationStrategies.of(ReservationStrategy.COUNTER);
+        final var adapters = List.of(
+                new Adapter("jpa",
+                        new CustomerDatabaseRepository(customerJpaRepository),
+                        new EventDatabaseRepository(eventJpaRepository, eventTicketJpaRepository, ticketJpaRepository, strategies, spotLeases)),
+                new Adapter("jdbc",
+                        new CustomerJdbcRepository(jdbcTemplate),
+                        new EventJdbcRepository(jdbcTemplate, strategies, spotLeases))
+        );
+
+        System.out.printf("%-6s %-14s %12s %10s%n", "adapter", "operation", "ops/s", "p99 (ms)");
+
+        for (final var adapter : adapters) {
+            final var customers = new ArrayList<Customer>();
+            for (int i = 0; i < WARMUP + OPERATIONS; i++) {
+                customers.add(adapter.customers.create(Customer.newCustomer(
+                        "John Doe",
+                        "%03d.%03d.%03d-00".formatted(adapter.name.length(), i / 1000, i % 1000),
+                        "%s%d@gmail.com".formatted(adapter.name, i)
+                )));
+            }
+
+            final var anEvent = adapter.events.create(Event.newEvent("Disney on Ice", "2021-01-01", WARMUP + OPERATIONS, aPartner));
+
+            run(adapter.name, "subscribe", i -> transactionTemplate.execute(status ->
+                    adapter.events.reserveTicket(anEvent.eventId(), customers.get(i).customerId())));
+
+            run(adapter.name, "customerOfId", i -> transactionTemplate.execute(status ->
+                    adapter.customers.customerOfId(customers.get(i).customerId())));
+
+            run(adapter.name, "eventOfId", i -> transactionTemplate.execute(status ->
+                    adapter.events.eventOfId(anEvent.eventId()).get().allTickets().size()));
+
+            Assertions.assertEquals(WARMUP + OPERATIONS, adapter.events.eventOfId(anEvent.eventId()).get().allTickets().size());
+        }
+    }
+
+    // As primeiras WARMUP operações só aquecem JIT, pool e cache de statements e ficam fora da medição
+    private void run(final String adapter, final String operation, final IntConsumer body) {
+        for (int i = 0; i < WARMUP; i++) {
+            body.accept(i);
+        }
+
+        final var latencies = new long[OPERATIONS];
+        final var startedAt = System.nanoTime();
+        for (int i = 0; i < OPERATIONS; i++) {
+            final var operationStartedAt = System.nanoTime();
+            body.accept(WARMUP + i);
+            latencies[i] = System.nanoTime() - operationStartedAt;
+        }
+        final var elapsed = System.nanoTime() - startedAt;
+
+        Arrays.sort(latencies);
+        System.out.printf(
+                "%-6s %-14s %12.0f %10.3f%n",
+                adapter,
+                operation,
+                OPERATIONS / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)),
+                latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1)
+        );
+    }
+
+    private record Adapter(String name, CustomerRepository customers, EventRepository events) {
+    }
+}
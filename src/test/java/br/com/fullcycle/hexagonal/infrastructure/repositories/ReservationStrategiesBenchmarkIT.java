@@ -0,0 +1,146 @@
+package br.com.fullcycle.hexagonal.infrastructure.repositories;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.TicketRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventTicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.TicketJpaRepository;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ConflictRetry;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategies;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.ReservationStrategy;
+import br.com.fullcycle.hexagonal.infrastructure.reservations.SpotLeases;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+// Compara as estratégias de reserva com N clientes disputando o mesmo evento, cada um na sua própria transação
+// (como instâncias diferentes da aplicação, sem passar pelas lanes). Habilite com RESERVATIONS_BENCHMARK=true.
+@EnabledIfEnvironmentVariable(named = "RESERVATIONS_BENCHMARK", matches = "true")
+class ReservationStrategiesBenchmarkIT extends IntegrationTest {
+
+    private static final int[] CLIENTS = {8, 16, 32, 64};
+    private static final int RESERVATIONS_PER_CLIENT = 25;
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Autowired
+    private EventTicketJpaRepository eventTicketJpaRepository;
+
+    @Autowired
+    private TicketJpaRepository ticketJpaRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private PartnerRepository partnerRepository;
+
+    @Autowired
+    private TicketRepository ticketRepository;
+
+    @Autowired
+    private SpotLeases spotLeases;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Partner aPartner;
+
+    @BeforeEach
+    void setUp() {
+        ticketRepository.deleteAll();
+        eventRepository.deleteAll();
+        partnerRepository.deleteAll();
+
+        aPartner = partnerRepository.create(Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com"));
+    }
+
+    @Test
+    @DisplayName("Deve comparar vazão e p99 das estratégias de reserva")
+    public void testCompareReservationStrategies() {
+        System.out.printf("%-12s %8s %12s %10s %10s%n", "strategy", "clients", "reserv/s", "p99 (ms)", "conflicts");
+
+        for (final var strategy : ReservationStrategy.values()) {
+            for (final var clients : CLIENTS) {
+                run(strategy, clients);
+            }
+        }
+    }
+
+    private void run(final ReservationStrategy strategy, final int clients) {
+        // given
+        final var expectedReservations = clients * RESERVATIONS_PER_CLIENT;
+        final var anEvent = createEvent(expectedReservations);
+
+        final var repository = new EventDatabaseRepository(eventJpaRepository, eventTicketJpaRepository, ticketJpaRepository, ReservationStrategies.of(strategy), spotLeases);
+        final var transactionTemplate = new TransactionTemplate(transactionManager);
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var retry = new ConflictRetry(50, Duration.ofMillis(1), Duration.ofMillis(50), meterRegistry);
+
+        final var latencies = new long[expectedReservations];
+        final var executor = Executors.newFixedThreadPool(clients);
+
+        // when
+        final var startedAt = System.nanoTime();
+        try {
+            final var results = new ArrayList<CompletableFuture<Void>>();
+            for (int client = 0; client < clients; client++) {
+                final var first = client * RESERVATIONS_PER_CLIENT;
+                results.add(CompletableFuture.runAsync(() -> {
+                    for (int i = first; i < first + RESERVATIONS_PER_CLIENT; i++) {
+                        final var reservationStartedAt = System.nanoTime();
+                        retry.execute(() -> transactionTemplate.execute(status ->
+                                repository.reserveTicket(anEvent.eventId(), CustomerId.unique())));
+                        latencies[i] = System.nanoTime() - reservationStartedAt;
+                    }
+                }, executor));
+            }
+            results.forEach(CompletableFuture::join);
+        } finally {
+            executor.shutdown();
+        }
+        final var elapsed = System.nanoTime() - startedAt;
+
+        // then
+        final var actualEvent = eventRepository.eventOfId(anEvent.eventId()).get();
+        final var actualOrderings = actualEvent.allTickets().stream().map(EventTicket::ordering).collect(Collectors.toSet());
+
+        Assertions.assertEquals(expectedReservations, actualEvent.allTickets().size());
+        Assertions.assertEquals(expectedReservations, actualOrderings.size());
+
+        Arrays.sort(latencies);
+        System.out.printf(
+                "%-12s %8d %12.0f %10.2f %10.0f%n",
+                strategy,
+                clients,
+                expectedReservations / (elapsed / (double) TimeUnit.SECONDS.toNanos(1)),
+                latencies[(int) Math.ceil(latencies.length * 0.99) - 1] / (double) TimeUnit.MILLISECONDS.toNanos(1),
+                meterRegistry.counter("reservations.conflicts").count()
+        );
+    }
+
+    private Event createEvent(final int totalSpots) {
+        return eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", totalSpots, aPartner));
+    }
+}
@@ -0,0 +1,83 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class ConflictRetryTest {
+
+    @Test
+    @DisplayName("Deve tentar novamente enquanto houver conflito de versão")
+    public void testRetryOnConflict() {
+        // given
+        final var expectedResult = "reserved";
+        final var expectedAttempts = 3;
+        final var expectedConflicts = 2;
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var retry = new ConflictRetry(5, Duration.ofNanos(100), Duration.ofMillis(1), meterRegistry);
+        final var calls = new AtomicInteger();
+
+        // when
+        final var actualResult = retry.execute(() -> {
+            if (calls.incrementAndGet() < expectedAttempts) {
+                throw new OptimisticLockingFailureException("Event was updated by another transaction");
+            }
+            return expectedResult;
+        });
+
+        // then
+        Assertions.assertEquals(expectedResult, actualResult);
+        Assertions.assertEquals(expectedAttempts, calls.get());
+        Assertions.assertEquals(expectedAttempts, meterRegistry.counter("reservations.attempts").count());
+        Assertions.assertEquals(expectedConflicts, meterRegistry.counter("reservations.conflicts").count());
+        Assertions.assertEquals(0, meterRegistry.counter("reservations.conflicts.exhausted").count());
+    }
+
+    @Test
+    @DisplayName("Deve desistir após o número máximo de tentativas")
+    public void testGiveUpAfterMaxAttempts() {
+        // given
+        final var expectedAttempts = 3;
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var retry = new ConflictRetry(expectedAttempts, Duration.ZERO, Duration.ZERO, meterRegistry);
+        final var calls = new AtomicInteger();
+
+        // when
+        Assertions.assertThrows(OptimisticLockingFailureException.class, () -> retry.execute(() -> {
+            calls.incrementAndGet();
+            throw new OptimisticLockingFailureException("Event was updated by another transaction");
+        }));
+
+        // then
+        Assertions.assertEquals(expectedAttempts, calls.get());
+        Assertions.assertEquals(1, meterRegistry.counter("reservations.conflicts.exhausted").count());
+    }
+
+    @Test
+    @DisplayName("Não deve tentar novamente um erro de validação")
+    public void testDoNotRetryValidationError() {
+        // given
+        final var expectedError = "Event sold out";
+
+        final var retry = new ConflictRetry(5, Duration.ZERO, Duration.ZERO, new SimpleMeterRegistry());
+        final var calls = new AtomicInteger();
+
+        // when
+        final var actualException = Assertions.assertThrows(ValidationException.class, () -> retry.execute(() -> {
+            calls.incrementAndGet();
+            throw new ValidationException(expectedError);
+        }));
+
+        // then
+        Assertions.assertEquals(expectedError, actualException.getMessage());
+        Assertions.assertEquals(1, calls.get());
+    }
+}
@@ -0,0 +1,194 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+class ReservationLanesTest {
+
+    @Test
+    @DisplayName("Deve executar as reservas de um mesmo evento em série")
+    public void testSerializeReservationsOfTheSameEvent() {
+        // given
+        final var expectedReservations = 200;
+        final var expectedMaxConcurrency = 1;
+        final var anEventId = EventId.unique().value();
+
+        final var running = new AtomicInteger();
+        final var maxConcurrency = new AtomicInteger();
+        final var clients = Executors.newFixedThreadPool(16);
+
+        try (var lanes = new ReservationLanes(4, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry())) {
+            final var results = new ArrayList<CompletableFuture<Integer>>();
+
+            // when
+            for (int i = 0; i < expectedReservations; i++) {
+                final var reservation = i;
+                results.add(CompletableFuture.supplyAsync(() -> lanes.execute(anEventId, () -> {
+                    maxConcurrency.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    LockSupport.parkNanos(100_000);
+                    running.decrementAndGet();
+                    return reservation;
+                }), clients));
+            }
+
+            // then
+            results.forEach(CompletableFuture::join);
+            Assertions.assertEquals(expectedMaxConcurrency, maxConcurrency.get());
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve propagar o erro de validação da reserva")
+    public void testPropagateValidationError() {
+        // given
+        final var expectedError = "Event sold out";
+
+        try (var lanes = new ReservationLanes(2, TransactionOperations.withoutTransaction(), new SimpleMeterRegistry())) {
+            // when
+            final var actualError = Assertions.assertThrows(
+                    ValidationException.class,
+                    () -> lanes.execute(EventId.unique().value(), () -> {
+                        throw new ValidationException(expectedError);
+                    })
+            );
+
+            // then
+            Assertions.assertEquals(expectedError, actualError.getMessage());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve direcionar um evento sempre para a mesma lane e registrar as métricas")
+    public void testRouteEventToTheSameLane() {
+        // given
+        final var anEventId = EventId.unique().value();
+        final var meterRegistry = new SimpleMeterRegistry();
+
+        try (var lanes = new ReservationLanes(8, TransactionOperations.withoutTransaction(), meterRegistry)) {
+            // when
+            final var expectedLane = lanes.laneOf(anEventId);
+            lanes.execute(anEventId, () -> anEventId);
+
+            // then
+            Assertions.assertEquals(expectedLane, lanes.laneOf(anEventId.toUpperCase()));
+            Assertions.assertEquals(8, meterRegistry.find("reservations.lane.queue.size").gauges().size());
+            Assertions.assertEquals(1L, meterRegistry.get("reservations.lane.latency").tag("lane", String.valueOf(expectedLane)).timer().count());
+        }
+    }
+
+    @Test
+    @DisplayName("Deve agrupar as reservas que chegam na janela em uma única transação")
+    public void testGroupCommitReservations() {
+        // given
+        final var expectedReservations = 10;
+        final var expectedTransactions = 1;
+        final var expectedError = "Email already registered";
+        final var anEventId = EventId.unique().value();
+
+        final var transactions = new AtomicInteger();
+        final var countingTransactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(final TransactionCallback<T> action) throws TransactionException {
+                transactions.incrementAndGet();
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+
+        final var clients = Executors.newFixedThreadPool(expectedReservations);
+
+        try (var lanes = new ReservationLanes(1, 50, Duration.ofMillis(500), countingTransactions, new SimpleMeterRegistry())) {
+            final var results = new ArrayList<CompletableFuture<Integer>>();
+
+            // when
+            for (int i = 0; i < expectedReservations; i++) {
+                final var reservation = i;
+                results.add(CompletableFuture.supplyAsync(() -> lanes.execute(anEventId, () -> {
+                    if (reservation == 0) {
+                        throw new ValidationException(expectedError);
+                    }
+                    return reservation;
+                }), clients));
+            }
+
+            // then
+            final var actualError = Assertions.assertThrows(Exception.class, () -> results.get(0).join());
+            Assertions.assertEquals(expectedError, actualError.getCause().getMessage());
+
+            for (int i = 1; i < expectedReservations; i++) {
+                Assertions.assertEquals(i, results.get(i).join());
+            }
+
+            Assertions.assertEquals(expectedTransactions, transactions.get());
+        } finally {
+            clients.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("Deve refazer isoladamente as reservas de um lote que falhou e falhar apenas a culpada")
+    public void testIsolateFailedReservationOfTheBatch() {
+        // given
+        final var expectedReservations = 10;
+        final var expectedTransactions = 1 + expectedReservations;
+        final var expectedError = "Deadlock found";
+        final var anEventId = EventId.unique().value();
+
+        final var transactions = new AtomicInteger();
+        final var countingTransactions = new TransactionOperations() {
+            @Override
+            public <T> T execute(final TransactionCallback<T> action) throws TransactionException {
+                transactions.incrementAndGet();
+                return action.doInTransaction(new SimpleTransactionStatus());
+            }
+        };
+
+        final var meterRegistry = new SimpleMeterRegistry();
+        final var clients = Executors.newFixedThreadPool(expectedReservations);
+
+        try (var lanes = new ReservationLanes(1, 50, Duration.ofMillis(500), countingTransactions, meterRegistry)) {
+            final var results = new ArrayList<CompletableFuture<Integer>>();
+
+            // when
+            for (int i = 0; i < expectedReservations; i++) {
+                final var reservation = i;
+                results.add(CompletableFuture.supplyAsync(() -> lanes.execute(anEventId, () -> {
+                    if (reservation == 0) {
+                        throw new IllegalStateException(expectedError);
+                    }
+                    return reservation;
+                }), clients));
+            }
+
+            // then
+            final var actualError = Assertions.assertThrows(Exception.class, () -> results.get(0).join());
+            Assertions.assertInstanceOf(IllegalStateException.class, actualError.getCause());
+            Assertions.assertEquals(expectedError, actualError.getCause().getMessage());
+
+            for (int i = 1; i < expectedReservations; i++) {
+                Assertions.assertEquals(i, results.get(i).join());
+            }
+
+            Assertions.assertEquals(expectedTransactions, transactions.get());
+            Assertions.assertEquals(1.0, meterRegistry.get("reservations.lane.batch.isolated").counter().count());
+        } finally {
+            clients.shutdown();
+        }
+    }
+}
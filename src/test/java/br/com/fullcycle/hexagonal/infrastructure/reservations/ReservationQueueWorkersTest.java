@@ -0,0 +1,148 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.event.reservation.Reservation;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryCustomerRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryReservationRepository;
+import br.com.fullcycle.hexagonal.application.usecases.event.ProcessReservationUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionOperations;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.FAILED;
+import static br.com.fullcycle.hexagonal.application.domain.event.reservation.ReservationStatus.PENDING;
+
+class ReservationQueueWorkersTest {
+
+    @Test
+    @DisplayName("Deve deixar o pedido pendente para uma nova entrega enquanto houver tentativas")
+    public void testKeepPendingWhileThereAreAttempts() throws Exception {
+        // given
+        final var processed = new CountDownLatch(1);
+        final var reservationRepository = new InMemoryReservationRepository();
+        final var aReservation = reservationRepository.create(Reservation.newReservation(CustomerId.unique(), EventId.unique()));
+
+        // when
+        try (var ignored = newWorkers(reservationRepository, failingUseCase(reservationRepository, processed), 3)) {
+            Assertions.assertTrue(processed.await(5, TimeUnit.SECONDS));
+        }
+
+        // then
+        final var actualReservation = reservationRepository.reservationOfId(aReservation.reservationId()).get();
+        Assertions.assertEquals(PENDING, actualReservation.status());
+        Assertions.assertEquals(1, actualReservation.attempts());
+    }
+
+    @Test
+    @DisplayName("Deve marcar o pedido como FAILED depois do número máximo de tentativas")
+    public void testFailAfterMaxAttempts() throws Exception {
+        // given
+        final var expectedError = "Reservation could not be processed after 1 attempts";
+        final var updated = new CountDownLatch(1);
+        final var reservationRepository = new InMemoryReservationRepository() {
+            @Override
+            public Reservation update(final Reservation reservation) {
+                final var result = super.update(reservation);
+                updated.countDown();
+                return result;
+            }
+        };
+        final var aReservation = reservationRepository.create(Reservation.newReservation(CustomerId.unique(), EventId.unique()));
+        final var meterRegistry = new SimpleMeterRegistry();
+
+        // when
+        try (var ignored = newWorkers(reservationRepository, failingUseCase(reservationRepository, new CountDownLatch(1)), 1, meterRegistry)) {
+            Assertions.assertTrue(updated.await(5, TimeUnit.SECONDS));
+        }
+
+        // then
+        final var actualReservation = reservationRepository.reservationOfId(aReservation.reservationId()).get();
+        Assertions.assertEquals(FAILED, actualReservation.status());
+        Assertions.assertEquals(expectedError, actualReservation.error());
+        Assertions.assertEquals(1.0, meterRegistry.counter("reservations.queue.processed", "result", "failed").count());
+    }
+
+    @Test
+    @DisplayName("Deve atender o pedido na lane do evento, junto com as demais reservas dele")
+    public void testProcessInsideReservationLane() throws Exception {
+        // given
+        final var processed = new CountDownLatch(1);
+        final var threadName = new AtomicReference<String>();
+        final var reservationRepository = new InMemoryReservationRepository();
+        reservationRepository.create(Reservation.newReservation(CustomerId.unique(), EventId.unique()));
+
+        final var useCase = new ProcessReservationUseCase(
+                reservationRepository,
+                new SubscribeCustomerToEventUseCase(new InMemoryCustomerRepository(), new InMemoryEventRepository())
+        ) {
+            @Override
+            public Output execute(final Input input) {
+                threadName.set(Thread.currentThread().getName());
+                processed.countDown();
+                return super.execute(input);
+            }
+        };
+
+        // when
+        try (var ignored = newWorkers(reservationRepository, useCase, 1)) {
+            Assertions.assertTrue(processed.await(5, TimeUnit.SECONDS));
+        }
+
+        // then
+        Assertions.assertTrue(threadName.get().startsWith("reservation-lane-"), threadName.get());
+    }
+
+    private static ProcessReservationUseCase failingUseCase(
+            final InMemoryReservationRepository reservationRepository,
+            final CountDownLatch processed
+    ) {
+        return new ProcessReservationUseCase(
+                reservationRepository,
+                new SubscribeCustomerToEventUseCase(new InMemoryCustomerRepository(), new InMemoryEventRepository())
+        ) {
+            @Override
+            public Output execute(final Input input) {
+                processed.countDown();
+                throw new IllegalStateException("Database unavailable");
+            }
+        };
+    }
+
+    private static ReservationQueueWorkers newWorkers(
+            final InMemoryReservationRepository reservationRepository,
+            final ProcessReservationUseCase useCase,
+            final int maxAttempts
+    ) {
+        return newWorkers(reservationRepository, useCase, maxAttempts, new SimpleMeterRegistry());
+    }
+
+    private static ReservationQueueWorkers newWorkers(
+            final InMemoryReservationRepository reservationRepository,
+            final ProcessReservationUseCase useCase,
+            final int maxAttempts,
+            final SimpleMeterRegistry meterRegistry
+    ) {
+        return new ReservationQueueWorkers(
+                reservationRepository,
+                useCase,
+                new ReservationLanes(1, TransactionOperations.withoutTransaction(), meterRegistry),
+                new ConflictRetry(1, Duration.ZERO, Duration.ZERO, meterRegistry),
+                1,
+                10,
+                maxAttempts,
+                Duration.ofMillis(10),
+                Duration.ofSeconds(1),
+                meterRegistry
+        );
+    }
+}
@@ -0,0 +1,56 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class ReservationStrategiesTest {
+
+    @Test
+    @DisplayName("Deve usar a estratégia configurada para o evento e a padrão para os demais")
+    public void testStrategyOfEvent() {
+        // given
+        final var aHotEventId = EventId.unique();
+        final var anEventId = EventId.unique();
+
+        final var strategies = ReservationStrategies.parse("counter", " %s = pessimistic ".formatted(aHotEventId.value().toUpperCase()));
+
+        // when
+        final var actualHotStrategy = strategies.strategyOf(aHotEventId);
+        final var actualStrategy = strategies.strategyOf(anEventId);
+
+        // then
+        Assertions.assertEquals(ReservationStrategy.PESSIMISTIC, actualHotStrategy);
+        Assertions.assertEquals(ReservationStrategy.COUNTER, actualStrategy);
+    }
+
+    @Test
+    @DisplayName("Não deve aceitar uma estratégia inválida")
+    public void testParseInvalidStrategy() {
+        // given
+        final var strategiesByEvent = EventId.unique().value() + "=fastest";
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalArgumentException.class, () -> ReservationStrategies.parse("counter", strategiesByEvent));
+
+        // then
+        Assertions.assertNotNull(actualException);
+    }
+
+    @Test
+    @DisplayName("Deve indicar se uma estratégia é usada como padrão ou por algum evento")
+    public void testUsesStrategy() {
+        // given
+        final var strategies = ReservationStrategies.parse("counter", EventId.unique().value() + "=leased");
+
+        // when
+        final var actualUsesLeased = strategies.uses(ReservationStrategy.LEASED);
+        final var actualUsesPessimistic = strategies.uses(ReservationStrategy.PESSIMISTIC);
+
+        // then
+        Assertions.assertTrue(actualUsesLeased);
+        Assertions.assertFalse(actualUsesPessimistic);
+        Assertions.assertTrue(ReservationStrategies.of(ReservationStrategy.COUNTER).uses(ReservationStrategy.COUNTER));
+    }
+}
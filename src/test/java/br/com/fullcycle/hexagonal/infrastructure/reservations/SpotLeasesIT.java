@@ -0,0 +1,126 @@
+package br.com.fullcycle.hexagonal.infrastructure.reservations;
+
+import br.com.fullcycle.hexagonal.IntegrationTest;
+import br.com.fullcycle.hexagonal.application.domain.customer.Customer;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventTicket;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
+import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
+import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
+import br.com.fullcycle.hexagonal.application.usecases.event.SubscribeCustomerToEventUseCase;
+import br.com.fullcycle.hexagonal.infrastructure.Main;
+import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.EventJpaRepository;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+
+// Sobe dois contextos da aplicação (dois "nós") apontando para o mesmo H2 do contexto de teste
+class SpotLeasesIT extends IntegrationTest {
+
+    @Autowired
+    private EventJpaRepository eventJpaRepository;
+
+    @Test
+    @DisplayName("Nós diferentes não devem vender mais vagas do que o evento possui")
+    public void testReserveTicketsFromLeasesOfManyNodes() {
+        // given
+        final var expectedTotalSpots = 20;
+        final var expectedError = "Event sold out";
+        final var customers = 30;
+
+        final var nodeA = startNode("node-a");
+        final var nodeB = startNode("node-b");
+
+        final Event anEvent;
+        final int actualReservations;
+
+        try {
+            final var aPartner = nodeA.getBean(PartnerRepository.class)
+                    .create(Partner.newPartner("Disney", "41.536.538/0001-00", "disney@gmail.com"));
+
+            anEvent = nodeA.getBean(EventRepository.class)
+                    .create(Event.newEvent("Disney on Ice", "2021-01-01", expectedTotalSpots, aPartner));
+
+            final var nodes = List.of(nodeA, nodeB);
+            final var executor = Executors.newFixedThreadPool(8);
+            final var results = new ArrayList<CompletableFuture<Boolean>>();
+
+            // when
+            try {
+                for (int i = 0; i < customers; i++) {
+                    final var node = nodes.get(i % nodes.size());
+                    final var aCustomer = node.getBean(CustomerRepository.class).create(Customer.newCustomer(
+                            "John Doe",
+                            "123.456.789-%02d".formatted(i),
+                            "john.doe%d@gmail.com".formatted(i)
+                    ));
+
+                    results.add(CompletableFuture.supplyAsync(() -> subscribe(node, aCustomer, anEvent, expectedError), executor));
+                }
+
+                actualReservations = (int) results.stream().map(CompletableFuture::join).filter(Boolean::booleanValue).count();
+            } finally {
+                executor.shutdown();
+            }
+
+            // then
+            final var actualTickets = nodeB.getBean(EventRepository.class).eventOfId(anEvent.eventId()).get().allTickets();
+            final var actualOrderings = actualTickets.stream().map(EventTicket::ordering).collect(Collectors.toSet());
+
+            Assertions.assertTrue(actualReservations > 0);
+            Assertions.assertTrue(actualReservations <= expectedTotalSpots);
+            Assertions.assertEquals(actualReservations, actualTickets.size());
+            Assertions.assertEquals(actualReservations, actualOrderings.size());
+        } finally {
+            nodeA.close();
+            nodeB.close();
+        }
+
+        // Ao desligar, os nós devolvem as vagas que não usaram
+        Assertions.assertEquals(actualReservations, eventJpaRepository.soldCountOf(UUID.fromString(anEvent.eventId().value())).get());
+    }
+
+    private static boolean subscribe(
+            final ConfigurableApplicationContext node,
+            final Customer aCustomer,
+            final Event anEvent,
+            final String expectedError
+    ) {
+        final var useCase = node.getBean(SubscribeCustomerToEventUseCase.class);
+        final var input = new SubscribeCustomerToEventUseCase.Input(aCustomer.customerId().value(), anEvent.eventId().value());
+
+        try {
+            node.getBean(ReservationLanes.class).execute(anEvent.eventId().value(), () -> useCase.execute(input));
+            return true;
+        } catch (ValidationException ex) {
+            Assertions.assertEquals(expectedError, ex.getMessage());
+            return false;
+        }
+    }
+
+    private static ConfigurableApplicationContext startNode(final String nodeId) {
+        return new SpringApplicationBuilder(Main.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                .properties(
+                        "reservations.strategy.default=leased",
+                        "reservations.lanes=4",
+                        "reservations.lease.node-id=" + nodeId,
+                        "reservations.lease.block-size=5"
+                )
+                .run();
+    }
+}
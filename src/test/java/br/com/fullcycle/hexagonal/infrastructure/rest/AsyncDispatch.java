@@ -0,0 +1,19 @@
+package br.com.fullcycle.hexagonal.infrastructure.rest;
+
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.RequestBuilder;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
+
+// Os endpoints que devolvem CompletableFuture respondem num segundo despacho; os síncronos já respondem no primeiro
+final class AsyncDispatch {
+
+    private AsyncDispatch() {
+    }
+
+    static ResultActions perform(final MockMvc mvc, final RequestBuilder request) throws Exception {
+        final var actions = mvc.perform(request);
+        final var result = actions.andReturn();
+        return result.getRequest().isAsyncStarted() ? mvc.perform(MockMvcRequestBuilders.asyncDispatch(result)) : actions;
+    }
+}
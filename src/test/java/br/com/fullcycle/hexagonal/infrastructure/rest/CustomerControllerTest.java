@@ -3,6 +3,7 @@ package br.com.fullcycle.hexagonal.infrastructure.rest;
 import br.com.fullcycle.hexagonal.application.usecases.customer.CreateCustomerUseCase;
 import br.com.fullcycle.hexagonal.application.usecases.customer.GetCustomerByIdUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewCustomerDTO;
+import br.com.fullcycle.hexagonal.infrastructure.idempotency.IdempotentRequests;
 import br.com.fullcycle.hexagonal.infrastructure.jpa.repositories.CustomerJpaRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Assertions;
@@ -18,6 +19,10 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import java.util.UUID;
+
+import static br.com.fullcycle.hexagonal.infrastructure.rest.AsyncDispatch.perform;
+
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
 @SpringBootTest
@@ -43,7 +48,7 @@ public class CustomerControllerTest {
 
         var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
 
-        final var result = this.mvc.perform(
+        final var result = perform(mvc,
                         MockMvcRequestBuilders.post("/customers")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(customer))
@@ -66,7 +71,7 @@ public class CustomerControllerTest {
         var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
 
         // Cria o primeiro cliente
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/customers")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(customer))
@@ -79,7 +84,7 @@ public class CustomerControllerTest {
         customer = new NewCustomerDTO("123.456.789-01", "john2@gmail.com", "John Doe");
 
         // Tenta criar o segundo cliente com o mesmo CPF
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/customers")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(customer))
@@ -95,7 +100,7 @@ public class CustomerControllerTest {
         var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
 
         // Cria o primeiro cliente
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/customers")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(customer))
@@ -108,7 +113,7 @@ public class CustomerControllerTest {
         customer = new NewCustomerDTO("999.999.189-01", "john.doe@gmail.com", "John Doe");
 
         // Tenta criar o segundo cliente com o mesmo CPF
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/customers")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(customer))
@@ -117,13 +122,44 @@ public class CustomerControllerTest {
                 .andExpect(MockMvcResultMatchers.content().string("Customer already exists"));
     }
 
+    @Test
+    @DisplayName("Deve devolver o mesmo cliente ao repetir o cadastro com a mesma Idempotency-Key")
+    public void testCreateWithSameIdempotencyKey() throws Exception {
+
+        var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
+        var idempotencyKey = UUID.randomUUID().toString();
+
+        final var first = perform(mvc,
+                        MockMvcRequestBuilders.post("/customers")
+                                .header(IdempotentRequests.KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(customer))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        // A retentativa não executa o cadastro de novo, então não esbarra no CPF já gravado
+        final var second = perform(mvc,
+                        MockMvcRequestBuilders.post("/customers")
+                                .header(IdempotentRequests.KEY_HEADER, idempotencyKey)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(customer))
+                )
+                .andExpect(MockMvcResultMatchers.status().isCreated())
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var expectedId = mapper.readValue(first, CreateCustomerUseCase.Outuput.class).id();
+        Assertions.assertEquals(expectedId, mapper.readValue(second, CreateCustomerUseCase.Outuput.class).id());
+        Assertions.assertEquals(1, customerRepository.count());
+    }
+
     @Test
     @DisplayName("Deve obter um cliente por id")
     public void testGet() throws Exception {
 
         var customer = new NewCustomerDTO("123.456.789-01", "john.doe@gmail.com", "John Doe");
 
-        final var createResult = this.mvc.perform(
+        final var createResult = perform(mvc,
                         MockMvcRequestBuilders.post("/customers")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(customer))
@@ -132,7 +168,7 @@ public class CustomerControllerTest {
 
         var customerId = mapper.readValue(createResult, CreateCustomerUseCase.Outuput.class).id();
 
-        final var result = this.mvc.perform(
+        final var result = perform(mvc,
                         MockMvcRequestBuilders.get("/customers/{id}", customerId)
                 )
                 .andExpect(MockMvcResultMatchers.status().isOk())
@@ -144,4 +180,57 @@ public class CustomerControllerTest {
         Assertions.assertEquals(customer.cpf(), actualResponse.cpf());
         Assertions.assertEquals(customer.email(), actualResponse.email());
     }
+
+    @Test
+    @DisplayName("Deve importar clientes de um CSV e relatar cada linha")
+    public void testImportCsv() throws Exception {
+
+        final var csv = """
+                name,cpf,email
+                John Doe,123.456.789-01,john.doe@gmail.com
+                "Doe, Mary",123.456.789-02,mary.doe@gmail.com
+                Peter Doe,123.456.789-01,peter.doe@gmail.com
+                Invalid Doe,123,invalid.doe@gmail.com
+                """;
+
+        final var result = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/customers/import")
+                                .contentType("text/csv")
+                                .content(csv)
+                )
+                .andExpect(MockMvcResultMatchers.status().isOk())
+                .andReturn().getResponse().getContentAsString();
+
+        final var lines = result.lines().map(it -> {
+            try {
+                return mapper.readTree(it);
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        }).toList();
+
+        Assertions.assertEquals(5, lines.size());
+        Assertions.assertEquals("created", lines.get(0).get("status").asText());
+        Assertions.assertEquals(3, lines.get(1).get("line").asInt());
+        Assertions.assertEquals("created", lines.get(1).get("status").asText());
+        Assertions.assertEquals("Customer duplicated in line 2", lines.get(2).get("error").asText());
+        Assertions.assertEquals("Invalid value for Cpf", lines.get(3).get("error").asText());
+        Assertions.assertEquals(2, lines.get(4).get("created").asInt());
+        Assertions.assertEquals(2, lines.get(4).get("rejected").asInt());
+
+        final var mary = customerRepository.findByCpf("123.456.789-02").orElseThrow();
+        Assertions.assertEquals("Doe, Mary", mary.getName());
+    }
+
+    @Test
+    @DisplayName("Deve recusar um CSV sem as colunas obrigatórias")
+    public void testImportCsvWithoutHeaderShouldFail() throws Exception {
+
+        this.mvc.perform(
+                        MockMvcRequestBuilders.post("/customers/import")
+                                .contentType("text/csv")
+                                .content("name,cpf\nJohn Doe,123.456.789-01\n")
+                )
+                .andExpect(MockMvcResultMatchers.status().isUnprocessableEntity());
+    }
 }
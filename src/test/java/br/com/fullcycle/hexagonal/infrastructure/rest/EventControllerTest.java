@@ -7,6 +7,8 @@ import br.com.fullcycle.hexagonal.application.repositories.CustomerRepository;
 import br.com.fullcycle.hexagonal.application.repositories.EventRepository;
 import br.com.fullcycle.hexagonal.application.repositories.PartnerRepository;
 import br.com.fullcycle.hexagonal.application.usecases.event.CreateEventUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.GetReservationByIdUseCase;
+import br.com.fullcycle.hexagonal.application.usecases.event.QueueSubscriptionUseCase;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.NewEventDTO;
 import br.com.fullcycle.hexagonal.infrastructure.dtos.SubscribeDTO;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -22,7 +24,8 @@ import org.springframework.test.context.ActiveProfiles;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
-import org.springframework.transaction.annotation.Transactional;
+
+import static br.com.fullcycle.hexagonal.infrastructure.rest.AsyncDispatch.perform;
 
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
@@ -63,7 +66,7 @@ class EventControllerTest {
 
         var event = new NewEventDTO("Disney on Ice", "2021-01-01", 100, disney.partnerId().value());
 
-        final var result = this.mvc.perform(
+        final var result = perform(mvc,
                         MockMvcRequestBuilders.post("/events")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(event))
@@ -79,13 +82,12 @@ class EventControllerTest {
     }
 
     @Test
-    @Transactional
     @DisplayName("Deve comprar um ticket de um evento")
     public void testReserveTicket() throws Exception {
 
         var event = new NewEventDTO("Disney on Ice", "2021-01-01", 100, disney.partnerId().value());
 
-        final var createResult = this.mvc.perform(
+        final var createResult = perform(mvc,
                         MockMvcRequestBuilders.post("/events")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(event))
@@ -98,7 +100,7 @@ class EventControllerTest {
 
         var sub = new SubscribeDTO(johnDoe.customerId().value(), null);
 
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/events/{id}/subscribe", eventId)
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(sub))
@@ -109,4 +111,53 @@ class EventControllerTest {
         var actualEvent = eventRepository.eventOfId(EventId.with(eventId)).get();
         Assertions.assertEquals(1, actualEvent.allTickets().size());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Deve aceitar uma inscrição assíncrona e confirmá-la depois pela fila")
+    public void testReserveTicketAsync() throws Exception {
+
+        var event = new NewEventDTO("Disney on Ice", "2021-01-01", 100, disney.partnerId().value());
+
+        final var createResult = perform(mvc,
+                        MockMvcRequestBuilders.post("/events")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(event))
+                )
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var eventId = mapper.readValue(createResult, CreateEventUseCase.Output.class).id();
+
+        var sub = new SubscribeDTO(johnDoe.customerId().value(), null);
+
+        final var acceptResult = this.mvc.perform(
+                        MockMvcRequestBuilders.post("/events/{id}/subscribe/async", eventId)
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(mapper.writeValueAsString(sub))
+                )
+                .andExpect(MockMvcResultMatchers.status().isAccepted())
+                .andExpect(MockMvcResultMatchers.header().exists("Location"))
+                .andExpect(MockMvcResultMatchers.jsonPath("$.status").value("PENDING"))
+                .andReturn().getResponse().getContentAsByteArray();
+
+        var reservationId = mapper.readValue(acceptResult, QueueSubscriptionUseCase.Output.class).id();
+
+        // Os workers da fila processam o pedido em segundo plano
+        GetReservationByIdUseCase.Output actualReservation = null;
+        final var deadline = System.currentTimeMillis() + 10_000;
+        while (System.currentTimeMillis() < deadline) {
+            final var result = this.mvc.perform(MockMvcRequestBuilders.get("/reservations/{id}", reservationId))
+                    .andExpect(MockMvcResultMatchers.status().isOk())
+                    .andReturn().getResponse().getContentAsByteArray();
+
+            actualReservation = mapper.readValue(result, GetReservationByIdUseCase.Output.class);
+            if (!"PENDING".equals(actualReservation.status())) {
+                break;
+            }
+            Thread.sleep(50);
+        }
+
+        Assertions.assertEquals("CONFIRMED", actualReservation.status());
+        Assertions.assertNotNull(actualReservation.ticketId());
+        Assertions.assertEquals(1, eventRepository.eventOfId(EventId.with(eventId)).get().allTickets().size());
+    }
+}
@@ -18,6 +18,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.request.MockMvcRequestBuilders;
 import org.springframework.test.web.servlet.result.MockMvcResultMatchers;
 
+import static br.com.fullcycle.hexagonal.infrastructure.rest.AsyncDispatch.perform;
+
 @ActiveProfiles("test")
 @AutoConfigureMockMvc
 @SpringBootTest
@@ -43,7 +45,7 @@ public class PartnerControllerTest {
 
         var partner = new NewPartnerDTO("41.536.538/0001-00", "john.doe@gmail.com", "John Doe");
 
-        final var result = this.mvc.perform(
+        final var result = perform(mvc,
                         MockMvcRequestBuilders.post("/partners")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(partner))
@@ -66,7 +68,7 @@ public class PartnerControllerTest {
         var partner = new NewPartnerDTO("41.536.538/0001-00", "john.doe@gmail.com", "John Doe");
 
         // Cria o primeiro parceiro
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/partners")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(partner))
@@ -79,7 +81,7 @@ public class PartnerControllerTest {
         partner = new NewPartnerDTO("41.536.538/0001-00", "john2@gmail.com", "John Doe");
 
         // Tenta criar o segundo parceiro com o mesmo CPF
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/partners")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(partner))
@@ -95,7 +97,7 @@ public class PartnerControllerTest {
         var partner = new NewPartnerDTO("41.536.538/0001-00", "john.doe@gmail.com", "John Doe");
 
         // Cria o primeiro parceiro
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/partners")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(partner))
@@ -108,7 +110,7 @@ public class PartnerControllerTest {
         partner = new NewPartnerDTO("66.666.538/0001-00", "john.doe@gmail.com", "John Doe");
 
         // Tenta criar o segundo parceiro com o mesmo CNPJ
-        this.mvc.perform(
+        perform(mvc,
                         MockMvcRequestBuilders.post("/partners")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(partner))
@@ -123,7 +125,7 @@ public class PartnerControllerTest {
 
         var partner = new NewPartnerDTO("41.536.538/0001-00", "john.doe@gmail.com", "John Doe");
 
-        final var createResult = this.mvc.perform(
+        final var createResult = perform(mvc,
                         MockMvcRequestBuilders.post("/partners")
                                 .contentType(MediaType.APPLICATION_JSON)
                                 .content(mapper.writeValueAsString(partner))
@@ -132,7 +134,7 @@ public class PartnerControllerTest {
 
         var partnerId = mapper.readValue(createResult, CreatePartnerUseCase.Output.class).id();
 
-        final var result = this.mvc.perform(
+        final var result = perform(mvc,
                         MockMvcRequestBuilders.get("/partners/{id}", partnerId)
                 )
                 .andExpect(MockMvcResultMatchers.status().isOk())
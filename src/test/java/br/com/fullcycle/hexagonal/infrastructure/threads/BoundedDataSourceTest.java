@@ -0,0 +1,145 @@
+package br.com.fullcycle.hexagonal.infrastructure.threads;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class BoundedDataSourceTest {
+
+    @Test
+    @DisplayName("Deve segurar novas conexões enquanto todas as permissões estiverem em uso")
+    public void testWaitForPermit() throws Exception {
+        // given
+        final var expectedPermits = 2;
+
+        final var opened = new AtomicInteger();
+        final var dataSource = new BoundedDataSource(fakeDataSource(opened), expectedPermits, Duration.ofSeconds(30));
+
+        final var first = dataSource.getConnection();
+        final var second = dataSource.getConnection();
+
+        // when
+        final var third = CompletableFuture.supplyAsync(() -> {
+            try {
+                return dataSource.getConnection();
+            } catch (Exception ex) {
+                throw new IllegalStateException(ex);
+            }
+        });
+
+        // then
+        Assertions.assertEquals(0, dataSource.availablePermits());
+        Assertions.assertThrows(TimeoutException.class, () -> third.get(100, TimeUnit.MILLISECONDS));
+
+        first.close();
+        third.get(1, TimeUnit.SECONDS).close();
+        second.close();
+
+        Assertions.assertEquals(3, opened.get());
+        Assertions.assertEquals(expectedPermits, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando a conexão for fechada")
+    public void testReleaseOnClose() throws Exception {
+        // given
+        final var expectedPermits = 1;
+        final var dataSource = new BoundedDataSource(fakeDataSource(new AtomicInteger()), expectedPermits, Duration.ofMillis(50));
+        final var connection = dataSource.getConnection();
+
+        // when
+        Assertions.assertEquals(0, dataSource.availablePermits());
+        connection.close();
+
+        // then
+        Assertions.assertEquals(expectedPermits, dataSource.availablePermits());
+        dataSource.getConnection().close();
+        Assertions.assertEquals(expectedPermits, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a permissão quando o DataSource de baixo falhar ao abrir a conexão")
+    public void testReleaseWhenConnectionFails() {
+        // given
+        final var expectedPermits = 1;
+        final var failing = (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    throw new SQLException("Connection refused");
+                }
+        );
+        final var dataSource = new BoundedDataSource(failing, expectedPermits, Duration.ofMillis(50));
+
+        // when
+        final var actualException = Assertions.assertThrows(SQLException.class, dataSource::getConnection);
+
+        // then
+        Assertions.assertEquals("Connection refused", actualException.getMessage());
+        Assertions.assertEquals(expectedPermits, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Fechar a mesma conexão mais de uma vez deve devolver a permissão apenas uma vez")
+    public void testReleaseOnce() throws Exception {
+        // given
+        final var expectedPermits = 1;
+        final var dataSource = new BoundedDataSource(fakeDataSource(new AtomicInteger()), expectedPermits, Duration.ofSeconds(30));
+
+        // when
+        final var connection = dataSource.getConnection();
+        connection.close();
+        connection.close();
+
+        // then
+        Assertions.assertEquals(expectedPermits, dataSource.availablePermits());
+    }
+
+    @Test
+    @DisplayName("Deve falhar com SQLTransientConnectionException quando a permissão não vier dentro do timeout")
+    public void testTimeoutWaitingForPermit() throws Exception {
+        // given
+        final var opened = new AtomicInteger();
+        final var dataSource = new BoundedDataSource(fakeDataSource(opened), 1, Duration.ofMillis(50));
+        final var connection = dataSource.getConnection();
+
+        // when
+        Assertions.assertThrows(SQLTransientConnectionException.class, dataSource::getConnection);
+
+        // then
+        connection.close();
+        Assertions.assertEquals(1, opened.get());
+        Assertions.assertEquals(1, dataSource.availablePermits());
+    }
+
+    private static DataSource fakeDataSource(final AtomicInteger opened) {
+        final var connection = (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> null
+        );
+
+        return (DataSource) Proxy.newProxyInstance(
+                DataSource.class.getClassLoader(),
+                new Class<?>[]{DataSource.class},
+                (proxy, method, args) -> {
+                    if ("getConnection".equals(method.getName())) {
+                        opened.incrementAndGet();
+                        return connection;
+                    }
+                    return null;
+                }
+        );
+    }
+}
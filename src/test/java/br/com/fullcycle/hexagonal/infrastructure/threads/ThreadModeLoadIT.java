@@ -0,0 +1,104 @@
+package br.com.fullcycle.hexagonal.infrastructure.threads;
+
+import br.com.fullcycle.hexagonal.infrastructure.Main;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+// Compara o modo de threads de plataforma com o de virtual threads abrindo 2.000 conexões simultâneas
+// contra a aplicação real. Habilite com THREAD_MODE_LOAD_TEST=true (o modo virtual exige JDK 21+).
+@EnabledIfEnvironmentVariable(named = "THREAD_MODE_LOAD_TEST", matches = "true")
+class ThreadModeLoadIT {
+
+    private static final int CONNECTIONS = 2_000;
+
+    @Test
+    @DisplayName("Deve medir vazão e p99 com threads de plataforma")
+    public void testPlatformThreads() throws Exception {
+        run(false);
+    }
+
+    @Test
+    @DisplayName("Deve medir vazão e p99 com virtual threads")
+    public void testVirtualThreads() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.available(), "Virtual threads require JDK 21 or newer");
+        run(true);
+    }
+
+    private static void run(final boolean virtualThreads) throws Exception {
+        final var context = new SpringApplicationBuilder(Main.class)
+                .profiles("test")
+                .properties(
+                        "server.port=0",
+                        "threads.virtual.enabled=" + virtualThreads,
+                        "server.tomcat.max-connections=" + (CONNECTIONS * 2)
+                )
+                .run();
+
+        final var executor = Executors.newFixedThreadPool(64);
+
+        try {
+            final var port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            final var client = HttpClient.newBuilder()
+                    .executor(executor)
+                    .connectTimeout(Duration.ofSeconds(30))
+                    .build();
+
+            // Cada requisição percorre controller, caso de uso e banco (busca de um cliente inexistente)
+            final var latencies = new long[CONNECTIONS];
+            final var requests = new ArrayList<CompletableFuture<Integer>>(CONNECTIONS);
+            final var start = System.nanoTime();
+
+            for (int i = 0; i < CONNECTIONS; i++) {
+                final var index = i;
+                final var request = HttpRequest.newBuilder(URI.create("http://localhost:%d/customers/%s".formatted(port, UUID.randomUUID())))
+                        .timeout(Duration.ofSeconds(60))
+                        .GET()
+                        .build();
+
+                final var submittedAt = System.nanoTime();
+                requests.add(client.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                        .thenApply(response -> {
+                            latencies[index] = System.nanoTime() - submittedAt;
+                            return response.statusCode();
+                        })
+                        .exceptionally(ex -> -1));
+            }
+
+            final var errors = requests.stream().map(CompletableFuture::join).filter(status -> status != 404).count();
+            final var elapsed = System.nanoTime() - start;
+
+            Arrays.sort(latencies);
+            System.out.printf(
+                    "%-8s | %,6d req | %,10.0f req/s | p99 %,8.1f ms | errors %d%n",
+                    virtualThreads ? "virtual" : "platform",
+                    CONNECTIONS,
+                    CONNECTIONS / (elapsed / 1e9),
+                    latencies[(int) Math.ceil(CONNECTIONS * 0.99) - 1] / 1e6,
+                    errors
+            );
+
+            Assertions.assertEquals(0, errors);
+        } finally {
+            executor.shutdown();
+            executor.awaitTermination(10, TimeUnit.SECONDS);
+            context.close();
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package br.com.fullcycle.hexagonal.infrastructure.threads;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Assumptions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+class VirtualThreadsTest {
+
+    @Test
+    @DisplayName("Deve falhar na hora com mensagem clara quando a JVM não tiver virtual threads")
+    public void testFailFastWithoutVirtualThreads() {
+        Assumptions.assumeFalse(VirtualThreads.available(), "JVM com virtual threads");
+
+        // when
+        final var actualException = Assertions.assertThrows(IllegalStateException.class,
+                () -> VirtualThreads.newExecutor("usecase-virtual-"));
+
+        // then
+        Assertions.assertEquals("Virtual threads require JDK 21 or newer", actualException.getMessage());
+    }
+
+    @Test
+    @DisplayName("Deve rodar cada tarefa numa virtual thread com o prefixo informado quando a JVM tiver suporte")
+    public void testNewExecutorWithVirtualThreads() throws Exception {
+        Assumptions.assumeTrue(VirtualThreads.available(), "JVM sem virtual threads");
+
+        // given
+        final var executor = VirtualThreads.newExecutor("usecase-virtual-");
+
+        // when
+        final var actualThread = executor.submit(Thread::currentThread).get(1, TimeUnit.SECONDS);
+        executor.shutdown();
+
+        // then
+        Assertions.assertTrue(actualThread.getName().startsWith("usecase-virtual-"));
+        Assertions.assertEquals(true, Thread.class.getMethod("isVirtual").invoke(actualThread));
+    }
+}
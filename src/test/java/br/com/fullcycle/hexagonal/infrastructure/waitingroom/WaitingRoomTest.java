@@ -0,0 +1,239 @@
+package br.com.fullcycle.hexagonal.infrastructure.waitingroom;
+
+import br.com.fullcycle.hexagonal.application.domain.customer.CustomerId;
+import br.com.fullcycle.hexagonal.application.domain.event.Event;
+import br.com.fullcycle.hexagonal.application.domain.event.EventId;
+import br.com.fullcycle.hexagonal.application.domain.partner.Partner;
+import br.com.fullcycle.hexagonal.application.exceptions.ValidationException;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventAsyncRepository;
+import br.com.fullcycle.hexagonal.application.repository.InMemoryEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+class WaitingRoomTest {
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2024-01-01T10:00:00Z"));
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final WaitingRoomTokens tokens = new WaitingRoomTokens("waiting-room-test-secret".getBytes(StandardCharsets.UTF_8));
+    private final InMemoryEventRepository eventRepository = new InMemoryEventRepository();
+    private final AtomicInteger eventLookups = new AtomicInteger();
+    private final String eventId = eventRepository.create(Event.newEvent("Disney on Ice", "2021-01-01", 10,
+            Partner.newPartner("John Doe", "41.536.538/0001-00", "john.doe@gmail.com"))).eventId().value();
+
+    @Test
+    @DisplayName("Deve espaçar as senhas de um evento pela vazão configurada")
+    public void testPacing() {
+        // given
+        final var waitingRoom = newWaitingRoom(2);
+
+        // when
+        final var first = waitingRoom.enter(eventId, CustomerId.unique().value()).join();
+        final var second = waitingRoom.enter(eventId, CustomerId.unique().value()).join();
+        final var third = waitingRoom.enter(eventId, CustomerId.unique().value()).join();
+
+        // then
+        Assertions.assertEquals(1, first.position());
+        Assertions.assertEquals(3, third.position());
+        Assertions.assertEquals(clock.instant(), first.admitAt());
+        Assertions.assertEquals(clock.instant().plusMillis(500), second.admitAt());
+        Assertions.assertEquals(clock.instant().plusSeconds(1), third.admitAt());
+        Assertions.assertEquals(2, third.ahead());
+        Assertions.assertEquals(3, meterRegistry.counter("waitingroom.tokens", "result", "issued").count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar com retryAfter quem chega antes da vez e liberar quando ela chegar")
+    public void testAdmitOnlyOnTurn() {
+        // given
+        final var waitingRoom = newWaitingRoom(1);
+        final var customerId = CustomerId.unique().value();
+        waitingRoom.enter(eventId, CustomerId.unique().value()).join();
+        final var ticket = waitingRoom.enter(eventId, customerId).join();
+
+        // when
+        final var actualException = Assertions.assertThrows(AdmissionDeniedException.class,
+                () -> waitingRoom.admit(ticket.token(), eventId, customerId));
+
+        // then
+        Assertions.assertTrue(actualException.isEarly());
+        Assertions.assertEquals(1, actualException.retryAfterSeconds());
+
+        clock.advance(Duration.ofSeconds(1));
+        waitingRoom.admit(ticket.token(), eventId, customerId);
+        Assertions.assertEquals(1, meterRegistry.counter("waitingroom.tokens", "result", "admitted").count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar senha ausente, adulterada, de outro cliente ou vencida")
+    public void testDenyInvalidTokens() {
+        // given
+        final var waitingRoom = newWaitingRoom(10);
+        final var customerId = CustomerId.unique().value();
+        final var ticket = waitingRoom.enter(eventId, customerId).join();
+        final var tampered = ticket.token().substring(0, ticket.token().length() - 2) + "xx";
+
+        // when
+        final var missing = Assertions.assertThrows(AdmissionDeniedException.class, () -> waitingRoom.admit(null, eventId, customerId));
+        final var invalid = Assertions.assertThrows(AdmissionDeniedException.class, () -> waitingRoom.admit(tampered, eventId, customerId));
+        final var mismatch = Assertions.assertThrows(AdmissionDeniedException.class,
+                () -> waitingRoom.admit(ticket.token(), eventId, CustomerId.unique().value()));
+
+        clock.advance(Duration.ofMinutes(6));
+        final var expired = Assertions.assertThrows(AdmissionDeniedException.class, () -> waitingRoom.admit(ticket.token(), eventId, customerId));
+
+        // then
+        Assertions.assertEquals("Waiting room token required", missing.getMessage());
+        Assertions.assertEquals("Invalid waiting room token", invalid.getMessage());
+        Assertions.assertEquals("Waiting room token does not match the subscription", mismatch.getMessage());
+        Assertions.assertEquals("Waiting room token expired", expired.getMessage());
+        Assertions.assertFalse(expired.isEarly());
+        Assertions.assertEquals(4, meterRegistry.counter("waitingroom.tokens", "result", "denied").count());
+    }
+
+    @Test
+    @DisplayName("Não deve abrir fila para evento inexistente")
+    public void testEnterUnknownEvent() {
+        // given
+        final var waitingRoom = newWaitingRoom(10);
+
+        // when
+        final var actualException = Assertions.assertThrows(CompletionException.class,
+                () -> waitingRoom.enter(EventId.unique().value(), CustomerId.unique().value()).join());
+
+        // then
+        Assertions.assertInstanceOf(ValidationException.class, actualException.getCause());
+        Assertions.assertEquals("Event not found", actualException.getCause().getMessage());
+        Assertions.assertEquals(0, meterRegistry.counter("waitingroom.tokens", "result", "issued").count());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a mesma senha para o cliente que entra de novo na fila e conferir o evento uma vez só")
+    public void testEnterTwiceReturnsSameTicket() {
+        // given
+        final var waitingRoom = newWaitingRoom(1);
+        final var customerId = CustomerId.unique().value();
+
+        // when
+        final var first = waitingRoom.enter(eventId, customerId).join();
+        final var again = waitingRoom.enter(eventId, customerId).join();
+        final var other = waitingRoom.enter(eventId, CustomerId.unique().value()).join();
+
+        // then
+        Assertions.assertEquals(first.token(), again.token());
+        Assertions.assertEquals(1, again.position());
+        Assertions.assertEquals(2, other.position());
+        Assertions.assertEquals(1, eventLookups.get());
+        Assertions.assertEquals(2, meterRegistry.counter("waitingroom.tokens", "result", "issued").count());
+    }
+
+    @Test
+    @DisplayName("Deve recusar a senha já usada e dar uma nova senha a quem entra de novo depois de usá-la")
+    public void testTokenIsSingleUse() {
+        // given
+        final var waitingRoom = newWaitingRoom(10);
+        final var customerId = CustomerId.unique().value();
+        final var ticket = waitingRoom.enter(eventId, customerId).join();
+        waitingRoom.admit(ticket.token(), eventId, customerId);
+
+        // when
+        final var actualException = Assertions.assertThrows(AdmissionDeniedException.class,
+                () -> waitingRoom.admit(ticket.token(), eventId, customerId));
+        final var next = waitingRoom.enter(eventId, customerId).join();
+
+        // then
+        Assertions.assertEquals("Waiting room token already used", actualException.getMessage());
+        Assertions.assertNotEquals(ticket.token(), next.token());
+        Assertions.assertEquals(2, next.position());
+        Assertions.assertEquals(1, meterRegistry.counter("waitingroom.tokens", "result", "denied").count());
+    }
+
+    @Test
+    @DisplayName("Deve devolver a senha quando a inscrição liberada por ela falhar")
+    public void testReleaseTokenOnFailure() {
+        // given
+        final var waitingRoom = newWaitingRoom(10);
+        final var customerId = CustomerId.unique().value();
+        final var ticket = waitingRoom.enter(eventId, customerId).join();
+
+        // when
+        final var failed = waitingRoom.admitAsync(ticket.token(), eventId, customerId,
+                () -> CompletableFuture.failedFuture(new IllegalStateException("Event is busy")));
+        final var output = waitingRoom.admitAsync(ticket.token(), eventId, customerId,
+                () -> CompletableFuture.completedFuture("subscribed"));
+
+        // then
+        Assertions.assertTrue(failed.isCompletedExceptionally());
+        Assertions.assertEquals("subscribed", output.join());
+        Assertions.assertThrows(AdmissionDeniedException.class, () -> waitingRoom.admit(ticket.token(), eventId, customerId));
+    }
+
+    @Test
+    @DisplayName("Deve descartar a fila ociosa e conferir o evento de novo na próxima entrada")
+    public void testEvictIdleLine() {
+        // given
+        final var waitingRoom = newWaitingRoom(10);
+        final var first = waitingRoom.enter(eventId, CustomerId.unique().value()).join();
+
+        // when
+        clock.advance(Duration.ofMinutes(6));
+        final var second = waitingRoom.enter(eventId, CustomerId.unique().value()).join();
+
+        // then
+        Assertions.assertEquals(1, first.position());
+        Assertions.assertEquals(1, second.position());
+        Assertions.assertEquals(2, eventLookups.get());
+    }
+
+    private WaitingRoom newWaitingRoom(final double rate) {
+        final var events = new InMemoryEventAsyncRepository(eventRepository) {
+            @Override
+            public CompletableFuture<Optional<Event>> eventOfId(final EventId anId) {
+                eventLookups.incrementAndGet();
+                return super.eventOfId(anId);
+            }
+        };
+        return new WaitingRoom(true, tokens, events, 50, Map.of(eventId, rate), Duration.ofMinutes(5), clock, meterRegistry);
+    }
+
+    private static final class MutableClock extends Clock {
+
+        private Instant now;
+
+        private MutableClock(final Instant now) {
+            this.now = now;
+        }
+
+        private void advance(final Duration duration) {
+            this.now = this.now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(final ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
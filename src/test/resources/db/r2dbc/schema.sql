@@ -0,0 +1,39 @@
+create table if not exists customers (
+    id uuid not null primary key,
+    name varchar(255),
+    cpf varchar(255),
+    email varchar(255),
+    constraint uk_customers_cpf unique (cpf),
+    constraint uk_customers_email unique (email)
+);
+
+create table if not exists partners (
+    id uuid not null primary key,
+    name varchar(255),
+    cnpj varchar(255),
+    email varchar(255),
+    constraint uk_partners_cnpj unique (cnpj),
+    constraint uk_partners_email unique (email)
+);
+
+create table if not exists events (
+    id uuid not null primary key,
+    name varchar(255),
+    date date,
+    total_spots integer not null,
+    partner_id uuid,
+    sold_count integer not null,
+    version bigint not null
+);
+
+create table if not exists tickets (
+    id uuid not null primary key,
+    customer_id uuid,
+    event_id uuid,
+    status varchar(255),
+    paid_at timestamp(6) with time zone,
+    reserved_at timestamp(6) with time zone,
+    ordering integer,
+    constraint uk_events_tickets_event_ordering unique (event_id, ordering),
+    constraint uk_tickets_event_customer unique (event_id, customer_id)
+);